@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.3.4"
 	id("io.spring.dependency-management") version "1.1.6"
+	id("me.champeau.jmh") version "0.7.2"
 	jacoco
 }
 
@@ -16,6 +17,14 @@ repositories {
 	mavenCentral()
 }
 
+val loadTest: SourceSet by sourceSets.creating {
+	compileClasspath += sourceSets.main.get().output
+	runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
 dependencies {
 	val REST_ASSURED = "5.5.0"
 
@@ -23,13 +32,19 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-web")
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
 	implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.6.0")
 	implementation("org.javamoney:moneta:1.4.4")
+	implementation("com.github.ben-manes.caffeine:caffeine")
 	implementation("com.h2database:h2:2.3.232")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 
 	compileOnly("org.projectlombok:lombok:1.18.34")
 	annotationProcessor("org.projectlombok:lombok:1.18.34")
 
+	// Load test dependencies
+	"loadTestImplementation"("org.hdrhistogram:HdrHistogram:2.2.2")
+
 	// Test dependencies
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
@@ -48,7 +63,55 @@ jacoco {
 	toolVersion = "0.8.12"
 }
 
+// Benchmarks live in src/jmh/java, run them with ./gradlew jmh (-PjmhIncludes=<regex> to run a subset)
+jmh {
+	jmhVersion.set("1.37")
+	fork.set(1)
+	warmupIterations.set(3)
+	iterations.set(5)
+	resultFormat.set("JSON")
+	resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+	(findProperty("jmhIncludes") as String?)?.let { includes.set(listOf(it)) }
+}
+
+// Fast-startup profile, enabled with -PfastStartup: the jar carries the bean definitions generated ahead of time
+// by Spring AOT, and a training run records the classes loaded during startup into an AppCDS archive.
+// Properties deciding @Conditional beans are fixed at build time, pass them as -Pproduct-service.<name>=<value>.
+val fastStartup = hasProperty("fastStartup")
+val fastStartupDir = layout.buildDirectory.dir("fast-startup")
+val fastStartupJar = fastStartupDir.map { it.file(tasks.bootJar.get().archiveFileName.get()) }
+val cdsArchive = fastStartupDir.map { it.file("application.jsa") }
+val serviceProperties = project.properties.filterKeys { it.startsWith("product-service.") }
+
+fun javaExecutable(): String =
+	javaToolchains.launcherFor(java.toolchain).get().executablePath.asFile.absolutePath
+
 tasks.apply {
+	// Boots the service locally and drives /prices, settings are passed as -PloadTest.<name>=<value>
+	// and service properties as -Pproduct-service.<name>=<value>
+	register<JavaExec>("loadTest") {
+		group = "verification"
+		description = "Runs the HTTP load test against a locally started service."
+		classpath = loadTest.runtimeClasspath
+		mainClass.set("com.challenge.productservice.loadtest.PriceLoadTest")
+		project.properties
+			.filterKeys { it.startsWith("loadTest.") || it.startsWith("product-service.") }
+			.forEach { (name, value) -> systemProperty(name, value.toString()) }
+	}
+
+	// Starts the plain jar and the fast-startup jar several times and compares their time to the first /prices
+	// response and resident memory, settings are passed as -Pstartup.<name>=<value>
+	register<JavaExec>("startupBenchmark") {
+		group = "verification"
+		description = "Compares the startup of the plain jar with the AOT and CDS jar, requires -PfastStartup."
+		classpath = loadTest.runtimeClasspath
+		mainClass.set("com.challenge.productservice.loadtest.StartupBenchmark")
+		project.properties
+			.filterKeys { it.startsWith("startup.") || it.startsWith("product-service.") }
+			.forEach { (name, value) -> systemProperty(name, value.toString()) }
+		onlyIf("the fast-startup profile is enabled with -PfastStartup") { fastStartup }
+	}
+
 	test {
 		useJUnitPlatform()
 		finalizedBy(jacocoTestReport)
@@ -84,3 +147,50 @@ tasks.apply {
 		dependsOn(test)
 	}
 }
+
+if (fastStartup) {
+	apply(plugin = "org.springframework.boot.aot")
+
+	tasks.named<JavaExec>("processAot") {
+		serviceProperties.forEach { (name, value) -> systemProperty(name, value.toString()) }
+	}
+
+	val extractFastStartupJar by tasks.registering(Exec::class) {
+		group = "build"
+		description = "Extracts the AOT processed jar into a layout suitable for a CDS archive."
+		dependsOn(tasks.bootJar)
+		outputs.dir(fastStartupDir)
+		doFirst { delete(fastStartupDir) }
+		commandLine(
+			javaExecutable(),
+			"-Djarmode=tools",
+			"-jar", tasks.bootJar.get().archiveFile.get().asFile.absolutePath,
+			"extract",
+			"--destination", fastStartupDir.get().asFile.absolutePath
+		)
+	}
+
+	tasks.register<Exec>("trainCdsArchive") {
+		group = "build"
+		description = "Starts the extracted jar until the context is refreshed and records its classes in a CDS archive."
+		dependsOn(extractFastStartupJar)
+		outputs.file(cdsArchive)
+		commandLine(
+			listOf(
+				javaExecutable(),
+				"-XX:ArchiveClassesAtExit=" + cdsArchive.get().asFile.absolutePath,
+				"-Dspring.aot.enabled=true",
+				"-Dspring.context.exit=onRefresh",
+				"-jar", fastStartupJar.get().asFile.absolutePath,
+				"--server.port=0"
+			) + serviceProperties.map { (name, value) -> "--$name=$value" }
+		)
+	}
+
+	tasks.named<JavaExec>("startupBenchmark") {
+		dependsOn("trainCdsArchive")
+		systemProperty("startup.plainJar", tasks.bootJar.get().archiveFile.get().asFile.absolutePath)
+		systemProperty("startup.fastJar", fastStartupJar.get().asFile.absolutePath)
+		systemProperty("startup.cdsArchive", cdsArchive.get().asFile.absolutePath)
+	}
+}
@@ -0,0 +1,83 @@
+package com.challenge.productservice.benchmark;
+
+import com.challenge.productservice.application.getproductprice.GetProductPriceRequest;
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse;
+import com.challenge.productservice.application.getproductprice.GetProductPriceUseCase;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceLookup;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.infrastructure.inmemory.InMemoryProductPriceRepository;
+import com.challenge.productservice.infrastructure.offheap.OffHeapProductPriceRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lookup hot path without the database, on catalogs of several sizes and overlap densities.
+ * The candidates variant resolves the winner among every valid price the way the use case used to,
+ * to compare it with the precomputed timeline the use case relies on now. Both the heap and the off-heap
+ * repositories are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GetProductPriceUseCaseBenchmark {
+    private static final int LOOKUPS = 1 << 12;
+
+    @Param({"1000", "100000"})
+    int keys;
+
+    @Param({"1", "8", "32"})
+    int overlapDensity;
+
+    @Param({"in-memory", "off-heap"})
+    String repositoryType;
+
+    private ProductPriceRepository repository;
+    private GetProductPriceUseCase useCase;
+    private GetProductPriceRequest[] requests;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        PriceCatalogGenerator generator = new PriceCatalogGenerator();
+        List<ProductPrice> catalog = generator.catalog(keys, overlapDensity);
+        repository = switch (repositoryType) {
+            case "in-memory" -> InMemoryProductPriceRepository.of(catalog);
+            case "off-heap" -> OffHeapProductPriceRepository.of(catalog);
+            default -> throw new IllegalArgumentException("Unknown repository type " + repositoryType);
+        };
+        useCase = new GetProductPriceUseCase(repository);
+
+        List<ProductPriceLookup> lookups = generator.lookups(keys, LOOKUPS);
+        requests = lookups.stream()
+                .map(lookup -> new GetProductPriceRequest(lookup.productId(), lookup.brandId(), lookup.validAt()))
+                .toArray(GetProductPriceRequest[]::new);
+    }
+
+    @Benchmark
+    public GetProductPriceResponse execute() {
+        return useCase.execute(nextRequest());
+    }
+
+    @Benchmark
+    public ProductPrice resolveAmongCandidates() {
+        GetProductPriceRequest request = nextRequest();
+        return repository.getProductPrices(request.productId(), request.brandId(), request.validAt()).stream()
+                .max(ProductPrice.PRECEDENCE)
+                .orElse(null);
+    }
+
+    private GetProductPriceRequest nextRequest() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return requests[next];
+    }
+}
@@ -0,0 +1,75 @@
+package com.challenge.productservice.benchmark;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceLookup;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Builds synthetic catalogs for the benchmarks. Every product and brand gets one base price covering the whole
+ * year plus overlapping promotions of higher priority, so overlapDensity is the number of prices stacked per key.
+ * The generator is seeded so every run of a benchmark measures the same catalog.
+ */
+final class PriceCatalogGenerator {
+    static final LocalDateTime YEAR_START = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final int BRANDS = 4;
+    private static final CurrencyUnit EUR = Monetary.getCurrency("EUR");
+
+    private final Random random = new Random(42);
+
+    List<ProductPrice> catalog(int keys, int overlapDensity) {
+        List<ProductPrice> productPrices = new ArrayList<>(keys * overlapDensity);
+        for (int key = 0; key < keys; key++) {
+            ProductId productId = new ProductId(key / BRANDS);
+            BrandId brandId = new BrandId(key % BRANDS);
+            productPrices.add(price(productId, brandId, YEAR_START, YEAR_START.plusYears(1).minusSeconds(1), 1, 0));
+            for (int promotion = 1; promotion < overlapDensity; promotion++) {
+                LocalDateTime start = YEAR_START.plusMinutes(random.nextInt(365 * 24 * 60));
+                LocalDateTime end = start.plusHours(1 + random.nextInt(24 * 30));
+                productPrices.add(price(productId, brandId, start, end, promotion + 1, 1 + random.nextInt(overlapDensity)));
+            }
+        }
+        return productPrices;
+    }
+
+    List<ProductPriceLookup> lookups(int keys, int count) {
+        List<ProductPriceLookup> lookups = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int key = random.nextInt(keys);
+            lookups.add(new ProductPriceLookup(
+                    new ProductId(key / BRANDS),
+                    new BrandId(key % BRANDS),
+                    YEAR_START.plusSeconds(random.nextInt(365 * 24 * 60 * 60))
+            ));
+        }
+        return lookups;
+    }
+
+    private ProductPrice price(
+            ProductId productId,
+            BrandId brandId,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            int priceList,
+            int priority
+    ) {
+        return new ProductPrice(
+                brandId,
+                startDate,
+                endDate,
+                priceList,
+                productId,
+                priority,
+                BigDecimal.valueOf(1_000 + random.nextInt(100_000), 2),
+                EUR
+        );
+    }
+}
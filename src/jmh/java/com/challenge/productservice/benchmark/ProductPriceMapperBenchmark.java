@@ -0,0 +1,43 @@
+package com.challenge.productservice.benchmark;
+
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.database.entity.ProductPriceEntity;
+import com.challenge.productservice.infrastructure.database.mapper.ProductPriceMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductPriceMapperBenchmark {
+    private final ProductPriceMapper mapper = new ProductPriceMapper();
+    private ProductPriceEntity entity;
+
+    @Setup
+    public void setUp() {
+        ProductPrice productPrice = new PriceCatalogGenerator().catalog(1, 1).get(0);
+        entity = new ProductPriceEntity();
+        entity.setId(UUID.randomUUID());
+        entity.setBrandId(productPrice.brandId().value());
+        entity.setStartDate(productPrice.startDate());
+        entity.setEndDate(productPrice.endDate());
+        entity.setPriceList(productPrice.priceList());
+        entity.setProductId(productPrice.productId().value());
+        entity.setPriority(productPrice.priority());
+        entity.setPrice(productPrice.price());
+        entity.setCurrency(productPrice.currency().getCurrencyCode());
+    }
+
+    @Benchmark
+    public ProductPrice toDomain() {
+        return mapper.toDomain(entity);
+    }
+}
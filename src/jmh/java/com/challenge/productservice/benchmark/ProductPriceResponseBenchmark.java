@@ -0,0 +1,95 @@
+package com.challenge.productservice.benchmark;
+
+import com.challenge.productservice.application.getproductprice.GetProductPriceRequest;
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse;
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse.Successful;
+import com.challenge.productservice.application.getproductprice.GetProductPriceUseCase;
+import com.challenge.productservice.application.getproductprices.GetProductPricesUseCase;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.config.ObjectMapperConfig;
+import com.challenge.productservice.infrastructure.entrypoint.rest.BrandRoutes;
+import com.challenge.productservice.infrastructure.entrypoint.rest.ProductPriceCachePolicy;
+import com.challenge.productservice.infrastructure.entrypoint.rest.ProductPriceController;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.ProductPriceResponse;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.ProductPriceResponseCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what the REST edge adds on top of the use case: building the response in the controller, which writes
+ * the cached JSON bytes of the price, against mapping and serializing the response with the application ObjectMapper
+ * on every call. The use case is stubbed to return a fixed price.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductPriceResponseBenchmark {
+    private final ObjectMapper objectMapper = new ObjectMapperConfig().objectMapper();
+    private ProductPriceController controller;
+    private ProductPrice productPrice;
+    private WebRequest webRequest;
+
+    @Setup
+    public void setUp() {
+        productPrice = new PriceCatalogGenerator().catalog(1, 1).get(0);
+        GetProductPriceUseCase useCase = new GetProductPriceUseCase(null) {
+            @Override
+            public GetProductPriceResponse execute(GetProductPriceRequest request) {
+                return new Successful(productPrice);
+            }
+        };
+        controller = new ProductPriceController(
+                useCase,
+                new GetProductPricesUseCase(null),
+                new ProductPriceResponseCache(objectMapper, 1),
+                new ProductPriceCachePolicy(Duration.ofHours(1)),
+                BrandRoutes.all()
+        );
+        webRequest = new ServletWebRequest(unconditionalGet());
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> buildResponse() {
+        return controller.getProductPrice(
+                productPrice.productId().value(),
+                productPrice.brandId().value(),
+                PriceCatalogGenerator.YEAR_START.plusDays(10),
+                webRequest
+        );
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ProductPriceResponse.from(productPrice));
+    }
+
+    // A GET without conditional headers, answering only what the ETag check reads
+    private static HttpServletRequest unconditionalGet() {
+        return (HttpServletRequest) Proxy.newProxyInstance(
+                HttpServletRequest.class.getClassLoader(),
+                new Class<?>[]{HttpServletRequest.class},
+                (proxy, method, arguments) -> switch (method.getName()) {
+                    case "getMethod" -> "GET";
+                    case "getHeaders" -> Collections.emptyEnumeration();
+                    case "getDateHeader" -> -1L;
+                    default -> null;
+                }
+        );
+    }
+}
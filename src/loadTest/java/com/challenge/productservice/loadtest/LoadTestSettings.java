@@ -0,0 +1,38 @@
+package com.challenge.productservice.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Load test settings, read from system properties prefixed with loadTest.
+ * The request mix is given as relative weights of hits, not found lookups and bad requests.
+ */
+record LoadTestSettings(
+        int requestsPerSecond,
+        Duration warmup,
+        Duration duration,
+        int hitWeight,
+        int notFoundWeight,
+        int badRequestWeight,
+        Duration requestTimeout
+) {
+    static LoadTestSettings fromSystemProperties() {
+        String[] mix = System.getProperty("loadTest.mix", "80,15,5").split(",");
+        if (mix.length != 3) {
+            throw new IllegalArgumentException("loadTest.mix must be three weights: hits,notFound,badRequests");
+        }
+
+        return new LoadTestSettings(
+                Integer.getInteger("loadTest.rate", 1_000),
+                Duration.parse(System.getProperty("loadTest.warmup", "PT10S")),
+                Duration.parse(System.getProperty("loadTest.duration", "PT30S")),
+                Integer.parseInt(mix[0].trim()),
+                Integer.parseInt(mix[1].trim()),
+                Integer.parseInt(mix[2].trim()),
+                Duration.parse(System.getProperty("loadTest.timeout", "PT5S"))
+        );
+    }
+
+    int totalWeight() {
+        return hitWeight + notFoundWeight + badRequestWeight;
+    }
+}
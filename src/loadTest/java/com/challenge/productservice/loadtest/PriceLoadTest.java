@@ -0,0 +1,174 @@
+package com.challenge.productservice.loadtest;
+
+import com.challenge.productservice.ProductServiceApplication;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Boots the whole service on a random local port and drives GET /prices with an open model: requests are
+ * sent at a fixed rate whether or not earlier ones have completed, and latency is measured from the time each
+ * request was due, so a stalled server shows up in the percentiles instead of slowing the load down.
+ * <p>
+ * Run it with ./gradlew loadTest, settings are described in {@link LoadTestSettings}.
+ */
+public class PriceLoadTest {
+    private static final long HIGHEST_TRACKABLE_LATENCY = TimeUnit.MINUTES.toNanos(1);
+    private static final Path REPORTS = Path.of("build", "reports", "loadtest");
+
+    private final LoadTestSettings settings;
+    private final HttpClient client;
+    private final URI baseUri;
+    private final Map<RequestType, Recorder> recorders = new EnumMap<>(RequestType.class);
+    private final AtomicLong unexpectedStatuses = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong inFlight = new AtomicLong();
+
+    PriceLoadTest(LoadTestSettings settings, int port) {
+        this.settings = settings;
+        this.baseUri = URI.create("http://localhost:" + port + "/prices?");
+        this.client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(settings.requestTimeout())
+                .build();
+        for (RequestType type : RequestType.values()) {
+            recorders.put(type, new Recorder(HIGHEST_TRACKABLE_LATENCY, 3));
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ProductServiceApplication.class)
+                .properties("server.port=0", "spring.jpa.show-sql=false")
+                .run(args)) {
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            PriceLoadTest loadTest = new PriceLoadTest(settings, port);
+
+            System.out.printf("Warming up for %s at %d req/s%n", settings.warmup(), settings.requestsPerSecond());
+            loadTest.run(settings.warmup().toNanos());
+            loadTest.reset();
+
+            System.out.printf("Measuring for %s at %d req/s%n", settings.duration(), settings.requestsPerSecond());
+            long started = System.nanoTime();
+            loadTest.run(settings.duration().toNanos());
+            long elapsed = System.nanoTime() - started;
+
+            loadTest.report(elapsed, System.out);
+        }
+    }
+
+    private void run(long durationNanos) {
+        long interval = TimeUnit.SECONDS.toNanos(1) / settings.requestsPerSecond();
+        long start = System.nanoTime();
+        long requests = durationNanos / interval;
+
+        for (long i = 0; i < requests; i++) {
+            long due = start + i * interval;
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            send(pickType(), due);
+        }
+
+        while (inFlight.get() > 0) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    private void send(RequestType type, long due) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUri + type.query(ThreadLocalRandom.current())))
+                .timeout(settings.requestTimeout())
+                .GET()
+                .build();
+
+        inFlight.incrementAndGet();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((result, error) -> {
+                    inFlight.decrementAndGet();
+                    recorders.get(type).recordValue(Math.min(System.nanoTime() - due, HIGHEST_TRACKABLE_LATENCY));
+                    if (error != null) {
+                        failures.incrementAndGet();
+                    } else if (result.statusCode() != type.expectedStatus()) {
+                        unexpectedStatuses.incrementAndGet();
+                    }
+                });
+    }
+
+    private RequestType pickType() {
+        int roll = ThreadLocalRandom.current().nextInt(settings.totalWeight());
+        if (roll < settings.hitWeight()) {
+            return RequestType.HIT;
+        }
+        if (roll < settings.hitWeight() + settings.notFoundWeight()) {
+            return RequestType.NOT_FOUND;
+        }
+        return RequestType.BAD_REQUEST;
+    }
+
+    private void reset() {
+        recorders.values().forEach(Recorder::reset);
+        unexpectedStatuses.set(0);
+        failures.set(0);
+    }
+
+    private void report(long elapsedNanos, PrintStream out) throws IOException {
+        Files.createDirectories(REPORTS);
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_LATENCY, 3);
+        double seconds = elapsedNanos / 1e9;
+
+        out.printf("%-12s %10s %10s %10s %10s %10s %10s%n", "type", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        for (Map.Entry<RequestType, Recorder> entry : recorders.entrySet()) {
+            Histogram histogram = entry.getValue().getIntervalHistogram();
+            total.add(histogram);
+            printRow(out, entry.getKey().name(), histogram, seconds);
+            writePercentiles(entry.getKey().name().toLowerCase(), histogram);
+        }
+        printRow(out, "ALL", total, seconds);
+        writePercentiles("all", total);
+
+        out.printf("Unexpected statuses: %d, failed requests: %d%n", unexpectedStatuses.get(), failures.get());
+        out.printf("Percentile distributions written to %s%n", REPORTS.toAbsolutePath());
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram, double seconds) {
+        out.printf(
+                "%-12s %10d %10.1f %10.3f %10.3f %10.3f %10.3f%n",
+                name,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue())
+        );
+    }
+
+    private static void writePercentiles(String name, Histogram histogram) throws IOException {
+        try (PrintStream file = new PrintStream(Files.newOutputStream(REPORTS.resolve(name + ".hgrm")))) {
+            histogram.outputPercentileDistribution(file, 1_000_000.0);
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,48 @@
+package com.challenge.productservice.loadtest;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Kinds of requests in the load test mix, with the status each one must answer with.
+ * Hits use the product and brand loaded from data.sql.
+ */
+enum RequestType {
+    HIT(200) {
+        @Override
+        String query(ThreadLocalRandom random) {
+            LocalDateTime validAt = CATALOG_START.plusSeconds(random.nextLong(CATALOG_SECONDS));
+            return "productId=35455&brandId=1&validAt=" + validAt;
+        }
+    },
+    NOT_FOUND(404) {
+        @Override
+        String query(ThreadLocalRandom random) {
+            LocalDateTime validAt = CATALOG_START.plusSeconds(random.nextLong(CATALOG_SECONDS));
+            return "productId=" + random.nextLong(1_000_000, 2_000_000) + "&brandId=1&validAt=" + validAt;
+        }
+    },
+    BAD_REQUEST(400) {
+        @Override
+        String query(ThreadLocalRandom random) {
+            return random.nextBoolean()
+                    ? "productId=35455&brandId=1&validAt=2020/06/14"
+                    : "productId=35455&validAt=2020-06-14T10:00:00";
+        }
+    };
+
+    private static final LocalDateTime CATALOG_START = LocalDateTime.of(2020, 6, 14, 0, 0);
+    private static final long CATALOG_SECONDS = 200L * 24 * 60 * 60;
+
+    private final int expectedStatus;
+
+    RequestType(int expectedStatus) {
+        this.expectedStatus = expectedStatus;
+    }
+
+    abstract String query(ThreadLocalRandom random);
+
+    int expectedStatus() {
+        return expectedStatus;
+    }
+}
@@ -0,0 +1,153 @@
+package com.challenge.productservice.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+/**
+ * Starts the service several times as the plain jar and as the fast-startup jar, running with its AOT generated
+ * initialization and CDS archive. Each start is timed from process launch to the first 200 answered by GET /prices,
+ * and the resident memory of the process is read at that moment.
+ * <p>
+ * Run it with ./gradlew startupBenchmark -PfastStartup, settings are described in {@link StartupBenchmarkSettings}.
+ */
+public class StartupBenchmark {
+    private static final Path REPORTS = Path.of("build", "reports", "startup");
+    private static final String PRICE_QUERY = "/prices?productId=35455&brandId=1&validAt=2020-06-14T10:00:00";
+
+    private final StartupBenchmarkSettings settings;
+    private final String java = ProcessHandle.current().info().command().orElse("java");
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    StartupBenchmark(StartupBenchmarkSettings settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) throws Exception {
+        StartupBenchmark benchmark = new StartupBenchmark(StartupBenchmarkSettings.fromSystemProperties());
+        Files.createDirectories(REPORTS);
+
+        List<Start> plain = benchmark.measure("plain", List.of("-jar", benchmark.settings.plainJar().toString()));
+        List<Start> fast = benchmark.measure("fast", List.of(
+                "-XX:SharedArchiveFile=" + benchmark.settings.cdsArchive(),
+                "-Dspring.aot.enabled=true",
+                "-jar",
+                benchmark.settings.fastJar().toString()
+        ));
+
+        report(System.out, List.of(new Mode("plain", plain), new Mode("fast", fast)));
+    }
+
+    private List<Start> measure(String mode, List<String> launch) throws Exception {
+        List<Start> starts = new ArrayList<>(settings.runs());
+        for (int run = 1; run <= settings.runs(); run++) {
+            Start start = start(launch, REPORTS.resolve(mode + "-" + run + ".log"));
+            System.out.printf("%-6s run %d: first response after %d ms, %d MB resident%n",
+                    mode, run, start.firstResponseMillis(), start.residentKilobytes() / 1024);
+            starts.add(start);
+        }
+        return starts;
+    }
+
+    private Start start(List<String> launch, Path log) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(launch);
+        command.add("--server.port=" + port);
+        command.addAll(settings.serviceArguments());
+
+        long launched = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            awaitFirstResponse(process, URI.create("http://localhost:" + port + PRICE_QUERY), launched);
+            long firstResponse = System.nanoTime() - launched;
+            return new Start(TimeUnit.NANOSECONDS.toMillis(firstResponse), residentKilobytes(process.pid()));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private void awaitFirstResponse(Process process, URI uri, long launched) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(1)).GET().build();
+        long deadline = launched + settings.timeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("The service exited with " + process.exitValue() + " before answering");
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(5);
+        }
+        throw new TimeoutException("No successful response from " + uri + " within " + settings.timeout());
+    }
+
+    private static long residentKilobytes(long pid) throws IOException, InterruptedException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (Files.isReadable(status)) {
+            try (Stream<String> lines = Files.lines(status)) {
+                return lines.filter(line -> line.startsWith("VmRSS:"))
+                        .map(line -> Long.parseLong(line.replaceAll("\\D", "")))
+                        .findFirst()
+                        .orElse(0L);
+            }
+        }
+        Process ps = new ProcessBuilder("ps", "-o", "rss=", "-p", Long.toString(pid)).start();
+        String rss = new String(ps.getInputStream().readAllBytes()).trim();
+        ps.waitFor();
+        return rss.isEmpty() ? 0 : Long.parseLong(rss);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void report(PrintStream out, List<Mode> modes) throws IOException {
+        List<String> csv = new ArrayList<>();
+        csv.add("mode,first_response_ms_median,first_response_ms_min,first_response_ms_max,resident_mb_median");
+
+        out.printf("%-6s %14s %10s %10s %14s%n", "mode", "median ms", "min ms", "max ms", "median RSS MB");
+        for (Mode mode : modes) {
+            long[] millis = mode.starts().stream().mapToLong(Start::firstResponseMillis).sorted().toArray();
+            long[] resident = mode.starts().stream().mapToLong(Start::residentKilobytes).sorted().toArray();
+            long medianMillis = millis[millis.length / 2];
+            long medianMegabytes = resident[resident.length / 2] / 1024;
+            out.printf("%-6s %14d %10d %10d %14d%n",
+                    mode.name(), medianMillis, millis[0], millis[millis.length - 1], medianMegabytes);
+            csv.add(String.join(",", mode.name(), Long.toString(medianMillis), Long.toString(millis[0]),
+                    Long.toString(millis[millis.length - 1]), Long.toString(medianMegabytes)));
+        }
+
+        Files.write(REPORTS.resolve("results.csv"), csv);
+        out.printf("Results and service logs written to %s%n", REPORTS.toAbsolutePath());
+    }
+
+    private record Start(long firstResponseMillis, long residentKilobytes) {}
+
+    private record Mode(String name, List<Start> starts) {}
+}
@@ -0,0 +1,33 @@
+package com.challenge.productservice.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Startup benchmark settings, read from system properties prefixed with startup. Service properties, prefixed
+ * with product-service., are passed on to every launched instance.
+ */
+record StartupBenchmarkSettings(
+        Path plainJar,
+        Path fastJar,
+        Path cdsArchive,
+        int runs,
+        Duration timeout,
+        List<String> serviceArguments
+) {
+    static StartupBenchmarkSettings fromSystemProperties() {
+        return new StartupBenchmarkSettings(
+                Path.of(System.getProperty("startup.plainJar")),
+                Path.of(System.getProperty("startup.fastJar")),
+                Path.of(System.getProperty("startup.cdsArchive")),
+                Integer.getInteger("startup.runs", 5),
+                Duration.parse(System.getProperty("startup.timeout", "PT60S")),
+                System.getProperties().stringPropertyNames().stream()
+                        .filter(name -> name.startsWith("product-service."))
+                        .sorted()
+                        .map(name -> "--" + name + "=" + System.getProperty(name))
+                        .toList()
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package com.challenge.productservice.application.exportproductprices;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public record ExportProductPricesRequest(
+    BrandId brandId,
+    Optional<UUID> after
+) {}
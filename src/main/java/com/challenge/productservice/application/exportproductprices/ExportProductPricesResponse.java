@@ -0,0 +1,5 @@
+package com.challenge.productservice.application.exportproductprices;
+
+public record ExportProductPricesResponse(
+    long exportedRows
+) {}
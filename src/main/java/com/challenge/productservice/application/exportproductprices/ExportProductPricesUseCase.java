@@ -0,0 +1,30 @@
+package com.challenge.productservice.application.exportproductprices;
+
+import com.challenge.productservice.domain.productprice.ExportedProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceExporter;
+
+import java.util.function.Consumer;
+
+/**
+ * Passes the prices of a brand to the consumer as they are read, so the export never holds more than one price.
+ */
+public class ExportProductPricesUseCase {
+
+    private final ProductPriceExporter productPriceExporter;
+
+    public ExportProductPricesUseCase(ProductPriceExporter productPriceExporter) {
+        this.productPriceExporter = productPriceExporter;
+    }
+
+    public ExportProductPricesResponse execute(
+            ExportProductPricesRequest request,
+            Consumer<ExportedProductPrice> consumer
+    ) {
+        long[] exportedRows = {0};
+        productPriceExporter.exportProductPrices(request.brandId(), request.after(), productPrice -> {
+            consumer.accept(productPrice);
+            exportedRows[0]++;
+        });
+        return new ExportProductPricesResponse(exportedRows[0]);
+    }
+}
@@ -5,6 +5,9 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 import static com.challenge.productservice.application.getproductprice.GetProductPriceResponse.*;
 
 public abstract sealed class GetProductPriceResponse permits Successful, ProductPriceNotFound {
@@ -14,6 +17,18 @@ public abstract sealed class GetProductPriceResponse permits Successful, Product
     @EqualsAndHashCode(callSuper = false)
     public static final class Successful extends GetProductPriceResponse {
         private final ProductPrice productPrice;
+        private final LocalDateTime validUntil;
+
+        public Successful(ProductPrice productPrice) {
+            this(productPrice, null);
+        }
+
+        /**
+         * Exclusive end of the window in which the price applies, when the lookup resolved it.
+         */
+        public Optional<LocalDateTime> getValidUntil() {
+            return Optional.ofNullable(validUntil);
+        }
     }
     public static final class ProductPriceNotFound extends GetProductPriceResponse {}
 }
@@ -2,11 +2,9 @@ package com.challenge.productservice.application.getproductprice;
 
 import com.challenge.productservice.application.getproductprice.GetProductPriceResponse.ProductPriceNotFound;
 import com.challenge.productservice.application.getproductprice.GetProductPriceResponse.Successful;
-import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.PriceSegment;
 import com.challenge.productservice.domain.productprice.ProductPriceRepository;
 
-import java.util.Comparator;
-import java.util.List;
 import java.util.Optional;
 
 public class GetProductPriceUseCase {
@@ -18,15 +16,14 @@ public class GetProductPriceUseCase {
     }
 
     public GetProductPriceResponse execute(GetProductPriceRequest request) {
-        List<ProductPrice> productPrices = productPriceRepository.getProductPrices(
+        Optional<PriceSegment> segment = productPriceRepository.getProductPriceSegment(
                 request.productId(),
                 request.brandId(),
                 request.validAt()
         );
 
-        Optional<ProductPrice> productPrice = productPrices.stream()
-                .max(Comparator.comparingInt(ProductPrice::priority));
-
-        return productPrice.isPresent() ? new Successful(productPrice.get()) : new ProductPriceNotFound();
+        return segment.isPresent()
+                ? new Successful(segment.get().productPrice(), segment.get().until())
+                : new ProductPriceNotFound();
     }
 }
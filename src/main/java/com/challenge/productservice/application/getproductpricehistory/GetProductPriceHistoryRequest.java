@@ -0,0 +1,16 @@
+package com.challenge.productservice.application.getproductpricehistory;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+
+import java.time.LocalDateTime;
+
+/**
+ * A product and brand with a date range, both ends inclusive like the dates of a price.
+ */
+public record GetProductPriceHistoryRequest(
+    ProductId productId,
+    BrandId brandId,
+    LocalDateTime from,
+    LocalDateTime to
+) {}
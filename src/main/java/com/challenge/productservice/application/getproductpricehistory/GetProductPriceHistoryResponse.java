@@ -0,0 +1,12 @@
+package com.challenge.productservice.application.getproductpricehistory;
+
+import com.challenge.productservice.domain.productprice.PriceSegment;
+
+import java.util.List;
+
+/**
+ * The effective price segments within the requested range, sorted by start and cut to the range.
+ */
+public record GetProductPriceHistoryResponse(
+    List<PriceSegment> segments
+) {}
@@ -0,0 +1,23 @@
+package com.challenge.productservice.application.getproductpricehistory;
+
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+
+/**
+ * Resolves the timeline of the product and brand once, from all its prices in a single read, and returns the part
+ * of it that falls within the range.
+ */
+public class GetProductPriceHistoryUseCase {
+
+    private final ProductPriceRepository productPriceRepository;
+
+    public GetProductPriceHistoryUseCase(ProductPriceRepository productPriceRepository) {
+        this.productPriceRepository = productPriceRepository;
+    }
+
+    public GetProductPriceHistoryResponse execute(GetProductPriceHistoryRequest request) {
+        return new GetProductPriceHistoryResponse(
+                productPriceRepository.getProductPriceTimeline(request.productId(), request.brandId())
+                        .between(request.from(), request.to().plusNanos(1))
+        );
+    }
+}
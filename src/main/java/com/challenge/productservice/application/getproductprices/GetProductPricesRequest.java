@@ -0,0 +1,9 @@
+package com.challenge.productservice.application.getproductprices;
+
+import com.challenge.productservice.application.getproductprice.GetProductPriceRequest;
+
+import java.util.List;
+
+public record GetProductPricesRequest(
+    List<GetProductPriceRequest> lookups
+) {}
@@ -0,0 +1,12 @@
+package com.challenge.productservice.application.getproductprices;
+
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse;
+
+import java.util.List;
+
+/**
+ * One result per lookup, in the order of the request.
+ */
+public record GetProductPricesResponse(
+    List<GetProductPriceResponse> results
+) {}
@@ -0,0 +1,37 @@
+package com.challenge.productservice.application.getproductprices;
+
+import com.challenge.productservice.application.getproductprice.GetProductPriceRequest;
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse;
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse.ProductPriceNotFound;
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse.Successful;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceLookup;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class GetProductPricesUseCase {
+
+    private final ProductPriceRepository productPriceRepository;
+
+    public GetProductPricesUseCase(ProductPriceRepository productPriceRepository) {
+        this.productPriceRepository = productPriceRepository;
+    }
+
+    public GetProductPricesResponse execute(GetProductPricesRequest request) {
+        List<ProductPriceLookup> lookups = new ArrayList<>(request.lookups().size());
+        for (GetProductPriceRequest lookup : request.lookups()) {
+            lookups.add(new ProductPriceLookup(lookup.productId(), lookup.brandId(), lookup.validAt()));
+        }
+
+        List<Optional<ProductPrice>> productPrices = productPriceRepository.getProductPrices(lookups);
+
+        List<GetProductPriceResponse> results = new ArrayList<>(productPrices.size());
+        for (Optional<ProductPrice> productPrice : productPrices) {
+            results.add(productPrice.isPresent() ? new Successful(productPrice.get()) : new ProductPriceNotFound());
+        }
+        return new GetProductPricesResponse(results);
+    }
+}
@@ -0,0 +1,12 @@
+package com.challenge.productservice.application.importproductprices;
+
+import com.challenge.productservice.domain.productprice.ProductPrice;
+
+import java.util.Iterator;
+
+/**
+ * Prices to import, read lazily so the whole input never has to be held in memory.
+ */
+public record ImportProductPricesRequest(
+    Iterator<ProductPrice> productPrices
+) {}
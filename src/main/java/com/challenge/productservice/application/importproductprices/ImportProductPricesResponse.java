@@ -0,0 +1,13 @@
+package com.challenge.productservice.application.importproductprices;
+
+import java.time.Duration;
+
+public record ImportProductPricesResponse(
+    long importedRows,
+    Duration elapsed
+) {
+    public double rowsPerSecond() {
+        long nanos = Math.max(1, elapsed.toNanos());
+        return importedRows * 1_000_000_000.0 / nanos;
+    }
+}
@@ -0,0 +1,50 @@
+package com.challenge.productservice.application.importproductprices;
+
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceWriter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Writes prices in batches of a fixed size as they are read, so memory use depends on the batch size and
+ * not on the size of the input. Every batch is written on its own: if the input turns out to be invalid
+ * halfway, the batches written before stay imported.
+ */
+public class ImportProductPricesUseCase {
+
+    private final ProductPriceWriter productPriceWriter;
+    private final int batchSize;
+
+    public ImportProductPricesUseCase(ProductPriceWriter productPriceWriter, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.productPriceWriter = productPriceWriter;
+        this.batchSize = batchSize;
+    }
+
+    public ImportProductPricesResponse execute(ImportProductPricesRequest request) {
+        long started = System.nanoTime();
+        long importedRows = 0;
+        Iterator<ProductPrice> productPrices = request.productPrices();
+        List<ProductPrice> batch = new ArrayList<>(batchSize);
+
+        while (productPrices.hasNext()) {
+            batch.add(productPrices.next());
+            if (batch.size() == batchSize) {
+                productPriceWriter.insertAll(batch);
+                importedRows += batch.size();
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            productPriceWriter.insertAll(batch);
+            importedRows += batch.size();
+        }
+
+        return new ImportProductPricesResponse(importedRows, Duration.ofNanos(System.nanoTime() - started));
+    }
+}
@@ -0,0 +1,69 @@
+package com.challenge.productservice.domain.productprice;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Table of every currency known to the money provider, loaded once, so prices can refer to their currency by
+ * index and a currency code is resolved with a map lookup instead of a walk through the provider chain.
+ */
+public final class Currencies {
+    /**
+     * Decimals of every stored amount, the scale of the price column, whatever the fraction digits of the currency.
+     * Any amount the table holds converts exactly and comes back with the decimals it was stored with.
+     */
+    public static final int AMOUNT_SCALE = 2;
+
+    private static final CurrencyUnit[] UNITS;
+    private static final Map<String, Integer> INDEXES;
+
+    static {
+        List<CurrencyUnit> units = Monetary.getCurrencies().stream()
+                .sorted(Comparator.comparing(CurrencyUnit::getCurrencyCode))
+                .toList();
+        UNITS = units.toArray(CurrencyUnit[]::new);
+        Map<String, Integer> indexes = new HashMap<>(UNITS.length * 2);
+        for (int i = 0; i < UNITS.length; i++) {
+            indexes.put(UNITS[i].getCurrencyCode(), i);
+        }
+        INDEXES = Map.copyOf(indexes);
+    }
+
+    private Currencies() {}
+
+    public static int indexOf(String currencyCode) {
+        Integer index = INDEXES.get(currencyCode);
+        if (index == null) {
+            // Fails with the provider's own exception for unknown codes
+            Monetary.getCurrency(currencyCode);
+            throw new IllegalArgumentException(String.format("Currency '%s' is not in the currency table", currencyCode));
+        }
+        return index;
+    }
+
+    public static int indexOf(CurrencyUnit currency) {
+        return indexOf(currency.getCurrencyCode());
+    }
+
+    public static CurrencyUnit get(int index) {
+        return UNITS[index];
+    }
+
+    /**
+     * The amount in minor units of {@link #AMOUNT_SCALE}, e.g. cents. Fails if the amount has more decimals
+     * than the price column.
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(AMOUNT_SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal fromMinorUnits(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, AMOUNT_SCALE);
+    }
+}
@@ -0,0 +1,38 @@
+package com.challenge.productservice.domain.productprice;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Converts local date times to microseconds since the epoch and back, reading them as UTC so the conversion
+ * is free of time zone rules. Microseconds match the precision of the prices table timestamps.
+ */
+public final class EpochMicros {
+    private static final long MICROS_PER_SECOND = 1_000_000;
+    private static final int NANOS_PER_MICRO = 1_000;
+
+    private EpochMicros() {}
+
+    /**
+     * Microseconds of the date time, rounded down.
+     */
+    public static long floor(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + dateTime.getNano() / NANOS_PER_MICRO;
+    }
+
+    /**
+     * Microseconds of the date time, rounded up.
+     */
+    public static long ceil(LocalDateTime dateTime) {
+        long floor = floor(dateTime);
+        return dateTime.getNano() % NANOS_PER_MICRO == 0 ? floor : floor + 1;
+    }
+
+    public static LocalDateTime toLocalDateTime(long epochMicros) {
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(epochMicros, MICROS_PER_SECOND),
+                (int) Math.floorMod(epochMicros, MICROS_PER_SECOND) * NANOS_PER_MICRO,
+                ZoneOffset.UTC
+        );
+    }
+}
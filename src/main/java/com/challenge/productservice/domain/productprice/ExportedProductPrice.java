@@ -0,0 +1,11 @@
+package com.challenge.productservice.domain.productprice;
+
+import java.util.UUID;
+
+/**
+ * A price together with the id of its row, which is the position an export can be resumed from.
+ */
+public record ExportedProductPrice(
+    UUID id,
+    ProductPrice productPrice
+) {}
@@ -0,0 +1,16 @@
+package com.challenge.productservice.domain.productprice;
+
+import java.time.LocalDateTime;
+
+/**
+ * A time window, from inclusive to until exclusive, during which a single price applies.
+ */
+public record PriceSegment(
+    LocalDateTime from,
+    LocalDateTime until,
+    ProductPrice productPrice
+) {
+    public boolean contains(LocalDateTime dateTime) {
+        return !dateTime.isBefore(from) && dateTime.isBefore(until);
+    }
+}
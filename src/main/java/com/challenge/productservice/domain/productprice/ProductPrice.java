@@ -3,14 +3,92 @@ package com.challenge.productservice.domain.productprice;
 import javax.money.CurrencyUnit;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Comparator;
 
+/**
+ * A price stored in a compact form: dates as microseconds since the epoch, the amount in minor units at the scale
+ * of the price column, see {@link Currencies#AMOUNT_SCALE}, and the currency as an index into {@link Currencies}. The date, amount and currency objects are
+ * only created when asked for, which is at the edges of the service.
+ */
 public record ProductPrice(
     BrandId brandId,
-    LocalDateTime startDate,
-    LocalDateTime endDate,
+    long startEpochMicros,
+    long endEpochMicros,
     int priceList,
     ProductId productId,
     int priority,
-    BigDecimal price,
-    CurrencyUnit currency
-) {}
+    long priceMinorUnits,
+    int currencyIndex
+) {
+    /**
+     * Orders prices so that the one that must be applied when several are valid at the same time is the greatest:
+     * the highest priority wins, ties go to the most recently started price, then to the highest price list, and
+     * then to the latest end, the highest amount and the last currency code, so only equal prices tie. Repositories
+     * resolving prices in a query must order by the same columns.
+     */
+    public static final Comparator<ProductPrice> PRECEDENCE = Comparator.comparingInt(ProductPrice::priority)
+            .thenComparingLong(ProductPrice::startEpochMicros)
+            .thenComparingInt(ProductPrice::priceList)
+            .thenComparingLong(ProductPrice::endEpochMicros)
+            .thenComparingLong(ProductPrice::priceMinorUnits)
+            // Currencies are indexed in currency code order
+            .thenComparingInt(ProductPrice::currencyIndex);
+
+    public ProductPrice(
+            BrandId brandId,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            int priceList,
+            ProductId productId,
+            int priority,
+            BigDecimal price,
+            CurrencyUnit currency
+    ) {
+        this(brandId, startDate, endDate, priceList, productId, priority, price, Currencies.indexOf(currency));
+    }
+
+    private ProductPrice(
+            BrandId brandId,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            int priceList,
+            ProductId productId,
+            int priority,
+            BigDecimal price,
+            int currencyIndex
+    ) {
+        this(
+                brandId,
+                EpochMicros.floor(startDate),
+                EpochMicros.floor(endDate),
+                priceList,
+                productId,
+                priority,
+                Currencies.toMinorUnits(price),
+                currencyIndex
+        );
+    }
+
+    public LocalDateTime startDate() {
+        return EpochMicros.toLocalDateTime(startEpochMicros);
+    }
+
+    public LocalDateTime endDate() {
+        return EpochMicros.toLocalDateTime(endEpochMicros);
+    }
+
+    public BigDecimal price() {
+        return Currencies.fromMinorUnits(priceMinorUnits);
+    }
+
+    public CurrencyUnit currency() {
+        return Currencies.get(currencyIndex);
+    }
+
+    /**
+     * Whether the price applies at the given date time, both ends included.
+     */
+    public boolean isValidAt(LocalDateTime dateTime) {
+        return startEpochMicros <= EpochMicros.floor(dateTime) && endEpochMicros >= EpochMicros.ceil(dateTime);
+    }
+}
@@ -0,0 +1,12 @@
+package com.challenge.productservice.domain.productprice;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface ProductPriceExporter {
+    /**
+     * Hands every price of the brand to the consumer in id order, one at a time, starting after the given id.
+     */
+    void exportProductPrices(BrandId brandId, Optional<UUID> after, Consumer<ExportedProductPrice> consumer);
+}
@@ -0,0 +1,6 @@
+package com.challenge.productservice.domain.productprice;
+
+public record ProductPriceKey(
+    ProductId productId,
+    BrandId brandId
+) {}
@@ -0,0 +1,9 @@
+package com.challenge.productservice.domain.productprice;
+
+import java.time.LocalDateTime;
+
+public record ProductPriceLookup(
+    ProductId productId,
+    BrandId brandId,
+    LocalDateTime validAt
+) {}
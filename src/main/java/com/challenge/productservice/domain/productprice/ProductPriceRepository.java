@@ -2,7 +2,53 @@ package com.challenge.productservice.domain.productprice;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface ProductPriceRepository {
     List<ProductPrice> getProductPrices(ProductId productId, BrandId brandId, LocalDateTime validAt);
+
+    /**
+     * Returns the price to apply at the given date, that is the one with the highest
+     * {@link ProductPrice#PRECEDENCE} among the prices valid at that date.
+     */
+    Optional<ProductPrice> getProductPrice(ProductId productId, BrandId brandId, LocalDateTime validAt);
+
+    /**
+     * Resolves the price to apply for each lookup at once, returning the results in the order of the lookups.
+     */
+    List<Optional<ProductPrice>> getProductPrices(List<ProductPriceLookup> lookups);
+
+    /**
+     * Returns every effective price segment of the given product and brand.
+     */
+    ProductPriceTimeline getProductPriceTimeline(ProductId productId, BrandId brandId);
+
+    /**
+     * Returns the timeline of each product and brand at once, in the order of the keys.
+     */
+    default List<ProductPriceTimeline> getProductPriceTimelines(List<ProductPriceKey> keys) {
+        return keys.stream()
+                .map(key -> getProductPriceTimeline(key.productId(), key.brandId()))
+                .toList();
+    }
+
+    /**
+     * Returns the effective price segment containing the given date, which tells both the price to apply and
+     * until when it keeps applying. Implementations that resolve it without loading the whole timeline may
+     * return the segment starting at the given date rather than where the price started to apply.
+     */
+    default Optional<PriceSegment> getProductPriceSegment(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return getProductPriceTimeline(productId, brandId).segmentAt(validAt);
+    }
+
+    /**
+     * Returns the segment, starting at the given date, of a price already known to apply at that date, which ends
+     * where a later price overrides it or where the price ends. Lets callers that resolved the price some other way,
+     * such as in a batch, bound its segment without loading the timeline.
+     */
+    default PriceSegment getProductPriceSegment(ProductPrice productPrice, LocalDateTime validAt) {
+        return getProductPriceTimeline(productPrice.productId(), productPrice.brandId()).segmentAt(validAt)
+                .map(segment -> new PriceSegment(validAt, segment.until(), productPrice))
+                .orElseGet(() -> new PriceSegment(validAt, productPrice.endDate().plusNanos(1), productPrice));
+    }
 }
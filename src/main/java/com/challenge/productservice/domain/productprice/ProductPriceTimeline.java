@@ -0,0 +1,126 @@
+package com.challenge.productservice.domain.productprice;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+
+/**
+ * Effective prices of a single product and brand over time.
+ * Overlapping prices are resolved once when the timeline is built, leaving non-overlapping segments
+ * sorted by start, each one holding the price that wins during that window.
+ */
+public final class ProductPriceTimeline {
+    private static final ProductPriceTimeline EMPTY = new ProductPriceTimeline(new PriceSegment[0]);
+
+    private final PriceSegment[] segments;
+    private final LocalDateTime[] segmentStarts;
+
+    private ProductPriceTimeline(PriceSegment[] segments) {
+        this.segments = segments;
+        this.segmentStarts = Arrays.stream(segments).map(PriceSegment::from).toArray(LocalDateTime[]::new);
+    }
+
+    public static ProductPriceTimeline empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Sweeps the start and end boundaries of the given prices in order, keeping the valid ones in a heap
+     * ordered by {@link ProductPrice#PRECEDENCE}, and opens a new segment whenever the winner changes.
+     * All prices are expected to belong to the same product and brand.
+     */
+    public static ProductPriceTimeline of(Collection<ProductPrice> productPrices) {
+        if (productPrices.isEmpty()) {
+            return EMPTY;
+        }
+
+        ProductPrice[] byStartDate = productPrices.toArray(ProductPrice[]::new);
+        Arrays.sort(byStartDate, Comparator.comparingLong(ProductPrice::startEpochMicros));
+
+        TreeSet<LocalDateTime> boundaries = new TreeSet<>();
+        for (ProductPrice productPrice : byStartDate) {
+            boundaries.add(productPrice.startDate());
+            boundaries.add(exclusiveEnd(productPrice));
+        }
+
+        PriorityQueue<ProductPrice> valid = new PriorityQueue<>(ProductPrice.PRECEDENCE.reversed());
+        List<PriceSegment> segments = new ArrayList<>();
+        ProductPrice current = null;
+        LocalDateTime currentFrom = null;
+        int next = 0;
+
+        for (LocalDateTime boundary : boundaries) {
+            while (next < byStartDate.length && !byStartDate[next].startDate().isAfter(boundary)) {
+                valid.add(byStartDate[next++]);
+            }
+            // Expired prices are only discarded once they reach the top, they cannot win before that
+            while (!valid.isEmpty() && !exclusiveEnd(valid.peek()).isAfter(boundary)) {
+                valid.poll();
+            }
+
+            ProductPrice winner = valid.peek();
+            if (winner != current) {
+                if (current != null) {
+                    segments.add(new PriceSegment(currentFrom, boundary, current));
+                }
+                current = winner;
+                currentFrom = boundary;
+            }
+        }
+
+        return new ProductPriceTimeline(segments.toArray(PriceSegment[]::new));
+    }
+
+    public Optional<PriceSegment> segmentAt(LocalDateTime dateTime) {
+        int index = Arrays.binarySearch(segmentStarts, dateTime);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        if (index < 0 || !segments[index].contains(dateTime)) {
+            return Optional.empty();
+        }
+        return Optional.of(segments[index]);
+    }
+
+    public Optional<ProductPrice> priceAt(LocalDateTime dateTime) {
+        return segmentAt(dateTime).map(PriceSegment::productPrice);
+    }
+
+    /**
+     * The segments overlapping the window from inclusive to until exclusive, cut to the window.
+     */
+    public List<PriceSegment> between(LocalDateTime from, LocalDateTime until) {
+        int index = Arrays.binarySearch(segmentStarts, from);
+        if (index < 0) {
+            index = Math.max(0, -index - 2);
+        }
+
+        List<PriceSegment> result = new ArrayList<>();
+        for (int i = index; i < segments.length && segments[i].from().isBefore(until); i++) {
+            PriceSegment segment = segments[i];
+            if (segment.until().isAfter(from)) {
+                result.add(new PriceSegment(
+                        segment.from().isBefore(from) ? from : segment.from(),
+                        segment.until().isAfter(until) ? until : segment.until(),
+                        segment.productPrice()
+                ));
+            }
+        }
+        return result;
+    }
+
+    public List<PriceSegment> segments() {
+        return List.of(segments);
+    }
+
+    // Price end dates are inclusive, segments are half open
+    private static LocalDateTime exclusiveEnd(ProductPrice productPrice) {
+        return productPrice.endDate().plusNanos(1);
+    }
+}
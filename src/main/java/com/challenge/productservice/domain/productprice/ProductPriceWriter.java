@@ -0,0 +1,7 @@
+package com.challenge.productservice.domain.productprice;
+
+import java.util.List;
+
+public interface ProductPriceWriter {
+    void insertAll(List<ProductPrice> productPrices);
+}
@@ -0,0 +1,24 @@
+package com.challenge.productservice.infrastructure.config;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.infrastructure.partition.BrandPartition;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Brands served by this instance, none meaning every brand, and the base URL of the instance serving each other brand.
+ */
+@ConfigurationProperties(prefix = "product-service.partition")
+public record BrandPartitionProperties(
+        @DefaultValue Set<Long> brandIds,
+        @DefaultValue Map<Long, URI> routes
+) {
+    public BrandPartition partition() {
+        return new BrandPartition(brandIds.stream().map(BrandId::new).collect(Collectors.toSet()));
+    }
+}
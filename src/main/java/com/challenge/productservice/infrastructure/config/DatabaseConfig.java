@@ -1,19 +1,204 @@
 package com.challenge.productservice.infrastructure.config;
 
+import com.challenge.productservice.domain.productprice.ProductPriceExporter;
 import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.ProductPriceWriter;
+import com.challenge.productservice.infrastructure.database.JdbcProductPriceCatalogReader;
+import com.challenge.productservice.infrastructure.database.JdbcProductPriceDeltaReader;
+import com.challenge.productservice.infrastructure.database.JdbcProductPriceExporter;
+import com.challenge.productservice.infrastructure.database.JdbcProductPriceRepository;
+import com.challenge.productservice.infrastructure.database.JdbcProductPriceWriter;
+import com.challenge.productservice.infrastructure.database.JpaProductPriceCatalogLoader;
 import com.challenge.productservice.infrastructure.database.JpaProductPriceRepository;
 import com.challenge.productservice.infrastructure.database.mapper.ProductPriceMapper;
+import com.challenge.productservice.infrastructure.inmemory.InMemoryProductPriceRepository;
+import com.challenge.productservice.infrastructure.inmemory.ProductPriceIndexRefresher;
+import com.challenge.productservice.infrastructure.inmemory.RefreshingProductPriceRepository;
+import com.challenge.productservice.infrastructure.metrics.MeteredProductPriceRepository;
+import com.challenge.productservice.infrastructure.offheap.OffHeapProductPriceCatalogLoader;
+import com.challenge.productservice.infrastructure.offheap.OffHeapProductPriceRepository;
+import com.challenge.productservice.infrastructure.partition.BrandPartition;
+import com.challenge.productservice.infrastructure.partition.PartitionedProductPriceRepository;
+import com.challenge.productservice.infrastructure.repository.BloomFilterProductPriceRepository;
+import com.challenge.productservice.infrastructure.repository.CachingProductPriceRepository;
+import com.challenge.productservice.infrastructure.repository.ForwardingProductPriceRepository;
+import com.challenge.productservice.infrastructure.repository.MicroBatchingProductPriceRepository;
+import com.challenge.productservice.infrastructure.repository.NotifyingProductPriceWriter;
+import com.challenge.productservice.infrastructure.repository.ProductPriceChangeListener;
+import com.challenge.productservice.infrastructure.repository.SingleFlightProductPriceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.util.function.Supplier;
 
 @Configuration
+@EnableConfigurationProperties({
+        ProductPriceRepositoryProperties.class,
+        ProductPriceExportProperties.class,
+        BrandPartitionProperties.class
+})
 public class DatabaseConfig {
 
     @Bean
     public ProductPriceRepository productPriceRepository(
-            EntityManager entityManager
+            EntityManager entityManager,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ProductPriceRepositoryProperties properties,
+            BrandPartitionProperties partitionProperties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        ProductPriceMapper mapper = new ProductPriceMapper();
+        BrandPartition partition = partitionProperties.partition();
+
+        ProductPriceRepository repository = switch (properties.type()) {
+            case JPA -> new JpaProductPriceRepository(entityManager, mapper);
+            case JDBC -> new JdbcProductPriceRepository(jdbcTemplate);
+            case IN_MEMORY -> properties.refresh().enabled()
+                    ? new RefreshingProductPriceRepository(
+                            new JdbcProductPriceDeltaReader(jdbcTemplate, transactionManager, partition),
+                            Clock.systemUTC(),
+                            properties.refresh().maxTransactionDuration()
+                    )
+                    : InMemoryProductPriceRepository.of(
+                            new JpaProductPriceCatalogLoader(entityManager, mapper).loadAll(partition)
+                    );
+            case OFF_HEAP -> offHeapProductPriceRepository(
+                    new JdbcProductPriceCatalogReader(jdbcTemplate, transactionManager, partition),
+                    partition,
+                    properties.snapshot()
+            );
+        };
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null && repository instanceof MeterBinder meterBinder) {
+            meterBinder.bindTo(registry);
+        }
+        if (registry != null) {
+            repository = new MeteredProductPriceRepository(repository, registry);
+        }
+
+        if (properties.microBatch().enabled()) {
+            MicroBatchingProductPriceRepository microBatchingRepository = new MicroBatchingProductPriceRepository(
+                    repository,
+                    properties.microBatch().window(),
+                    properties.microBatch().maxBatchSize()
+            );
+            if (registry != null) {
+                microBatchingRepository.bindTo(registry);
+            }
+            repository = microBatchingRepository;
+        }
+
+        if (properties.singleFlight().enabled()) {
+            SingleFlightProductPriceRepository singleFlightRepository = new SingleFlightProductPriceRepository(repository);
+            if (registry != null) {
+                singleFlightRepository.bindTo(registry);
+            }
+            repository = singleFlightRepository;
+        }
+
+        if (properties.cache().enabled()) {
+            CachingProductPriceRepository cachingRepository = new CachingProductPriceRepository(
+                    repository,
+                    properties.cache().maximumSegments()
+            );
+            if (registry != null) {
+                cachingRepository.bindTo(registry);
+            }
+            repository = cachingRepository;
+        }
+
+        if (properties.bloomFilter().enabled()) {
+            JdbcProductPriceCatalogReader catalogReader = new JdbcProductPriceCatalogReader(
+                    jdbcTemplate,
+                    transactionManager,
+                    partition
+            );
+            BloomFilterProductPriceRepository bloomFilterRepository = new BloomFilterProductPriceRepository(
+                    repository,
+                    catalogReader::forEachProductAndBrand,
+                    catalogReader.countProductsAndBrands(),
+                    properties.bloomFilter().falsePositiveProbability()
+            );
+            if (registry != null) {
+                bloomFilterRepository.bindTo(registry);
+            }
+            repository = bloomFilterRepository;
+        }
+
+        if (!partition.isAll()) {
+            repository = new PartitionedProductPriceRepository(repository, partition);
+        }
+
+        return repository;
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "product-service.repository.refresh", name = "enabled", havingValue = "true")
+    public ProductPriceIndexRefresher productPriceIndexRefresher(
+            ProductPriceRepository productPriceRepository,
+            ProductPriceRepositoryProperties properties
+    ) {
+        RefreshingProductPriceRepository refreshingRepository = ForwardingProductPriceRepository
+                .find(productPriceRepository, RefreshingProductPriceRepository.class)
+                .orElseThrow(() -> new IllegalStateException("Refresh requires the in-memory repository"));
+        return new ProductPriceIndexRefresher(
+                refreshingRepository,
+                ProductPriceChangeListener.listenersIn(productPriceRepository),
+                properties.refresh().interval()
+        );
+    }
+
+    private static OffHeapProductPriceRepository offHeapProductPriceRepository(
+            JdbcProductPriceCatalogReader catalogReader,
+            BrandPartition partition,
+            ProductPriceRepositoryProperties.Snapshot snapshot
+    ) {
+        Supplier<OffHeapProductPriceRepository> databaseLoad = () -> {
+            OffHeapProductPriceRepository.Builder builder = OffHeapProductPriceRepository.builderFor(catalogReader.count());
+            catalogReader.forEachInKeyOrder(builder::add);
+            return builder.build();
+        };
+        if (!snapshot.enabled()) {
+            return databaseLoad.get();
+        }
+        return new OffHeapProductPriceCatalogLoader(
+                snapshot.path(),
+                partition,
+                snapshot.maxAge(),
+                Clock.systemUTC(),
+                databaseLoad,
+                catalogReader::fingerprint
+        ).load();
+    }
+
+    @Bean
+    public ProductPriceWriter productPriceWriter(
+            JdbcTemplate jdbcTemplate,
+            ProductPriceRepository productPriceRepository
+    ) {
+        return new NotifyingProductPriceWriter(
+                new JdbcProductPriceWriter(jdbcTemplate),
+                ProductPriceChangeListener.listenersIn(productPriceRepository)
+        );
+    }
+
+    @Bean
+    public ProductPriceExporter productPriceExporter(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ProductPriceExportProperties properties
     ) {
-        return new JpaProductPriceRepository(entityManager, new ProductPriceMapper());
+        return new JdbcProductPriceExporter(jdbcTemplate, transactionManager, properties.fetchSize());
     }
 }
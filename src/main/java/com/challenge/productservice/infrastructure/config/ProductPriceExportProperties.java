@@ -0,0 +1,9 @@
+package com.challenge.productservice.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "product-service.export")
+public record ProductPriceExportProperties(
+        @DefaultValue("1000") int fetchSize
+) {}
@@ -0,0 +1,11 @@
+package com.challenge.productservice.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "product-service.http-cache")
+public record ProductPriceHttpCacheProperties(
+        @DefaultValue("PT1H") Duration maxAge
+) {}
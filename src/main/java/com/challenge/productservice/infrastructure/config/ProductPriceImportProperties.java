@@ -0,0 +1,9 @@
+package com.challenge.productservice.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "product-service.import")
+public record ProductPriceImportProperties(
+        @DefaultValue("1000") int batchSize
+) {}
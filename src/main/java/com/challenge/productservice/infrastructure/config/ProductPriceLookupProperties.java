@@ -0,0 +1,13 @@
+package com.challenge.productservice.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Lookups the functional entrypoint runs at the same time. Requests beyond it are answered with 503 Service
+ * Unavailable instead of starting another virtual thread that would only queue for a database connection.
+ */
+@ConfigurationProperties(prefix = "product-service.lookups")
+public record ProductPriceLookupProperties(
+        @DefaultValue("64") int maxConcurrent
+) {}
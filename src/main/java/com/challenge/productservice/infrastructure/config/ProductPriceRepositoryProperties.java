@@ -0,0 +1,74 @@
+package com.challenge.productservice.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "product-service.repository")
+public record ProductPriceRepositoryProperties(
+        @DefaultValue("jpa") Type type,
+        @DefaultValue Cache cache,
+        @DefaultValue Snapshot snapshot,
+        @DefaultValue Refresh refresh,
+        @DefaultValue BloomFilter bloomFilter,
+        @DefaultValue SingleFlight singleFlight,
+        @DefaultValue MicroBatch microBatch
+) {
+    public enum Type {
+        JPA,
+        JDBC,
+        IN_MEMORY,
+        OFF_HEAP
+    }
+
+    public record Cache(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("100000") long maximumSegments
+    ) {}
+
+    /**
+     * Snapshot file the off-heap repository starts from, and rewrites after loading from the database.
+     */
+    public record Snapshot(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("product-prices.snapshot") Path path,
+            @DefaultValue("PT24H") Duration maxAge
+    ) {}
+
+    /**
+     * Background refresh of the in-memory repository from the prices changed since its last refresh. Changes
+     * are read again until {@code maxTransactionDuration} has passed, the longest a transaction writing prices
+     * may stay open, so a transaction committing after a later one is not missed.
+     */
+    public record Refresh(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("PT5S") Duration interval,
+            @DefaultValue("PT1M") Duration maxTransactionDuration
+    ) {}
+
+    /**
+     * Filter of the products and brands with prices, answering lookups of any other pair without the repository.
+     */
+    public record BloomFilter(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("0.01") double falsePositiveProbability
+    ) {}
+
+    /**
+     * Coalescing of identical lookups running at the same time into a single repository call.
+     */
+    public record SingleFlight(
+            @DefaultValue("false") boolean enabled
+    ) {}
+
+    /**
+     * Batching of the lookups made by concurrent requests within a short window into a single repository call.
+     */
+    public record MicroBatch(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("2ms") Duration window,
+            @DefaultValue("100") int maxBatchSize
+    ) {}
+}
@@ -0,0 +1,9 @@
+package com.challenge.productservice.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "product-service.response-cache")
+public record ProductPriceResponseCacheProperties(
+        @DefaultValue("100000") long maximumSize
+) {}
@@ -0,0 +1,102 @@
+package com.challenge.productservice.infrastructure.config;
+
+import com.challenge.productservice.application.getproductprice.GetProductPriceUseCase;
+import com.challenge.productservice.application.getproductprices.GetProductPricesUseCase;
+import com.challenge.productservice.infrastructure.entrypoint.rest.BoundedLookupExecutor;
+import com.challenge.productservice.infrastructure.entrypoint.rest.BrandPartitionFilter;
+import com.challenge.productservice.infrastructure.entrypoint.rest.BrandRoutes;
+import com.challenge.productservice.infrastructure.entrypoint.rest.ProductPriceCachePolicy;
+import com.challenge.productservice.infrastructure.entrypoint.rest.ProductPriceHandler;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.ProductPriceResponseCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.util.concurrent.ThreadFactory;
+
+@Configuration
+@EnableConfigurationProperties({
+        ProductPriceResponseCacheProperties.class,
+        ProductPriceHttpCacheProperties.class,
+        ProductPriceLookupProperties.class,
+        BrandPartitionProperties.class
+})
+public class RestConfig {
+
+    @Bean
+    public ProductPriceResponseCache productPriceResponseCache(
+            ObjectMapper objectMapper,
+            ProductPriceResponseCacheProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        ProductPriceResponseCache responseCache = new ProductPriceResponseCache(objectMapper, properties.maximumSize());
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            responseCache.bindTo(registry);
+        }
+        return responseCache;
+    }
+
+    @Bean
+    public ProductPriceCachePolicy productPriceCachePolicy(ProductPriceHttpCacheProperties properties) {
+        return new ProductPriceCachePolicy(properties.maxAge());
+    }
+
+    @Bean
+    public BrandRoutes brandRoutes(BrandPartitionProperties properties) {
+        return new BrandRoutes(properties.partition(), properties.routes());
+    }
+
+    @Bean
+    public FilterRegistrationBean<BrandPartitionFilter> brandPartitionFilter(
+            BrandPartitionProperties properties,
+            ObjectMapper objectMapper
+    ) {
+        FilterRegistrationBean<BrandPartitionFilter> registration = new FilterRegistrationBean<>(
+                new BrandPartitionFilter(properties.partition(), properties.routes(), objectMapper)
+        );
+        registration.addUrlPatterns("/prices", "/prices/history");
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "product-service.entrypoint", havingValue = "functional")
+    public ProductPriceHandler productPriceHandler(
+            GetProductPriceUseCase getProductPriceUseCase,
+            GetProductPricesUseCase getProductPricesUseCase,
+            ProductPriceResponseCache productPriceResponseCache,
+            ProductPriceCachePolicy productPriceCachePolicy,
+            BrandRoutes brandRoutes,
+            ProductPriceLookupProperties lookupProperties,
+            jakarta.validation.Validator validator
+    ) {
+        ThreadFactory lookupThreads = Thread.ofVirtual().name("product-price-lookup-", 0).factory();
+        return new ProductPriceHandler(
+                getProductPriceUseCase,
+                getProductPricesUseCase,
+                productPriceResponseCache,
+                productPriceCachePolicy,
+                new SpringValidatorAdapter(validator),
+                brandRoutes,
+                new BoundedLookupExecutor(lookupThreads, lookupProperties.maxConcurrent())
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "product-service.entrypoint", havingValue = "functional")
+    public RouterFunction<ServerResponse> productPriceRoutes(ProductPriceHandler productPriceHandler) {
+        return RouterFunctions.route()
+                .GET("/prices", productPriceHandler::getProductPrice)
+                .POST("/prices/batch", productPriceHandler::getProductPrices)
+                .build();
+    }
+}
@@ -1,17 +1,61 @@
 package com.challenge.productservice.infrastructure.config;
 
+import com.challenge.productservice.application.exportproductprices.ExportProductPricesUseCase;
 import com.challenge.productservice.application.getproductprice.GetProductPriceUseCase;
+import com.challenge.productservice.application.getproductpricehistory.GetProductPriceHistoryUseCase;
+import com.challenge.productservice.application.getproductprices.GetProductPricesUseCase;
+import com.challenge.productservice.application.importproductprices.ImportProductPricesUseCase;
+import com.challenge.productservice.domain.productprice.ProductPriceExporter;
 import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.ProductPriceWriter;
+import com.challenge.productservice.infrastructure.metrics.MeteredGetProductPriceUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@EnableConfigurationProperties(ProductPriceImportProperties.class)
 public class UseCasesConfig {
 
     @Bean
     public GetProductPriceUseCase getProductPriceUseCase(
+            ProductPriceRepository productPriceRepository,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        return registry == null
+                ? new GetProductPriceUseCase(productPriceRepository)
+                : new MeteredGetProductPriceUseCase(productPriceRepository, registry);
+    }
+
+    @Bean
+    public GetProductPriceHistoryUseCase getProductPriceHistoryUseCase(
+            ProductPriceRepository productPriceRepository
+    ) {
+        return new GetProductPriceHistoryUseCase(productPriceRepository);
+    }
+
+    @Bean
+    public GetProductPricesUseCase getProductPricesUseCase(
             ProductPriceRepository productPriceRepository
     ) {
-        return new GetProductPriceUseCase(productPriceRepository);
+        return new GetProductPricesUseCase(productPriceRepository);
+    }
+
+    @Bean
+    public ImportProductPricesUseCase importProductPricesUseCase(
+            ProductPriceWriter productPriceWriter,
+            ProductPriceImportProperties properties
+    ) {
+        return new ImportProductPricesUseCase(productPriceWriter, properties.batchSize());
+    }
+
+    @Bean
+    public ExportProductPricesUseCase exportProductPricesUseCase(
+            ProductPriceExporter productPriceExporter
+    ) {
+        return new ExportProductPricesUseCase(productPriceExporter);
     }
 }
@@ -0,0 +1,27 @@
+package com.challenge.productservice.infrastructure.database;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Records how many prices the database matched for each lookup, whether they were all fetched or only counted
+ * next to the winner. Nothing is recorded until it is bound to a registry.
+ */
+final class CandidatesSummary implements MeterBinder {
+    private volatile DistributionSummary candidates;
+
+    void record(int count) {
+        DistributionSummary summary = candidates;
+        if (summary != null) {
+            summary.record(count);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        candidates = DistributionSummary.builder("product.price.repository.candidates")
+                .description("Prices matched in the database by each lookup")
+                .register(meterRegistry);
+    }
+}
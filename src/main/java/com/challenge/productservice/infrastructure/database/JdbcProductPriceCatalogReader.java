@@ -0,0 +1,112 @@
+package com.challenge.productservice.infrastructure.database;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.offheap.CatalogFingerprint;
+import com.challenge.productservice.infrastructure.partition.BrandPartition;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Reads the whole catalog, or the prices of the brands of a partition, sorted by product, brand and start date
+ * through a forward-only cursor, handing over one price at a time so callers building their own index never hold
+ * the catalog on the heap.
+ */
+public class JdbcProductPriceCatalogReader {
+    private static final int FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String selectCount;
+    private final String selectFingerprint;
+    private final String selectInKeyOrder;
+    private final String selectProductsAndBrands;
+    private final String selectProductsAndBrandsCount;
+
+    public JdbcProductPriceCatalogReader(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this(jdbcTemplate, transactionManager, BrandPartition.all());
+    }
+
+    public JdbcProductPriceCatalogReader(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            BrandPartition partition
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+
+        String where = partition.isAll() ? "" : partition.brandIds().stream()
+                .map(brandId -> Long.toString(brandId.value()))
+                .sorted()
+                .collect(Collectors.joining(", ", " WHERE brand_id IN (", ")"));
+        this.selectCount = "SELECT COUNT(*) FROM prices" + where;
+        this.selectFingerprint = "SELECT COUNT(*), COALESCE(SUM(change_version), 0) FROM prices" + where;
+        this.selectInKeyOrder = "SELECT " + JdbcProductPriceRepository.COLUMNS + " FROM prices" + where
+                + " ORDER BY product_id, brand_id, start_date";
+        this.selectProductsAndBrands = "SELECT DISTINCT product_id, brand_id FROM prices" + where
+                + " ORDER BY product_id, brand_id";
+        this.selectProductsAndBrandsCount =
+                "SELECT COUNT(*) FROM (SELECT DISTINCT product_id, brand_id FROM prices" + where + ") pairs";
+    }
+
+    public int count() {
+        Integer count = jdbcTemplate.queryForObject(selectCount, Integer.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Number of products and brands with at least one price, that is of pairs {@link #forEachProductAndBrand}
+     * hands over.
+     */
+    public int countProductsAndBrands() {
+        Integer count = jdbcTemplate.queryForObject(selectProductsAndBrandsCount, Integer.class);
+        return count == null ? 0 : count;
+    }
+
+    public CatalogFingerprint fingerprint() {
+        return jdbcTemplate.queryForObject(
+                selectFingerprint,
+                (resultSet, rowNum) -> new CatalogFingerprint(resultSet.getLong(1), resultSet.getLong(2))
+        );
+    }
+
+    public void forEachInKeyOrder(Consumer<ProductPrice> consumer) {
+        stream(selectInKeyOrder, resultSet ->
+                consumer.accept(JdbcProductPriceRepository.PRODUCT_PRICE.mapRow(resultSet, resultSet.getRow()))
+        );
+    }
+
+    /**
+     * Hands over every product and brand that has at least one price, once each.
+     */
+    public void forEachProductAndBrand(BiConsumer<ProductId, BrandId> consumer) {
+        stream(selectProductsAndBrands, resultSet ->
+                consumer.accept(new ProductId(resultSet.getLong(1)), new BrandId(resultSet.getLong(2)))
+        );
+    }
+
+    private void stream(String query, RowCallbackHandler rowHandler) {
+        PreparedStatementCreator statementCreator = connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    query,
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY
+            );
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        };
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(statementCreator, rowHandler));
+    }
+}
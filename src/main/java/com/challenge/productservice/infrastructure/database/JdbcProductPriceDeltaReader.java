@@ -0,0 +1,86 @@
+package com.challenge.productservice.infrastructure.database;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.inmemory.ProductPriceDelta;
+import com.challenge.productservice.infrastructure.inmemory.ProductPriceDeltaSource;
+import com.challenge.productservice.infrastructure.partition.BrandPartition;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Reads the prices and tombstones whose change version is greater than a given one, both within a single
+ * read-only transaction. The returned version is the highest one read. Versions are taken when rows are written,
+ * not when they commit, so a later call may still find rows below it; callers read again from an older version
+ * until every transaction that could hold one has ended. Given a partition, only the rows of its brands are read.
+ */
+public class JdbcProductPriceDeltaReader implements ProductPriceDeltaSource {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String selectPrices;
+    private final String selectTombstones;
+
+    public JdbcProductPriceDeltaReader(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this(jdbcTemplate, transactionManager, BrandPartition.all());
+    }
+
+    public JdbcProductPriceDeltaReader(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            BrandPartition partition
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+
+        String brands = partition.isAll() ? "" : partition.brandIds().stream()
+                .map(brandId -> Long.toString(brandId.value()))
+                .sorted()
+                .collect(Collectors.joining(", ", " AND brand_id IN (", ")"));
+        this.selectPrices = "SELECT " + JdbcProductPriceRepository.COLUMNS
+                + ", id, change_version FROM prices WHERE change_version > ?" + brands;
+        this.selectTombstones = "SELECT id, brand_id, product_id, change_version FROM price_tombstones"
+                + " WHERE change_version > ?" + brands;
+    }
+
+    @Override
+    public ProductPriceDelta changesSince(long version) {
+        return transactionTemplate.execute(status -> {
+            long[] maxVersion = {version};
+            Map<UUID, ProductPrice> upserted = new HashMap<>();
+            jdbcTemplate.query(selectPrices, (RowCallbackHandler) resultSet -> {
+                upserted.put(
+                        resultSet.getObject("id", UUID.class),
+                        JdbcProductPriceRepository.PRODUCT_PRICE.mapRow(resultSet, 0)
+                );
+                maxVersion[0] = Math.max(maxVersion[0], resultSet.getLong("change_version"));
+            }, version);
+
+            Map<UUID, ProductPriceDelta.Tombstone> deleted = new LinkedHashMap<>();
+            jdbcTemplate.query(selectTombstones, (RowCallbackHandler) resultSet -> {
+                UUID id = resultSet.getObject("id", UUID.class);
+                // A price still in the table was inserted again after being deleted
+                if (!upserted.containsKey(id)) {
+                    deleted.put(id, new ProductPriceDelta.Tombstone(
+                            id,
+                            new ProductId(resultSet.getLong("product_id")),
+                            new BrandId(resultSet.getLong("brand_id"))
+                    ));
+                }
+                maxVersion[0] = Math.max(maxVersion[0], resultSet.getLong("change_version"));
+            }, version);
+
+            return new ProductPriceDelta(maxVersion[0], upserted, List.copyOf(deleted.values()));
+        });
+    }
+}
@@ -0,0 +1,97 @@
+package com.challenge.productservice.infrastructure.database;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Currencies;
+import com.challenge.productservice.domain.productprice.EpochMicros;
+import com.challenge.productservice.domain.productprice.ExportedProductPrice;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceExporter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Reads the prices of a brand through a forward-only, read-only cursor that fetches a fixed number of rows per
+ * round trip, so memory use does not depend on the size of the catalog. Rows are ordered by id, which lets an
+ * interrupted export resume after the last id it received. The read runs in a read-only transaction because
+ * some drivers, like PostgreSQL, only honour the fetch size outside of auto-commit.
+ */
+public class JdbcProductPriceExporter implements ProductPriceExporter {
+    private static final String SELECT =
+            """
+                SELECT id, brand_id, start_date, end_date, price_list, product_id, priority, price, currency
+                FROM prices
+                WHERE brand_id = ?
+            """;
+    private static final String SELECT_ALL = SELECT + " ORDER BY id";
+    private static final String SELECT_AFTER = SELECT + " AND id > ? ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int fetchSize;
+
+    public JdbcProductPriceExporter(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            int fetchSize
+    ) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("Fetch size must be positive");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void exportProductPrices(BrandId brandId, Optional<UUID> after, Consumer<ExportedProductPrice> consumer) {
+        PreparedStatementCreator statementCreator = connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    after.isPresent() ? SELECT_AFTER : SELECT_ALL,
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY
+            );
+            statement.setFetchSize(fetchSize);
+            statement.setLong(1, brandId.value());
+            if (after.isPresent()) {
+                statement.setObject(2, after.get());
+            }
+            return statement;
+        };
+
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.query(statementCreator, (RowCallbackHandler) resultSet ->
+                        consumer.accept(toExportedProductPrice(resultSet))
+                )
+        );
+    }
+
+    private static ExportedProductPrice toExportedProductPrice(ResultSet resultSet) throws SQLException {
+        int currencyIndex = Currencies.indexOf(resultSet.getString("currency"));
+        return new ExportedProductPrice(
+                resultSet.getObject("id", UUID.class),
+                new ProductPrice(
+                        new BrandId(resultSet.getLong("brand_id")),
+                        EpochMicros.floor(resultSet.getObject("start_date", LocalDateTime.class)),
+                        EpochMicros.floor(resultSet.getObject("end_date", LocalDateTime.class)),
+                        resultSet.getInt("price_list"),
+                        new ProductId(resultSet.getLong("product_id")),
+                        resultSet.getInt("priority"),
+                        Currencies.toMinorUnits(resultSet.getBigDecimal("price")),
+                        currencyIndex
+                )
+        );
+    }
+}
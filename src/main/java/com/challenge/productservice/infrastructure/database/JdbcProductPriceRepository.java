@@ -0,0 +1,241 @@
+package com.challenge.productservice.infrastructure.database;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Currencies;
+import com.challenge.productservice.domain.productprice.EpochMicros;
+import com.challenge.productservice.domain.productprice.PriceSegment;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceKey;
+import com.challenge.productservice.domain.productprice.ProductPriceLookup;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.ProductPriceTimeline;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Read-only repository that maps rows straight to {@link ProductPrice}, skipping the entities, the persistence
+ * context and the query translation of {@link JpaProductPriceRepository}. It selects only the columns of a price,
+ * never the id, and every lookup uses the same constant SQL so the driver and the database can reuse its
+ * prepared statement and plan.
+ */
+public class JdbcProductPriceRepository implements ProductPriceRepository, MeterBinder {
+    static final String COLUMNS = "brand_id, start_date, end_date, price_list, product_id, priority, price, currency";
+    private static final String VALID_AT =
+            "(product_id = ? AND brand_id = ? AND start_date <= ? AND end_date >= ?)";
+
+    private static final String SELECT_VALID_AT =
+            "SELECT " + COLUMNS + " FROM prices WHERE " + VALID_AT;
+    private static final String SELECT_WINNER_VALID_AT =
+            "SELECT " + COLUMNS + ", COUNT(*) OVER () FROM prices WHERE " + VALID_AT
+                    + " ORDER BY priority DESC, start_date DESC, price_list DESC, end_date DESC, price DESC, currency DESC, id"
+                    + " FETCH FIRST 1 ROWS ONLY";
+    private static final String SELECT_NEXT_OVERRIDE =
+            "SELECT MIN(start_date) FROM prices"
+                    + " WHERE product_id = ? AND brand_id = ? AND start_date > ? AND start_date <= ? AND priority >= ?";
+    private static final String SELECT_TIMELINE =
+            "SELECT " + COLUMNS + " FROM prices WHERE product_id = ? AND brand_id = ?";
+    private static final String JOINED_COLUMNS =
+            "p.brand_id, p.start_date, p.end_date, p.price_list, p.product_id, p.priority, p.price, p.currency";
+
+    /**
+     * Batches join the prices with the keys passed as arrays, so every batch size runs the same statement
+     * and reuses the same plan.
+     */
+    static final String SELECT_VALID_AT_EACH =
+            "SELECT " + JOINED_COLUMNS + " FROM UNNEST("
+                    + "CAST(? AS BIGINT ARRAY), CAST(? AS BIGINT ARRAY), CAST(? AS TIMESTAMP ARRAY)"
+                    + ") AS k(product_id, brand_id, valid_at)"
+                    + " JOIN prices p ON p.product_id = k.product_id AND p.brand_id = k.brand_id"
+                    + " AND p.start_date <= k.valid_at AND p.end_date >= k.valid_at";
+    static final String SELECT_TIMELINE_EACH =
+            "SELECT " + JOINED_COLUMNS + " FROM UNNEST("
+                    + "CAST(? AS BIGINT ARRAY), CAST(? AS BIGINT ARRAY)"
+                    + ") AS k(product_id, brand_id)"
+                    + " JOIN prices p ON p.product_id = k.product_id AND p.brand_id = k.brand_id";
+
+    static final RowMapper<ProductPrice> PRODUCT_PRICE = (resultSet, rowNumber) -> {
+        int currencyIndex = Currencies.indexOf(resultSet.getString(8));
+        return new ProductPrice(
+                new BrandId(resultSet.getLong(1)),
+                EpochMicros.floor(resultSet.getObject(2, LocalDateTime.class)),
+                EpochMicros.floor(resultSet.getObject(3, LocalDateTime.class)),
+                resultSet.getInt(4),
+                new ProductId(resultSet.getLong(5)),
+                resultSet.getInt(6),
+                Currencies.toMinorUnits(resultSet.getBigDecimal(7)),
+                currencyIndex
+        );
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CandidatesSummary candidates = new CandidatesSummary();
+
+    public JdbcProductPriceRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<ProductPrice> getProductPrices(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        Timestamp validAtTimestamp = Timestamp.valueOf(validAt);
+        List<ProductPrice> productPrices = jdbcTemplate.query(
+                SELECT_VALID_AT,
+                PRODUCT_PRICE,
+                productId.value(),
+                brandId.value(),
+                validAtTimestamp,
+                validAtTimestamp
+        );
+        candidates.record(productPrices.size());
+        return productPrices;
+    }
+
+    /**
+     * Counts the candidates next to the winner, so the count comes with the one row fetched.
+     */
+    @Override
+    public Optional<ProductPrice> getProductPrice(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        Timestamp validAtTimestamp = Timestamp.valueOf(validAt);
+        int[] matched = new int[1];
+        Optional<ProductPrice> winner = jdbcTemplate.query(
+                SELECT_WINNER_VALID_AT,
+                (resultSet, rowNumber) -> {
+                    matched[0] = resultSet.getInt(9);
+                    return PRODUCT_PRICE.mapRow(resultSet, rowNumber);
+                },
+                productId.value(),
+                brandId.value(),
+                validAtTimestamp,
+                validAtTimestamp
+        ).stream().findFirst();
+        candidates.record(matched[0]);
+        return winner;
+    }
+
+    /**
+     * Picks the winner with the one-row query of {@link #getProductPrice} and ends its segment at the first later
+     * price that overrides it, that is one starting before the winner ends with at least its priority, found with
+     * a range scan of the lookup index. The segment starts at the given date.
+     */
+    @Override
+    public Optional<PriceSegment> getProductPriceSegment(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return getProductPrice(productId, brandId, validAt).map(winner -> getProductPriceSegment(winner, validAt));
+    }
+
+    /**
+     * Ends the segment of the price at the first later price that overrides it, with the range scan of
+     * {@link #getProductPriceSegment(ProductId, BrandId, LocalDateTime)}.
+     */
+    @Override
+    public PriceSegment getProductPriceSegment(ProductPrice productPrice, LocalDateTime validAt) {
+        LocalDateTime nextOverride = jdbcTemplate.queryForObject(
+                SELECT_NEXT_OVERRIDE,
+                LocalDateTime.class,
+                productPrice.productId().value(),
+                productPrice.brandId().value(),
+                Timestamp.valueOf(validAt),
+                Timestamp.valueOf(productPrice.endDate()),
+                productPrice.priority()
+        );
+        return new PriceSegment(validAt, nextOverride != null ? nextOverride : productPrice.endDate().plusNanos(1), productPrice);
+    }
+
+    /**
+     * Fetches the candidates of every distinct lookup with a single query and resolves each lookup in memory
+     * from the candidates of its product and brand.
+     */
+    @Override
+    public List<Optional<ProductPrice>> getProductPrices(List<ProductPriceLookup> lookups) {
+        if (lookups.isEmpty()) {
+            return List.of();
+        }
+
+        List<ProductPriceLookup> distinctLookups = new ArrayList<>(new LinkedHashSet<>(lookups));
+        Long[] productIds = new Long[distinctLookups.size()];
+        Long[] brandIds = new Long[distinctLookups.size()];
+        Timestamp[] validAts = new Timestamp[distinctLookups.size()];
+        for (int i = 0; i < distinctLookups.size(); i++) {
+            ProductPriceLookup lookup = distinctLookups.get(i);
+            productIds[i] = lookup.productId().value();
+            brandIds[i] = lookup.brandId().value();
+            validAts[i] = Timestamp.valueOf(lookup.validAt());
+        }
+
+        Map<PriceKey, List<ProductPrice>> candidatesByKey = new HashMap<>();
+        for (ProductPrice productPrice : jdbcTemplate.query(SELECT_VALID_AT_EACH, PRODUCT_PRICE, productIds, brandIds, validAts)) {
+            candidatesByKey
+                    .computeIfAbsent(new PriceKey(productPrice.productId(), productPrice.brandId()), key -> new ArrayList<>())
+                    .add(productPrice);
+        }
+
+        List<Optional<ProductPrice>> result = new ArrayList<>(lookups.size());
+        for (ProductPriceLookup lookup : lookups) {
+            List<ProductPrice> valid = candidatesByKey.getOrDefault(new PriceKey(lookup.productId(), lookup.brandId()), List.of())
+                    .stream()
+                    .filter(productPrice -> productPrice.isValidAt(lookup.validAt()))
+                    .toList();
+            candidates.record(valid.size());
+            result.add(valid.stream().max(ProductPrice.PRECEDENCE));
+        }
+        return result;
+    }
+
+    @Override
+    public ProductPriceTimeline getProductPriceTimeline(ProductId productId, BrandId brandId) {
+        List<ProductPrice> productPrices =
+                jdbcTemplate.query(SELECT_TIMELINE, PRODUCT_PRICE, productId.value(), brandId.value());
+        candidates.record(productPrices.size());
+        return ProductPriceTimeline.of(productPrices);
+    }
+
+    /**
+     * Fetches the prices of every distinct product and brand with a single query.
+     */
+    @Override
+    public List<ProductPriceTimeline> getProductPriceTimelines(List<ProductPriceKey> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        List<ProductPriceKey> distinctKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+        Long[] productIds = new Long[distinctKeys.size()];
+        Long[] brandIds = new Long[distinctKeys.size()];
+        for (int i = 0; i < distinctKeys.size(); i++) {
+            productIds[i] = distinctKeys.get(i).productId().value();
+            brandIds[i] = distinctKeys.get(i).brandId().value();
+        }
+
+        Map<ProductPriceKey, List<ProductPrice>> productPrices = new HashMap<>();
+        for (ProductPrice productPrice : jdbcTemplate.query(SELECT_TIMELINE_EACH, PRODUCT_PRICE, productIds, brandIds)) {
+            productPrices
+                    .computeIfAbsent(new ProductPriceKey(productPrice.productId(), productPrice.brandId()), key -> new ArrayList<>())
+                    .add(productPrice);
+        }
+
+        List<ProductPriceTimeline> timelines = new ArrayList<>(keys.size());
+        for (ProductPriceKey key : keys) {
+            List<ProductPrice> prices = productPrices.getOrDefault(key, List.of());
+            candidates.record(prices.size());
+            timelines.add(ProductPriceTimeline.of(prices));
+        }
+        return timelines;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        candidates.bindTo(meterRegistry);
+    }
+
+    private record PriceKey(ProductId productId, BrandId brandId) {}
+}
@@ -0,0 +1,54 @@
+package com.challenge.productservice.infrastructure.database;
+
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceWriter;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Inserts prices with a single JDBC batch per call, bypassing JPA so no entity is created or kept
+ * in a persistence context for each row.
+ */
+public class JdbcProductPriceWriter implements ProductPriceWriter {
+    private static final String INSERT =
+            """
+                INSERT INTO prices (id, brand_id, start_date, end_date, price_list, product_id, priority, price, currency)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcProductPriceWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(List<ProductPrice> productPrices) {
+        jdbcTemplate.batchUpdate(INSERT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int index) throws SQLException {
+                ProductPrice productPrice = productPrices.get(index);
+                statement.setObject(1, UUID.randomUUID());
+                statement.setLong(2, productPrice.brandId().value());
+                statement.setTimestamp(3, Timestamp.valueOf(productPrice.startDate()));
+                statement.setTimestamp(4, Timestamp.valueOf(productPrice.endDate()));
+                statement.setInt(5, productPrice.priceList());
+                statement.setLong(6, productPrice.productId().value());
+                statement.setInt(7, productPrice.priority());
+                statement.setBigDecimal(8, productPrice.price());
+                statement.setString(9, productPrice.currency().getCurrencyCode());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return productPrices.size();
+            }
+        });
+    }
+}
@@ -0,0 +1,44 @@
+package com.challenge.productservice.infrastructure.database;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.database.entity.ProductPriceEntity;
+import com.challenge.productservice.infrastructure.database.mapper.ProductPriceMapper;
+import com.challenge.productservice.infrastructure.partition.BrandPartition;
+import jakarta.persistence.EntityManager;
+
+import java.util.List;
+
+public class JpaProductPriceCatalogLoader {
+    private final EntityManager entityManager;
+    private final ProductPriceMapper mapper;
+
+    public JpaProductPriceCatalogLoader(EntityManager entityManager, ProductPriceMapper mapper) {
+        this.entityManager = entityManager;
+        this.mapper = mapper;
+    }
+
+    public List<ProductPrice> loadAll() {
+        return entityManager.createQuery("SELECT p FROM ProductPriceEntity p", ProductPriceEntity.class)
+                .getResultStream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    /**
+     * Loads only the prices of the brands of the partition.
+     */
+    public List<ProductPrice> loadAll(BrandPartition partition) {
+        if (partition.isAll()) {
+            return loadAll();
+        }
+        return entityManager.createQuery(
+                        "SELECT p FROM ProductPriceEntity p WHERE p.brandId IN :brandIds",
+                        ProductPriceEntity.class
+                )
+                .setParameter("brandIds", partition.brandIds().stream().map(BrandId::value).toList())
+                .getResultStream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+}
@@ -1,20 +1,53 @@
 package com.challenge.productservice.infrastructure.database;
 
 import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.PriceSegment;
 import com.challenge.productservice.domain.productprice.ProductId;
 import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceKey;
+import com.challenge.productservice.domain.productprice.ProductPriceLookup;
 import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.ProductPriceTimeline;
 import com.challenge.productservice.infrastructure.database.entity.ProductPriceEntity;
 import com.challenge.productservice.infrastructure.database.mapper.ProductPriceMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class JpaProductPriceRepository implements ProductPriceRepository, MeterBinder {
+    private static final String ENTITY_COLUMNS =
+            "p.id, p.brand_id, p.start_date, p.end_date, p.price_list, p.product_id, p.priority, p.price, p.currency";
+
+    /**
+     * Batches join the prices with the keys passed as arrays, so every batch size runs the same statement
+     * and reuses the same plan. JPQL cannot express the join, hence the native queries.
+     */
+    private static final String SELECT_VALID_AT_EACH =
+            "SELECT " + ENTITY_COLUMNS + " FROM UNNEST("
+                    + "CAST(?1 AS BIGINT ARRAY), CAST(?2 AS BIGINT ARRAY), CAST(?3 AS TIMESTAMP ARRAY)"
+                    + ") AS k(product_id, brand_id, valid_at)"
+                    + " JOIN prices p ON p.product_id = k.product_id AND p.brand_id = k.brand_id"
+                    + " AND p.start_date <= k.valid_at AND p.end_date >= k.valid_at";
+    private static final String SELECT_TIMELINE_EACH =
+            "SELECT " + ENTITY_COLUMNS + " FROM UNNEST("
+                    + "CAST(?1 AS BIGINT ARRAY), CAST(?2 AS BIGINT ARRAY)"
+                    + ") AS k(product_id, brand_id)"
+                    + " JOIN prices p ON p.product_id = k.product_id AND p.brand_id = k.brand_id";
 
-public class JpaProductPriceRepository implements ProductPriceRepository {
     private final EntityManager entityManager;
     private final ProductPriceMapper mapper;
+    private final CandidatesSummary candidates = new CandidatesSummary();
 
     public JpaProductPriceRepository(EntityManager entityManager, ProductPriceMapper mapper) {
         this.entityManager = entityManager;
@@ -38,8 +71,186 @@ public class JpaProductPriceRepository implements ProductPriceRepository {
                 .setParameter("validAt", validAt)
                 .getResultList();
 
+        candidates.record(entities.size());
         return entities.stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Lets the database pick the winner, ordering by {@link ProductPrice#PRECEDENCE} and keeping one row,
+     * so losing candidates are never fetched or mapped, only counted next to the winner.
+     */
+    @Override
+    public Optional<ProductPrice> getProductPrice(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        String query =
+                """
+                    SELECT p, COUNT(p) OVER () FROM ProductPriceEntity p
+                    WHERE p.productId = :productId
+                    AND p.brandId = :brandId
+                    AND p.startDate <= :validAt
+                    AND p.endDate >= :validAt
+                    ORDER BY p.priority DESC, p.startDate DESC, p.priceList DESC, p.endDate DESC, p.price DESC, p.currency DESC, p.id
+                """;
+
+        Optional<Object[]> winner = entityManager.createQuery(query, Object[].class)
+                .setParameter("productId", productId.value())
+                .setParameter("brandId", brandId.value())
+                .setParameter("validAt", validAt)
+                .setMaxResults(1)
+                .getResultStream()
+                .findFirst();
+        candidates.record(winner.map(row -> ((Number) row[1]).intValue()).orElse(0));
+        return winner.map(row -> mapper.toDomain((ProductPriceEntity) row[0]));
+    }
+
+    /**
+     * Picks the winner with the one-row query of {@link #getProductPrice} and ends its segment at the first later
+     * price that overrides it, that is one starting before the winner ends with at least its priority, found with
+     * a range scan of the lookup index. The segment starts at the given date.
+     */
+    @Override
+    public Optional<PriceSegment> getProductPriceSegment(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return getProductPrice(productId, brandId, validAt).map(winner -> getProductPriceSegment(winner, validAt));
+    }
+
+    /**
+     * Ends the segment of the price at the first later price that overrides it, with the range scan of
+     * {@link #getProductPriceSegment(ProductId, BrandId, LocalDateTime)}.
+     */
+    @Override
+    public PriceSegment getProductPriceSegment(ProductPrice productPrice, LocalDateTime validAt) {
+        String query =
+                """
+                    SELECT MIN(p.startDate) FROM ProductPriceEntity p
+                    WHERE p.productId = :productId
+                    AND p.brandId = :brandId
+                    AND p.startDate > :validAt
+                    AND p.startDate <= :endDate
+                    AND p.priority >= :priority
+                """;
+
+        LocalDateTime nextOverride = entityManager.createQuery(query, LocalDateTime.class)
+                .setParameter("productId", productPrice.productId().value())
+                .setParameter("brandId", productPrice.brandId().value())
+                .setParameter("validAt", validAt)
+                .setParameter("endDate", productPrice.endDate())
+                .setParameter("priority", productPrice.priority())
+                .getSingleResult();
+        return new PriceSegment(validAt, nextOverride != null ? nextOverride : productPrice.endDate().plusNanos(1), productPrice);
+    }
+
+    /**
+     * Fetches the candidates of every distinct lookup with a single query and resolves each lookup in memory
+     * from the candidates of its product and brand.
+     */
+    @Override
+    public List<Optional<ProductPrice>> getProductPrices(List<ProductPriceLookup> lookups) {
+        if (lookups.isEmpty()) {
+            return List.of();
+        }
+
+        List<ProductPriceLookup> distinctLookups = new ArrayList<>(new LinkedHashSet<>(lookups));
+        Long[] productIds = new Long[distinctLookups.size()];
+        Long[] brandIds = new Long[distinctLookups.size()];
+        LocalDateTime[] validAts = new LocalDateTime[distinctLookups.size()];
+        for (int i = 0; i < distinctLookups.size(); i++) {
+            ProductPriceLookup lookup = distinctLookups.get(i);
+            productIds[i] = lookup.productId().value();
+            brandIds[i] = lookup.brandId().value();
+            validAts[i] = lookup.validAt();
+        }
+
+        Query query = entityManager.createNativeQuery(SELECT_VALID_AT_EACH, ProductPriceEntity.class)
+                .setParameter(1, productIds)
+                .setParameter(2, brandIds)
+                .setParameter(3, validAts);
+
+        Map<PriceKey, List<ProductPrice>> candidatesByKey = new HashMap<>();
+        productPrices(query)
+                .forEach(productPrice -> candidatesByKey
+                        .computeIfAbsent(new PriceKey(productPrice.productId(), productPrice.brandId()), key -> new ArrayList<>())
+                        .add(productPrice)
+                );
+
+        List<Optional<ProductPrice>> result = new ArrayList<>(lookups.size());
+        for (ProductPriceLookup lookup : lookups) {
+            List<ProductPrice> valid = candidatesByKey.getOrDefault(new PriceKey(lookup.productId(), lookup.brandId()), List.of())
+                    .stream()
+                    .filter(productPrice -> productPrice.isValidAt(lookup.validAt()))
+                    .toList();
+            candidates.record(valid.size());
+            result.add(valid.stream().max(ProductPrice.PRECEDENCE));
+        }
+        return result;
+    }
+
+    @Override
+    public ProductPriceTimeline getProductPriceTimeline(ProductId productId, BrandId brandId) {
+        String query =
+                """
+                    SELECT p FROM ProductPriceEntity p
+                    WHERE p.productId = :productId
+                    AND p.brandId = :brandId
+                """;
+
+        List<ProductPrice> productPrices = entityManager.createQuery(query, ProductPriceEntity.class)
+                .setParameter("productId", productId.value())
+                .setParameter("brandId", brandId.value())
+                .getResultStream()
+                .map(mapper::toDomain)
+                .toList();
+
+        candidates.record(productPrices.size());
+        return ProductPriceTimeline.of(productPrices);
+    }
+
+    /**
+     * Fetches the prices of every distinct product and brand with a single query.
+     */
+    @Override
+    public List<ProductPriceTimeline> getProductPriceTimelines(List<ProductPriceKey> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        List<ProductPriceKey> distinctKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+        Long[] productIds = new Long[distinctKeys.size()];
+        Long[] brandIds = new Long[distinctKeys.size()];
+        for (int i = 0; i < distinctKeys.size(); i++) {
+            productIds[i] = distinctKeys.get(i).productId().value();
+            brandIds[i] = distinctKeys.get(i).brandId().value();
+        }
+
+        Query query = entityManager.createNativeQuery(SELECT_TIMELINE_EACH, ProductPriceEntity.class)
+                .setParameter(1, productIds)
+                .setParameter(2, brandIds);
+
+        Map<ProductPriceKey, List<ProductPrice>> productPrices = new HashMap<>();
+        productPrices(query)
+                .forEach(productPrice -> productPrices
+                        .computeIfAbsent(new ProductPriceKey(productPrice.productId(), productPrice.brandId()), key -> new ArrayList<>())
+                        .add(productPrice)
+                );
+
+        List<ProductPriceTimeline> timelines = new ArrayList<>(keys.size());
+        for (ProductPriceKey key : keys) {
+            List<ProductPrice> prices = productPrices.getOrDefault(key, List.of());
+            candidates.record(prices.size());
+            timelines.add(ProductPriceTimeline.of(prices));
+        }
+        return timelines;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        candidates.bindTo(meterRegistry);
+    }
+
+    private Stream<ProductPrice> productPrices(Query nativeQuery) {
+        Stream<?> rows = nativeQuery.getResultStream();
+        return rows.map(row -> mapper.toDomain((ProductPriceEntity) row));
+    }
+
+    private record PriceKey(ProductId productId, BrandId brandId) {}
 }
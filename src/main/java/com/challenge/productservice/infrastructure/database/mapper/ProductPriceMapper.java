@@ -1,24 +1,25 @@
 package com.challenge.productservice.infrastructure.database.mapper;
 
 import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Currencies;
+import com.challenge.productservice.domain.productprice.EpochMicros;
 import com.challenge.productservice.domain.productprice.ProductId;
 import com.challenge.productservice.domain.productprice.ProductPrice;
 import com.challenge.productservice.infrastructure.database.entity.ProductPriceEntity;
 
-import javax.money.Monetary;
-
 public class ProductPriceMapper {
 
     public ProductPrice toDomain(ProductPriceEntity entity) {
+        int currencyIndex = Currencies.indexOf(entity.getCurrency());
         return new ProductPrice(
                 new BrandId(entity.getBrandId()),
-                entity.getStartDate(),
-                entity.getEndDate(),
+                EpochMicros.floor(entity.getStartDate()),
+                EpochMicros.floor(entity.getEndDate()),
                 entity.getPriceList(),
                 new ProductId(entity.getProductId()),
                 entity.getPriority(),
-                entity.getPrice(),
-                Monetary.getCurrency(entity.getCurrency())
+                Currencies.toMinorUnits(entity.getPrice()),
+                currencyIndex
         );
     }
 }
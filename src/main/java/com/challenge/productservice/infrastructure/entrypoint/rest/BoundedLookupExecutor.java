@@ -0,0 +1,44 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Runs each lookup on a new thread of the given factory while fewer than {@code maxConcurrent} are running, and
+ * rejects it with a {@link RejectedExecutionException} otherwise. Nothing is queued, so a burst of requests is
+ * turned away at once rather than piling up threads waiting for the database.
+ */
+public class BoundedLookupExecutor implements Executor {
+    private final ThreadFactory threadFactory;
+    private final Semaphore permits;
+
+    public BoundedLookupExecutor(ThreadFactory threadFactory, int maxConcurrent) {
+        this.threadFactory = threadFactory;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    @Override
+    public void execute(Runnable lookup) {
+        if (!permits.tryAcquire()) {
+            throw new RejectedExecutionException("Too many lookups running");
+        }
+        try {
+            threadFactory.newThread(() -> {
+                try {
+                    lookup.run();
+                } finally {
+                    permits.release();
+                }
+            }).start();
+        } catch (RuntimeException exception) {
+            permits.release();
+            throw exception;
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+}
@@ -0,0 +1,78 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.Problem;
+import com.challenge.productservice.infrastructure.partition.BrandPartition;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * Answers requests for a brand outside the partition of this instance with a 421 Misdirected Request, with a
+ * Location pointing to the same request on the instance serving the brand when its route is known. Requests
+ * without a valid brandId parameter are left to the handlers.
+ */
+public class BrandPartitionFilter extends OncePerRequestFilter {
+    static final int MISDIRECTED_REQUEST = 421;
+
+    private final BrandPartition partition;
+    private final Map<Long, URI> routes;
+    private final ObjectMapper objectMapper;
+
+    public BrandPartitionFilter(BrandPartition partition, Map<Long, URI> routes, ObjectMapper objectMapper) {
+        this.partition = partition;
+        this.routes = Map.copyOf(routes);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        Long brandId = brandId(request);
+        if (brandId == null || partition.owns(new BrandId(brandId))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        URI route = routes.get(brandId);
+        if (route != null) {
+            response.setHeader(HttpHeaders.LOCATION, location(route, request));
+        }
+        response.setStatus(MISDIRECTED_REQUEST);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(
+                response.getOutputStream(),
+                new Problem(String.format("Brand %d is not served by this instance", brandId))
+        );
+    }
+
+    private static Long brandId(HttpServletRequest request) {
+        String brandId = request.getParameter("brandId");
+        if (brandId == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(brandId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String location(URI route, HttpServletRequest request) {
+        String base = route.toString().replaceAll("/+$", "");
+        String query = request.getQueryString();
+        return base + request.getRequestURI() + (query == null ? "" : "?" + query);
+    }
+}
@@ -0,0 +1,32 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.infrastructure.partition.BrandPartition;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Brands served by this instance and the base URL of the instance serving each other brand, when known.
+ */
+public record BrandRoutes(
+        BrandPartition partition,
+        Map<Long, URI> routes
+) {
+    public BrandRoutes {
+        routes = Map.copyOf(routes);
+    }
+
+    public static BrandRoutes all() {
+        return new BrandRoutes(BrandPartition.all(), Map.of());
+    }
+
+    public boolean serves(BrandId brandId) {
+        return partition.owns(brandId);
+    }
+
+    public Optional<URI> routeOf(BrandId brandId) {
+        return Optional.ofNullable(routes.get(brandId.value()));
+    }
+}
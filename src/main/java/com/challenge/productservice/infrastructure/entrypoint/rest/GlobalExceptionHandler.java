@@ -1,7 +1,11 @@
 package com.challenge.productservice.infrastructure.entrypoint.rest;
 
+import com.challenge.productservice.infrastructure.entrypoint.rest.importing.InvalidProductPriceLineException;
 import com.challenge.productservice.infrastructure.entrypoint.rest.response.Problem;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -37,4 +41,33 @@ public class GlobalExceptionHandler {
         return new Problem(message);
     }
 
+    @ExceptionHandler({
+        MethodArgumentNotValidException.class,
+    })
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    Problem handle(MethodArgumentNotValidException exception) {
+        FieldError fieldError = exception.getBindingResult().getFieldError();
+        if (fieldError == null) {
+            return new Problem("Request body is invalid");
+        }
+        String message = String.format("Field '%s' %s", fieldError.getField(), fieldError.getDefaultMessage());
+        return new Problem(message);
+    }
+
+    @ExceptionHandler({
+        HttpMessageNotReadableException.class,
+    })
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    Problem handle(HttpMessageNotReadableException exception) {
+        return new Problem("Request body is missing or malformed");
+    }
+
+    @ExceptionHandler({
+        InvalidProductPriceLineException.class,
+    })
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    Problem handle(InvalidProductPriceLineException exception) {
+        return new Problem(exception.getMessage());
+    }
+
 }
@@ -0,0 +1,58 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import com.challenge.productservice.application.getproductprice.GetProductPriceRequest;
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse;
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse.ProductPriceNotFound;
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse.Successful;
+import com.challenge.productservice.application.getproductprices.GetProductPricesRequest;
+import com.challenge.productservice.application.getproductprices.GetProductPricesUseCase;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.ProductPriceBatchResponse;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.ProductPriceResponse;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Looks up the prices of a batch shared by {@link ProductPriceController} and {@link ProductPriceHandler}. Lookups
+ * of brands served by this instance go to the use case in a single call, and the others are answered as
+ * misdirected, with the route of the instance serving their brand when it is known.
+ */
+final class ProductPriceBatch {
+    private static final String PRICE_NOT_FOUND = "Price not found for given parameters.";
+
+    private ProductPriceBatch() {}
+
+    static ProductPriceBatchResponse lookUp(
+            List<GetProductPriceRequest> lookups,
+            GetProductPricesUseCase getProductPricesUseCase,
+            BrandRoutes brandRoutes
+    ) {
+        List<GetProductPriceRequest> served = lookups.stream()
+                .filter(lookup -> brandRoutes.serves(lookup.brandId()))
+                .toList();
+        Iterator<GetProductPriceResponse> servedResults = served.isEmpty()
+                ? List.<GetProductPriceResponse>of().iterator()
+                : getProductPricesUseCase.execute(new GetProductPricesRequest(served)).results().iterator();
+
+        List<ProductPriceBatchResponse.Result> results = new ArrayList<>(lookups.size());
+        for (GetProductPriceRequest lookup : lookups) {
+            if (brandRoutes.serves(lookup.brandId())) {
+                results.add(result(servedResults.next()));
+            } else {
+                results.add(ProductPriceBatchResponse.Result.misdirected(
+                        String.format("Brand %d is not served by this instance", lookup.brandId().value()),
+                        brandRoutes.routeOf(lookup.brandId()).orElse(null)
+                ));
+            }
+        }
+        return new ProductPriceBatchResponse(results);
+    }
+
+    private static ProductPriceBatchResponse.Result result(GetProductPriceResponse response) {
+        return switch (response) {
+            case Successful successful -> ProductPriceBatchResponse.Result.found(ProductPriceResponse.from(successful.getProductPrice()));
+            case ProductPriceNotFound ignored -> ProductPriceBatchResponse.Result.notFound(PRICE_NOT_FOUND);
+        };
+    }
+}
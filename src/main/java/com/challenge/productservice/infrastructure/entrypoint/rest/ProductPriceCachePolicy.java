@@ -0,0 +1,44 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import org.springframework.http.CacheControl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * HTTP caching headers of a resolved price. The ETag is built from every field that ends up in the response, so
+ * two responses share it only when their bodies are identical, and it can be checked before serializing anything.
+ * The max-age runs until the next price boundary, bounded by a maximum since the catalog itself can change.
+ */
+public class ProductPriceCachePolicy {
+    private final Duration maxAge;
+
+    public ProductPriceCachePolicy(Duration maxAge) {
+        if (maxAge.isNegative()) {
+            throw new IllegalArgumentException("Max age must not be negative");
+        }
+        this.maxAge = maxAge;
+    }
+
+    public String etag(ProductPrice productPrice) {
+        return '"'
+                + Long.toString(productPrice.brandId().value(), 36) + '-'
+                + Long.toString(productPrice.productId().value(), 36) + '-'
+                + Integer.toString(productPrice.priceList(), 36) + '-'
+                + Long.toString(productPrice.startEpochMicros(), 36) + '-'
+                + Long.toString(productPrice.endEpochMicros(), 36) + '-'
+                + Long.toString(productPrice.priceMinorUnits(), 36) + '-'
+                + productPrice.currency().getCurrencyCode()
+                + '"';
+    }
+
+    public CacheControl cacheControl(LocalDateTime validAt, Optional<LocalDateTime> validUntil) {
+        Duration remaining = validUntil
+                .map(until -> Duration.between(validAt, until))
+                .filter(untilBoundary -> untilBoundary.compareTo(maxAge) < 0)
+                .orElse(maxAge);
+        return CacheControl.maxAge(Duration.ofSeconds(remaining.toSeconds()));
+    }
+}
@@ -5,10 +5,14 @@ import com.challenge.productservice.application.getproductprice.GetProductPriceR
 import com.challenge.productservice.application.getproductprice.GetProductPriceResponse.ProductPriceNotFound;
 import com.challenge.productservice.application.getproductprice.GetProductPriceResponse.Successful;
 import com.challenge.productservice.application.getproductprice.GetProductPriceUseCase;
+import com.challenge.productservice.application.getproductprices.GetProductPricesUseCase;
 import com.challenge.productservice.domain.productprice.BrandId;
 import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.infrastructure.entrypoint.rest.request.ProductPriceBatchRequest;
 import com.challenge.productservice.infrastructure.entrypoint.rest.response.Problem;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.ProductPriceBatchResponse;
 import com.challenge.productservice.infrastructure.entrypoint.rest.response.ProductPriceResponse;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.ProductPriceResponseCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,17 +20,26 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
+@ConditionalOnProperty(name = "product-service.entrypoint", havingValue = "annotated", matchIfMissing = true)
 @RequestMapping("/prices")
 @Tag(
     name = "Product Price",
@@ -34,10 +47,26 @@ import java.time.LocalDateTime;
 )
 public class ProductPriceController {
 
+    private static final String PRICE_NOT_FOUND = "Price not found for given parameters.";
+
     private final GetProductPriceUseCase getProductPriceUseCase;
+    private final GetProductPricesUseCase getProductPricesUseCase;
+    private final ProductPriceResponseCache responseCache;
+    private final ProductPriceCachePolicy cachePolicy;
+    private final BrandRoutes brandRoutes;
 
-    public ProductPriceController(GetProductPriceUseCase getProductPriceUseCase) {
+    public ProductPriceController(
+            GetProductPriceUseCase getProductPriceUseCase,
+            GetProductPricesUseCase getProductPricesUseCase,
+            ProductPriceResponseCache responseCache,
+            ProductPriceCachePolicy cachePolicy,
+            BrandRoutes brandRoutes
+    ) {
         this.getProductPriceUseCase = getProductPriceUseCase;
+        this.getProductPricesUseCase = getProductPricesUseCase;
+        this.responseCache = responseCache;
+        this.cachePolicy = cachePolicy;
+        this.brandRoutes = brandRoutes;
     }
     @Operation(
             summary = "Get a product price",
@@ -54,6 +83,10 @@ public class ProductPriceController {
                             )
                     }
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "The price matches the ETag sent in If-None-Match."
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Price not found for given parameters.",
@@ -80,7 +113,8 @@ public class ProductPriceController {
     public ResponseEntity<Object> getProductPrice(
             @Parameter(example = "35455") @RequestParam long productId,
             @Parameter(example = "1") @RequestParam long brandId,
-            @Parameter(example = "2020-06-14T15:50:00") @RequestParam LocalDateTime validAt
+            @Parameter(example = "2020-06-14T15:50:00") @RequestParam LocalDateTime validAt,
+            @Parameter(hidden = true) WebRequest webRequest
     ) {
 
         GetProductPriceRequest request = new GetProductPriceRequest(
@@ -91,21 +125,72 @@ public class ProductPriceController {
         GetProductPriceResponse productPrice = getProductPriceUseCase.execute(request);
 
         return switch (productPrice) {
-            case Successful response -> ResponseEntity.ok(
-                    new ProductPriceResponse(
-                        response.getProductPrice().productId().value(),
-                        response.getProductPrice().brandId().value(),
-                        response.getProductPrice().priceList(),
-                        response.getProductPrice().startDate(),
-                        response.getProductPrice().endDate(),
-                        response.getProductPrice().price(),
-                        response.getProductPrice().currency().getCurrencyCode()
-                )
-            );
+            case Successful response -> {
+                String etag = cachePolicy.etag(response.getProductPrice());
+                CacheControl cacheControl = cachePolicy.cacheControl(validAt, response.getValidUntil());
+                if (webRequest.checkNotModified(etag)) {
+                    yield ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+                }
+                yield ResponseEntity.ok()
+                        .eTag(etag)
+                        .cacheControl(cacheControl)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(responseCache.json(response.getProductPrice()));
+            }
             case ProductPriceNotFound ignored -> {
-                Problem problem = new Problem("Price not found for given parameters.");
+                Problem problem = new Problem(PRICE_NOT_FOUND);
                 yield ResponseEntity.status(HttpStatus.NOT_FOUND).body(problem);
             }
         };
     }
+
+    @Operation(
+            summary = "Get many product prices",
+            description = "Fetches the price valid at the provided date for each lookup, with one result per lookup in request order. "
+                    + "Lookups of brands served by another instance are answered as misdirected, with its route when known."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successful response",
+                    content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProductPriceBatchResponse.class)
+                            )
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid lookups.",
+                    content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = Problem.class)
+                            )
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = Problem.class)
+                            )
+                    }
+            )
+    })
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.OK)
+    public ProductPriceBatchResponse getProductPrices(@Valid @RequestBody ProductPriceBatchRequest batchRequest) {
+        List<GetProductPriceRequest> lookups = batchRequest.lookups().stream()
+                .map(lookup -> new GetProductPriceRequest(
+                        new ProductId(lookup.productId()),
+                        new BrandId(lookup.brandId()),
+                        lookup.validAt()
+                ))
+                .toList();
+        return ProductPriceBatch.lookUp(lookups, getProductPricesUseCase, brandRoutes);
+    }
 }
@@ -0,0 +1,172 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import com.challenge.productservice.application.exportproductprices.ExportProductPricesRequest;
+import com.challenge.productservice.application.exportproductprices.ExportProductPricesResponse;
+import com.challenge.productservice.application.exportproductprices.ExportProductPricesUseCase;
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ExportedProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.Problem;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.ProductPriceExportLine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/prices/export")
+@Tag(
+    name = "Product Price Export",
+    description = "API for pulling the whole price catalog of a brand."
+)
+public class ProductPriceExportController {
+    private static final String GZIP = "gzip";
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final Logger log = LoggerFactory.getLogger(ProductPriceExportController.class);
+
+    private final ExportProductPricesUseCase exportProductPricesUseCase;
+    private final ObjectWriter lineWriter;
+
+    public ProductPriceExportController(ExportProductPricesUseCase exportProductPricesUseCase, ObjectMapper objectMapper) {
+        this.exportProductPricesUseCase = exportProductPricesUseCase;
+        this.lineWriter = objectMapper.writerFor(ProductPriceExportLine.class);
+    }
+
+    @Operation(
+            summary = "Export the prices of a brand",
+            description = "Streams every price of the brand as NDJSON in id order, straight from a database cursor. "
+                    + "Pass the id of the last line received as 'after' to resume an interrupted export. "
+                    + "The response is gzip compressed when the request accepts it."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Prices of the brand, one JSON object per line",
+                    content = {
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                    schema = @Schema(implementation = ProductPriceExportLine.class)
+                            )
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid parameters supplied",
+                    content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = Problem.class)
+                            )
+                    }
+            )
+    })
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportPrices(
+            @RequestParam long brandId,
+            @RequestParam(required = false) UUID after,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response
+    ) throws IOException {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+
+        try (OutputStream body = body(response.getOutputStream(), gzip)) {
+            ExportProductPricesResponse result = exportProductPricesUseCase.execute(
+                    new ExportProductPricesRequest(new BrandId(brandId), Optional.ofNullable(after)),
+                    productPrice -> writeLine(body, productPrice)
+            );
+            log.info("Exported {} prices of brand {}", result.exportedRows(), brandId);
+        }
+    }
+
+    private void writeLine(OutputStream body, ExportedProductPrice exportedProductPrice) {
+        ProductPrice productPrice = exportedProductPrice.productPrice();
+        ProductPriceExportLine line = new ProductPriceExportLine(
+                exportedProductPrice.id(),
+                productPrice.brandId().value(),
+                productPrice.productId().value(),
+                productPrice.priceList(),
+                productPrice.priority(),
+                productPrice.startDate(),
+                productPrice.endDate(),
+                productPrice.price(),
+                productPrice.currency().getCurrencyCode()
+        );
+        try {
+            body.write(lineWriter.writeValueAsBytes(line));
+            body.write('\n');
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Reads the Accept-Encoding codings and their q-values. Gzip is accepted when listed by name, or through
+     * the * wildcard when not listed, with a q-value above zero.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        boolean wildcardAccepted = false;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parameters = element.split(";");
+            String coding = parameters[0].trim();
+            boolean accepted = qValue(parameters) > 0;
+            if (coding.equalsIgnoreCase(GZIP)) {
+                return accepted;
+            }
+            if (coding.equals("*")) {
+                wildcardAccepted = accepted;
+            }
+        }
+        return wildcardAccepted;
+    }
+
+    private static double qValue(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.length() > 2 && parameter.substring(0, 2).equalsIgnoreCase("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException exception) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static OutputStream body(OutputStream outputStream, boolean gzip) throws IOException {
+        return gzip
+                ? new GZIPOutputStream(outputStream, BUFFER_SIZE)
+                : new BufferedOutputStream(outputStream, BUFFER_SIZE);
+    }
+}
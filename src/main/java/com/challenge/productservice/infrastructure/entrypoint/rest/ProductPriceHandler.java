@@ -0,0 +1,168 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import com.challenge.productservice.application.getproductprice.GetProductPriceRequest;
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse.ProductPriceNotFound;
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse.Successful;
+import com.challenge.productservice.application.getproductprice.GetProductPriceUseCase;
+import com.challenge.productservice.application.getproductprices.GetProductPricesUseCase;
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.infrastructure.entrypoint.rest.request.ProductPriceBatchRequest;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.Problem;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.ProductPriceResponseCache;
+import jakarta.servlet.ServletException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.DataBinder;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.Validator;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Functional alternative to {@link ProductPriceController} serving the same contract, including the error bodies of
+ * {@link GlobalExceptionHandler}. Requests are validated on the servlet thread and then handed over to the given
+ * executor, meant to run each lookup on its own virtual thread, so the servlet thread is released while the lookup
+ * waits on the database and the response is written when it completes. Lookups the executor rejects are answered
+ * with 503 Service Unavailable.
+ */
+public class ProductPriceHandler {
+
+    private static final String PRICE_NOT_FOUND = "Price not found for given parameters.";
+
+    private final GetProductPriceUseCase getProductPriceUseCase;
+    private final GetProductPricesUseCase getProductPricesUseCase;
+    private final ProductPriceResponseCache responseCache;
+    private final ProductPriceCachePolicy cachePolicy;
+    private final Validator validator;
+    private final BrandRoutes brandRoutes;
+    private final Executor executor;
+
+    public ProductPriceHandler(
+            GetProductPriceUseCase getProductPriceUseCase,
+            GetProductPricesUseCase getProductPricesUseCase,
+            ProductPriceResponseCache responseCache,
+            ProductPriceCachePolicy cachePolicy,
+            Validator validator,
+            BrandRoutes brandRoutes,
+            Executor executor
+    ) {
+        this.getProductPriceUseCase = getProductPriceUseCase;
+        this.getProductPricesUseCase = getProductPricesUseCase;
+        this.responseCache = responseCache;
+        this.cachePolicy = cachePolicy;
+        this.validator = validator;
+        this.brandRoutes = brandRoutes;
+        this.executor = executor;
+    }
+
+    public ServerResponse getProductPrice(ServerRequest request) {
+        Optional<String> productId = request.param("productId");
+        Optional<String> brandId = request.param("brandId");
+        Optional<String> validAt = request.param("validAt");
+        Optional<ServerResponse> invalidParameter = missingOrInvalid(productId, "productId", Long::parseLong)
+                .or(() -> missingOrInvalid(brandId, "brandId", Long::parseLong))
+                .or(() -> missingOrInvalid(validAt, "validAt", LocalDateTime::parse));
+        if (invalidParameter.isPresent()) {
+            return invalidParameter.get();
+        }
+
+        GetProductPriceRequest useCaseRequest = new GetProductPriceRequest(
+                new ProductId(Long.parseLong(productId.get())),
+                new BrandId(Long.parseLong(brandId.get())),
+                LocalDateTime.parse(validAt.get())
+        );
+        return async(() -> switch (getProductPriceUseCase.execute(useCaseRequest)) {
+            case Successful response -> {
+                String etag = cachePolicy.etag(response.getProductPrice());
+                CacheControl cacheControl = cachePolicy.cacheControl(useCaseRequest.validAt(), response.getValidUntil());
+                if (request.checkNotModified(etag).isPresent()) {
+                    yield ServerResponse.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+                }
+                yield ServerResponse.ok()
+                        .eTag(etag)
+                        .cacheControl(cacheControl)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(responseCache.json(response.getProductPrice()));
+            }
+            case ProductPriceNotFound ignored -> problem(HttpStatus.NOT_FOUND, PRICE_NOT_FOUND);
+        });
+    }
+
+    public ServerResponse getProductPrices(ServerRequest request) throws ServletException, IOException {
+        ProductPriceBatchRequest batchRequest;
+        try {
+            batchRequest = request.body(ProductPriceBatchRequest.class);
+        } catch (HttpMessageNotReadableException e) {
+            return problem(HttpStatus.BAD_REQUEST, "Request body is missing or malformed");
+        }
+
+        DataBinder binder = new DataBinder(batchRequest, "batchRequest");
+        binder.setValidator(validator);
+        binder.validate();
+        if (binder.getBindingResult().hasErrors()) {
+            FieldError fieldError = binder.getBindingResult().getFieldError();
+            return problem(HttpStatus.BAD_REQUEST, fieldError == null
+                    ? "Request body is invalid"
+                    : String.format("Field '%s' %s", fieldError.getField(), fieldError.getDefaultMessage()));
+        }
+
+        List<GetProductPriceRequest> lookups = batchRequest.lookups().stream()
+                .map(lookup -> new GetProductPriceRequest(
+                        new ProductId(lookup.productId()),
+                        new BrandId(lookup.brandId()),
+                        lookup.validAt()
+                ))
+                .toList();
+        return async(() -> ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ProductPriceBatch.lookUp(lookups, getProductPricesUseCase, brandRoutes)));
+    }
+
+    private ServerResponse async(Supplier<ServerResponse> response) {
+        CompletableFuture<ServerResponse> lookup;
+        try {
+            lookup = CompletableFuture.supplyAsync(response, executor);
+        } catch (RejectedExecutionException e) {
+            return problem(HttpStatus.SERVICE_UNAVAILABLE, "Too many lookups in progress, retry later");
+        }
+        return ServerResponse.async(
+                lookup.exceptionally(exception -> problem(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred"))
+        );
+    }
+
+    private static Optional<ServerResponse> missingOrInvalid(
+            Optional<String> value,
+            String name,
+            Function<String, ?> parser
+    ) {
+        if (value.isEmpty()) {
+            return Optional.of(problem(
+                    HttpStatus.BAD_REQUEST,
+                    String.format("Required request parameter '%s' is not present", name)
+            ));
+        }
+        try {
+            parser.apply(value.get());
+            return Optional.empty();
+        } catch (RuntimeException e) {
+            return Optional.of(problem(HttpStatus.BAD_REQUEST, String.format("Parameter '%s' has an invalid type", name)));
+        }
+    }
+
+    private static ServerResponse problem(HttpStatus status, String detail) {
+        return ServerResponse.status(status).contentType(MediaType.APPLICATION_JSON).body(new Problem(detail));
+    }
+}
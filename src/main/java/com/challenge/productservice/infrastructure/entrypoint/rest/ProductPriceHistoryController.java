@@ -0,0 +1,102 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import com.challenge.productservice.application.getproductpricehistory.GetProductPriceHistoryRequest;
+import com.challenge.productservice.application.getproductpricehistory.GetProductPriceHistoryResponse;
+import com.challenge.productservice.application.getproductpricehistory.GetProductPriceHistoryUseCase;
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.Problem;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.ProductPriceHistoryResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/prices/history")
+@Tag(
+    name = "Product Price History",
+    description = "API for retrieving how the price of a product changed over time."
+)
+public class ProductPriceHistoryController {
+
+    private final GetProductPriceHistoryUseCase getProductPriceHistoryUseCase;
+
+    public ProductPriceHistoryController(GetProductPriceHistoryUseCase getProductPriceHistoryUseCase) {
+        this.getProductPriceHistoryUseCase = getProductPriceHistoryUseCase;
+    }
+
+    @Operation(
+            summary = "Get the price history of a product",
+            description = "Returns the prices that apply to the product and brand between two dates, both inclusive, "
+                    + "as consecutive segments with priority overrides already resolved. Periods without any price "
+                    + "are left out."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successful response",
+                    content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProductPriceHistoryResponse.class)
+                            )
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid parameters supplied",
+                    content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = Problem.class)
+                            )
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = Problem.class)
+                            )
+                    }
+            )
+    })
+    @GetMapping
+    public ResponseEntity<Object> getProductPriceHistory(
+            @Parameter(example = "35455") @RequestParam long productId,
+            @Parameter(example = "1") @RequestParam long brandId,
+            @Parameter(example = "2020-06-14T00:00:00") @RequestParam LocalDateTime from,
+            @Parameter(example = "2020-06-15T23:59:59") @RequestParam LocalDateTime to
+    ) {
+        if (from.isAfter(to)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new Problem("Parameter 'from' must not be after 'to'"));
+        }
+
+        GetProductPriceHistoryResponse history = getProductPriceHistoryUseCase.execute(new GetProductPriceHistoryRequest(
+                new ProductId(productId),
+                new BrandId(brandId),
+                from,
+                to
+        ));
+
+        return ResponseEntity.ok(new ProductPriceHistoryResponse(
+                productId,
+                brandId,
+                history.segments().stream().map(ProductPriceHistoryResponse.Segment::from).toList()
+        ));
+    }
+}
@@ -0,0 +1,115 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import com.challenge.productservice.application.importproductprices.ImportProductPricesRequest;
+import com.challenge.productservice.application.importproductprices.ImportProductPricesResponse;
+import com.challenge.productservice.application.importproductprices.ImportProductPricesUseCase;
+import com.challenge.productservice.infrastructure.entrypoint.rest.importing.ProductPriceLineReader;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.Problem;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.ProductPriceImportResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/prices/import")
+@Tag(
+    name = "Product Price Import",
+    description = "API for bulk loading product prices."
+)
+public class ProductPriceImportController {
+    static final String TEXT_CSV = "text/csv";
+    static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private static final Logger log = LoggerFactory.getLogger(ProductPriceImportController.class);
+
+    private final ImportProductPricesUseCase importProductPricesUseCase;
+    private final ObjectMapper objectMapper;
+
+    public ProductPriceImportController(ImportProductPricesUseCase importProductPricesUseCase, ObjectMapper objectMapper) {
+        this.importProductPricesUseCase = importProductPricesUseCase;
+        this.objectMapper = objectMapper;
+    }
+
+    @Operation(
+            summary = "Import product prices",
+            description = "Streams CSV or NDJSON prices into the catalog in batches. CSV lines hold brand_id, start_date, "
+                    + "end_date, price_list, product_id, priority, price and currency, with an optional header line. "
+                    + "Batches written before an invalid line stay imported."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Prices imported",
+                    content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ProductPriceImportResponse.class)
+                            )
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid line in the import.",
+                    content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = Problem.class)
+                            )
+                    }
+            )
+    })
+    @PostMapping(consumes = TEXT_CSV)
+    @ResponseStatus(HttpStatus.OK)
+    public ProductPriceImportResponse importCsv(InputStream body) throws IOException {
+        try (BufferedReader reader = reader(body)) {
+            return importPrices(ProductPriceLineReader.csv(reader));
+        }
+    }
+
+    @PostMapping(consumes = APPLICATION_NDJSON)
+    @ResponseStatus(HttpStatus.OK)
+    public ProductPriceImportResponse importNdjson(InputStream body) throws IOException {
+        try (BufferedReader reader = reader(body)) {
+            return importPrices(ProductPriceLineReader.ndjson(reader, objectMapper.reader()));
+        }
+    }
+
+    private ProductPriceImportResponse importPrices(ProductPriceLineReader productPrices) {
+        ImportProductPricesResponse response = importProductPricesUseCase.execute(
+                new ImportProductPricesRequest(productPrices)
+        );
+        log.info(
+                "Imported {} prices in {} ms ({} rows/s)",
+                response.importedRows(),
+                response.elapsed().toMillis(),
+                Math.round(response.rowsPerSecond())
+        );
+
+        return new ProductPriceImportResponse(
+                response.importedRows(),
+                response.elapsed().toMillis(),
+                response.rowsPerSecond()
+        );
+    }
+
+    private static BufferedReader reader(InputStream body) {
+        return new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    }
+}
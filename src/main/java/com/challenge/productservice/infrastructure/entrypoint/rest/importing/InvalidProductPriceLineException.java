@@ -0,0 +1,14 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest.importing;
+
+public class InvalidProductPriceLineException extends RuntimeException {
+    private final long lineNumber;
+
+    public InvalidProductPriceLineException(long lineNumber, String reason, Throwable cause) {
+        super(String.format("Line %d is invalid: %s", lineNumber, reason), cause);
+        this.lineNumber = lineNumber;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+}
@@ -0,0 +1,18 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest.importing;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One NDJSON import line, named like the fields of the price responses.
+ */
+record ProductPriceImportLine(
+        Long brandId,
+        Long productId,
+        Integer priceList,
+        Integer priority,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        BigDecimal price,
+        String currency
+) {}
@@ -0,0 +1,140 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest.importing;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import javax.money.Monetary;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Parses an import one line at a time as it is iterated, so only the current line is held in memory.
+ * Blank lines are skipped. CSV lines hold the columns of the prices table except the id, in table order,
+ * and may be preceded by a header line starting with brand_id.
+ */
+public class ProductPriceLineReader implements Iterator<ProductPrice> {
+    private static final String CSV_HEADER_START = "brand_id";
+    private static final int CSV_COLUMNS = 8;
+
+    private final BufferedReader reader;
+    private final LineParser parser;
+    private long lineNumber;
+    private ProductPrice next;
+
+    private ProductPriceLineReader(BufferedReader reader, LineParser parser) {
+        this.reader = reader;
+        this.parser = parser;
+    }
+
+    public static ProductPriceLineReader csv(BufferedReader reader) {
+        return new ProductPriceLineReader(reader, ProductPriceLineReader::parseCsv);
+    }
+
+    public static ProductPriceLineReader ndjson(BufferedReader reader, ObjectReader objectReader) {
+        ObjectReader lineReader = objectReader.forType(ProductPriceImportLine.class);
+        return new ProductPriceLineReader(reader, (line, lineNumber) -> parseNdjson(lineReader, line));
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null) {
+            String line = readLine();
+            if (line == null) {
+                return false;
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                next = parser.parse(line.trim(), lineNumber);
+            } catch (InvalidProductPriceLineException exception) {
+                throw exception;
+            } catch (Exception exception) {
+                throw new InvalidProductPriceLineException(lineNumber, exception.getMessage(), exception);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public ProductPrice next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ProductPrice current = next;
+        next = null;
+        return current;
+    }
+
+    private String readLine() {
+        try {
+            String line = reader.readLine();
+            lineNumber++;
+            return line;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static ProductPrice parseCsv(String line, long lineNumber) {
+        if (lineNumber == 1 && line.startsWith(CSV_HEADER_START)) {
+            return null;
+        }
+        String[] columns = line.split(",", -1);
+        if (columns.length != CSV_COLUMNS) {
+            throw new InvalidProductPriceLineException(
+                    lineNumber,
+                    String.format("expected %d columns but found %d", CSV_COLUMNS, columns.length),
+                    null
+            );
+        }
+        return new ProductPrice(
+                new BrandId(Long.parseLong(columns[0].trim())),
+                parseDateTime(columns[1]),
+                parseDateTime(columns[2]),
+                Integer.parseInt(columns[3].trim()),
+                new ProductId(Long.parseLong(columns[4].trim())),
+                Integer.parseInt(columns[5].trim()),
+                new BigDecimal(columns[6].trim()),
+                Monetary.getCurrency(columns[7].trim())
+        );
+    }
+
+    private static ProductPrice parseNdjson(ObjectReader lineReader, String line) throws IOException {
+        ProductPriceImportLine importLine = lineReader.readValue(line);
+        return new ProductPrice(
+                new BrandId(required(importLine.brandId(), "brandId")),
+                required(importLine.startDate(), "startDate"),
+                required(importLine.endDate(), "endDate"),
+                required(importLine.priceList(), "priceList"),
+                new ProductId(required(importLine.productId(), "productId")),
+                required(importLine.priority(), "priority"),
+                required(importLine.price(), "price"),
+                Monetary.getCurrency(required(importLine.currency(), "currency"))
+        );
+    }
+
+    // Accepts both ISO dates and the SQL style used in data.sql
+    private static LocalDateTime parseDateTime(String value) {
+        return LocalDateTime.parse(value.trim().replace(' ', 'T'));
+    }
+
+    private static <T> T required(T value, String field) {
+        if (value == null) {
+            throw new IllegalArgumentException(String.format("field '%s' is missing", field));
+        }
+        return value;
+    }
+
+    @FunctionalInterface
+    private interface LineParser {
+        ProductPrice parse(String line, long lineNumber) throws Exception;
+    }
+}
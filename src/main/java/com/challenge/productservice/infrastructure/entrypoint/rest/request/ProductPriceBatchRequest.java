@@ -0,0 +1,42 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ProductPriceBatchRequest(
+        @Schema(description = "Price lookups, results are returned in the same order")
+        @NotEmpty
+        @Size(max = ProductPriceBatchRequest.MAX_LOOKUPS)
+        List<@NotNull @Valid Lookup> lookups
+) {
+    public static final int MAX_LOOKUPS = 500;
+
+    public record Lookup(
+            @Schema(
+                description = "Product ID",
+                example = "35455"
+            )
+            @NotNull
+            Long productId,
+
+            @Schema(
+                description = "Brand ID",
+                example = "1"
+            )
+            @NotNull
+            Long brandId,
+
+            @Schema(
+                description = "Date at which the price must be valid",
+                example = "2020-06-14T15:50:00"
+            )
+            @NotNull
+            LocalDateTime validAt
+    ) {}
+}
@@ -0,0 +1,59 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.net.URI;
+import java.util.List;
+
+public record ProductPriceBatchResponse(
+        @Schema(description = "One result per lookup, in the order of the request")
+        List<Result> results
+) {
+    public record Result(
+            @Schema(
+                description = "Outcome of the lookup",
+                example = "found"
+            )
+            Status status,
+
+            @Schema(
+                description = "Whether a price was found for the lookup",
+                example = "true"
+            )
+            boolean found,
+
+            @Schema(description = "Price found for the lookup, absent when not found")
+            ProductPriceResponse price,
+
+            @Schema(
+                description = "Reason why no price was found, absent when found",
+                example = "Price not found for given parameters."
+            )
+            String detail,
+
+            @Schema(
+                description = "Base URL of the instance serving the brand of a misdirected lookup, absent when unknown",
+                example = "http://localhost:8082"
+            )
+            URI route
+    ) {
+        public static Result found(ProductPriceResponse price) {
+            return new Result(Status.FOUND, true, price, null, null);
+        }
+
+        public static Result notFound(String detail) {
+            return new Result(Status.NOT_FOUND, false, null, detail, null);
+        }
+
+        public static Result misdirected(String detail, URI route) {
+            return new Result(Status.MISDIRECTED, false, null, detail, route);
+        }
+    }
+
+    public enum Status {
+        @JsonProperty("found") FOUND,
+        @JsonProperty("not_found") NOT_FOUND,
+        @JsonProperty("misdirected") MISDIRECTED
+    }
+}
@@ -0,0 +1,63 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ProductPriceExportLine(
+        @Schema(
+            description = "Price ID, pass the last one received as 'after' to resume the export",
+            example = "3f2b6c1e-7a0d-4d5e-9b1a-2c3d4e5f6a7b"
+        )
+        UUID id,
+
+        @Schema(
+            description = "Brand ID",
+            example = "1"
+        )
+        long brandId,
+
+        @Schema(
+            description = "Product ID",
+            example = "1"
+        )
+        long productId,
+
+        @Schema(
+            description = "Price list ID",
+            example = "1"
+        )
+        int priceList,
+
+        @Schema(
+            description = "Price priority, the highest one wins when prices overlap",
+            example = "0"
+        )
+        int priority,
+
+        @Schema(
+            description = "Price start date",
+            example = "2024-10-04T11:14:29.070Z"
+        )
+        LocalDateTime startDate,
+
+        @Schema(
+            description = "Price end date",
+            example = "2024-12-04T11:14:29.070Z"
+        )
+        LocalDateTime endDate,
+
+        @Schema(
+            description = "Price amount",
+            example = "25.50"
+        )
+        BigDecimal price,
+
+        @Schema(
+            description = "Price currency",
+            example = "EUR"
+        )
+        String currency
+) {}
@@ -0,0 +1,77 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest.response;
+
+import com.challenge.productservice.domain.productprice.PriceSegment;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ProductPriceHistoryResponse(
+        @Schema(
+            description = "Product ID",
+            example = "35455"
+        )
+        long productId,
+
+        @Schema(
+            description = "Brand ID",
+            example = "1"
+        )
+        long brandId,
+
+        @Schema(description = "Prices that apply over the requested range, in order and without overlaps")
+        List<Segment> segments
+) {
+    public record Segment(
+            @Schema(
+                description = "First date the price applies within the range",
+                example = "2020-06-14T15:00:00"
+            )
+            LocalDateTime startDate,
+
+            @Schema(
+                description = "Last date the price applies within the range, inclusive",
+                example = "2020-06-14T18:30:00"
+            )
+            LocalDateTime endDate,
+
+            @Schema(
+                description = "Price list ID",
+                example = "2"
+            )
+            int priceList,
+
+            @Schema(
+                description = "Priority of the price, which won over any other price valid at the same time",
+                example = "1"
+            )
+            int priority,
+
+            @Schema(
+                description = "Price amount",
+                example = "25.45"
+            )
+            BigDecimal price,
+
+            @Schema(
+                description = "Price currency",
+                example = "EUR"
+            )
+            String currency
+    ) {
+        // Segments end exclusively, responses use inclusive dates like the prices themselves
+        public static Segment from(PriceSegment segment) {
+            ProductPrice productPrice = segment.productPrice();
+            return new Segment(
+                    segment.from(),
+                    segment.until().minusNanos(1),
+                    productPrice.priceList(),
+                    productPrice.priority(),
+                    productPrice.price(),
+                    productPrice.currency().getCurrencyCode()
+            );
+        }
+    }
+}
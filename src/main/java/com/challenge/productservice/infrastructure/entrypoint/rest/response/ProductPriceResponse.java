@@ -1,5 +1,6 @@
 package com.challenge.productservice.infrastructure.entrypoint.rest.response;
 
+import com.challenge.productservice.domain.productprice.ProductPrice;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.math.BigDecimal;
@@ -47,4 +48,16 @@ public record ProductPriceResponse(
             example = "EUR"
         )
         String currency
-) {}
+) {
+    public static ProductPriceResponse from(ProductPrice productPrice) {
+        return new ProductPriceResponse(
+                productPrice.productId().value(),
+                productPrice.brandId().value(),
+                productPrice.priceList(),
+                productPrice.startDate(),
+                productPrice.endDate(),
+                productPrice.price(),
+                productPrice.currency().getCurrencyCode()
+        );
+    }
+}
@@ -0,0 +1,50 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest.response;
+
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.io.UncheckedIOException;
+
+/**
+ * Keeps the serialized JSON of the {@link ProductPriceResponse} of recently returned prices, so a hot price is
+ * written from the same bytes on every hit instead of being mapped and serialized again. The bytes are produced by
+ * the given ObjectMapper, so they are identical to what the message converters would write for the response.
+ */
+public class ProductPriceResponseCache implements MeterBinder {
+    private final ObjectMapper objectMapper;
+    private final Cache<ProductPrice, byte[]> responses;
+
+    public ProductPriceResponseCache(ObjectMapper objectMapper, long maximumSize) {
+        this.objectMapper = objectMapper;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * The response body of the price. The returned array is shared and must not be modified.
+     */
+    public byte[] json(ProductPrice productPrice) {
+        return responses.get(productPrice, this::serialize);
+    }
+
+    private byte[] serialize(ProductPrice productPrice) {
+        try {
+            return objectMapper.writeValueAsBytes(ProductPriceResponse.from(productPrice));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "product-price-responses");
+    }
+}
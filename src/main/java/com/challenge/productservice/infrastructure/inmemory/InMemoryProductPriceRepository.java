@@ -0,0 +1,212 @@
+package com.challenge.productservice.infrastructure.inmemory;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.EpochMicros;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceLookup;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.ProductPriceTimeline;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read-only repository that serves lookups from an immutable index built once from the whole catalog.
+ * Prices are grouped by product and brand, and each group is sorted by start date so a lookup is a
+ * binary search followed by a short backwards scan, without touching the database.
+ * Each group is also resolved into a {@link ProductPriceTimeline} so the effective price is found
+ * without comparing priorities on every request.
+ */
+public class InMemoryProductPriceRepository implements ProductPriceRepository {
+    private final Map<PriceKey, PriceGroup> groups;
+    // Product and brand each price id is filed under, empty when the index was built without ids
+    private final Map<UUID, PriceKey> keysById;
+
+    private InMemoryProductPriceRepository(Map<PriceKey, PriceGroup> groups, Map<UUID, PriceKey> keysById) {
+        this.groups = groups;
+        this.keysById = keysById;
+    }
+
+    public static InMemoryProductPriceRepository of(Collection<ProductPrice> productPrices) {
+        Map<PriceKey, List<ProductPrice>> grouped = new HashMap<>();
+        for (ProductPrice productPrice : productPrices) {
+            grouped.computeIfAbsent(PriceKey.of(productPrice), key -> new ArrayList<>()).add(productPrice);
+        }
+
+        Map<PriceKey, PriceGroup> groups = new HashMap<>(grouped.size());
+        grouped.forEach((key, prices) -> groups.put(key, PriceGroup.of(null, prices)));
+        return new InMemoryProductPriceRepository(Map.copyOf(groups), Map.of());
+    }
+
+    /**
+     * Index that remembers the id of every price, so it can later be updated with {@link #apply}.
+     */
+    public static InMemoryProductPriceRepository ofIdentified(Map<UUID, ProductPrice> productPricesById) {
+        return new InMemoryProductPriceRepository(Map.of(), Map.of())
+                .apply(new ProductPriceDelta(0, productPricesById, List.of()));
+    }
+
+    /**
+     * Returns a new index with the delta applied, leaving this one untouched. Only the groups of the products
+     * and brands in the delta are rebuilt, every other group is shared with this index. Prices are found by id,
+     * so an update that moves a price to another product or brand also removes it from its previous group.
+     */
+    public InMemoryProductPriceRepository apply(ProductPriceDelta delta) {
+        Map<UUID, PriceKey> keysById = new HashMap<>(this.keysById);
+        Map<PriceKey, Map<UUID, ProductPrice>> changedGroups = new HashMap<>();
+        delta.upserted().forEach((id, productPrice) -> {
+            PriceKey key = PriceKey.of(productPrice);
+            PriceKey previousKey = keysById.put(id, key);
+            if (previousKey != null && !previousKey.equals(key)) {
+                changedGroups.computeIfAbsent(previousKey, this::pricesById).remove(id);
+            }
+            changedGroups.computeIfAbsent(key, this::pricesById).put(id, productPrice);
+        });
+        for (ProductPriceDelta.Tombstone tombstone : delta.deleted()) {
+            PriceKey key = keysById.remove(tombstone.id());
+            if (key != null) {
+                changedGroups.computeIfAbsent(key, this::pricesById).remove(tombstone.id());
+            }
+        }
+
+        Map<PriceKey, PriceGroup> groups = new HashMap<>(this.groups);
+        changedGroups.forEach((key, pricesById) -> {
+            if (pricesById.isEmpty()) {
+                groups.remove(key);
+            } else {
+                groups.put(key, PriceGroup.of(pricesById, pricesById.values()));
+            }
+        });
+        return new InMemoryProductPriceRepository(Map.copyOf(groups), Map.copyOf(keysById));
+    }
+
+    /**
+     * The current price with the given id, whatever product and brand it is filed under.
+     */
+    public Optional<ProductPrice> getProductPrice(UUID id) {
+        PriceKey key = keysById.get(id);
+        return key == null ? Optional.empty() : Optional.ofNullable(groups.get(key).identifiedPrices().get(id));
+    }
+
+    @Override
+    public List<ProductPrice> getProductPrices(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        PriceGroup group = groups.get(new PriceKey(productId.value(), brandId.value()));
+        return group == null ? List.of() : group.intervals().validAt(EpochMicros.floor(validAt), EpochMicros.ceil(validAt));
+    }
+
+    @Override
+    public Optional<ProductPrice> getProductPrice(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        PriceGroup group = groups.get(new PriceKey(productId.value(), brandId.value()));
+        return group == null ? Optional.empty() : group.timeline().priceAt(validAt);
+    }
+
+    @Override
+    public List<Optional<ProductPrice>> getProductPrices(List<ProductPriceLookup> lookups) {
+        List<Optional<ProductPrice>> result = new ArrayList<>(lookups.size());
+        for (ProductPriceLookup lookup : lookups) {
+            result.add(getProductPrice(lookup.productId(), lookup.brandId(), lookup.validAt()));
+        }
+        return result;
+    }
+
+    @Override
+    public ProductPriceTimeline getProductPriceTimeline(ProductId productId, BrandId brandId) {
+        PriceGroup group = groups.get(new PriceKey(productId.value(), brandId.value()));
+        return group == null ? ProductPriceTimeline.empty() : group.timeline();
+    }
+
+    private Map<UUID, ProductPrice> pricesById(PriceKey key) {
+        PriceGroup group = groups.get(key);
+        return group == null ? new LinkedHashMap<>() : new LinkedHashMap<>(group.identifiedPrices());
+    }
+
+    private record PriceKey(long productId, long brandId) {
+        static PriceKey of(ProductPrice productPrice) {
+            return new PriceKey(productPrice.productId().value(), productPrice.brandId().value());
+        }
+    }
+
+    // pricesById is null when the index was built without ids
+    private record PriceGroup(
+            Map<UUID, ProductPrice> pricesById,
+            PriceIntervals intervals,
+            ProductPriceTimeline timeline
+    ) {
+        static PriceGroup of(Map<UUID, ProductPrice> pricesById, Collection<ProductPrice> prices) {
+            return new PriceGroup(
+                    pricesById == null ? null : Map.copyOf(pricesById),
+                    PriceIntervals.of(prices),
+                    ProductPriceTimeline.of(prices)
+            );
+        }
+
+        Map<UUID, ProductPrice> identifiedPrices() {
+            if (pricesById == null) {
+                throw new IllegalStateException("Index was built without price ids");
+            }
+            return pricesById;
+        }
+    }
+
+    private static final class PriceIntervals {
+        private final ProductPrice[] byStartDate;
+        // maxEndDate[i] is the latest end date among byStartDate[0..i], which bounds the backwards scan
+        private final long[] maxEndDate;
+
+        private PriceIntervals(ProductPrice[] byStartDate, long[] maxEndDate) {
+            this.byStartDate = byStartDate;
+            this.maxEndDate = maxEndDate;
+        }
+
+        static PriceIntervals of(Collection<ProductPrice> prices) {
+            ProductPrice[] byStartDate = prices.toArray(ProductPrice[]::new);
+            Arrays.sort(byStartDate, Comparator.comparingLong(ProductPrice::startEpochMicros));
+
+            long[] maxEndDate = new long[byStartDate.length];
+            long max = Long.MIN_VALUE;
+            for (int i = 0; i < byStartDate.length; i++) {
+                max = Math.max(max, byStartDate[i].endEpochMicros());
+                maxEndDate[i] = max;
+            }
+
+            return new PriceIntervals(byStartDate, maxEndDate);
+        }
+
+        // The instant rounded down and up to whole microseconds, which only differ for sub-microsecond instants
+        List<ProductPrice> validAt(long validAtFloor, long validAtCeil) {
+            List<ProductPrice> result = new ArrayList<>();
+            for (int i = lastStartingAtOrBefore(validAtFloor); i >= 0 && maxEndDate[i] >= validAtCeil; i--) {
+                if (byStartDate[i].endEpochMicros() >= validAtCeil) {
+                    result.add(byStartDate[i]);
+                }
+            }
+            Collections.reverse(result);
+            return result;
+        }
+
+        private int lastStartingAtOrBefore(long validAt) {
+            int low = 0;
+            int high = byStartDate.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (byStartDate[mid].startEpochMicros() > validAt) {
+                    high = mid - 1;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return high;
+        }
+    }
+}
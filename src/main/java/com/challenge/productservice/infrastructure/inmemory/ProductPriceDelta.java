@@ -0,0 +1,32 @@
+package com.challenge.productservice.infrastructure.inmemory;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Prices inserted or updated and prices deleted since a change version, up to and including {@code version}.
+ */
+public record ProductPriceDelta(
+        long version,
+        Map<UUID, ProductPrice> upserted,
+        List<Tombstone> deleted
+) {
+    public int size() {
+        return upserted.size() + deleted.size();
+    }
+
+    public boolean isEmpty() {
+        return upserted.isEmpty() && deleted.isEmpty();
+    }
+
+    public record Tombstone(
+            UUID id,
+            ProductId productId,
+            BrandId brandId
+    ) {}
+}
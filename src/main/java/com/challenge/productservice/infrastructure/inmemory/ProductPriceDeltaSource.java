@@ -0,0 +1,8 @@
+package com.challenge.productservice.infrastructure.inmemory;
+
+public interface ProductPriceDeltaSource {
+    /**
+     * Changes with a version greater than the given one. Passing 0 returns every price.
+     */
+    ProductPriceDelta changesSince(long version);
+}
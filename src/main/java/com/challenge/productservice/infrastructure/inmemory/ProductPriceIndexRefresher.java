@@ -0,0 +1,56 @@
+package com.challenge.productservice.infrastructure.inmemory;
+
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.repository.ProductPriceChangeListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refreshes an in-memory index on a single background thread, waiting the given interval between the end of a
+ * refresh and the start of the next, and tells the listeners which prices changed. A failed refresh is logged and
+ * retried on the next run; the previous index keeps being served meanwhile.
+ */
+public class ProductPriceIndexRefresher implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ProductPriceIndexRefresher.class);
+
+    private final RefreshingProductPriceRepository repository;
+    private final List<ProductPriceChangeListener> listeners;
+    private final ScheduledExecutorService executor;
+
+    public ProductPriceIndexRefresher(
+            RefreshingProductPriceRepository repository,
+            List<ProductPriceChangeListener> listeners,
+            Duration interval
+    ) {
+        this.repository = repository;
+        this.listeners = List.copyOf(listeners);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-price-index-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.scheduleWithFixedDelay(this::refresh, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void refresh() {
+        try {
+            List<ProductPrice> changed = repository.refresh();
+            if (!changed.isEmpty()) {
+                listeners.forEach(listener -> listener.productPricesChanged(changed));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh the in-memory price index, serving version {}", repository.version(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,179 @@
+package com.challenge.productservice.infrastructure.inmemory;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceLookup;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.ProductPriceTimeline;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory index kept up to date by {@link #refresh()}, which reads only the prices changed since the last
+ * version it saw and publishes a new index with a single volatile write. Lookups read whichever index is
+ * current and never wait for a refresh, and the index they read never changes under them.
+ * <p>
+ * Change versions are taken when a statement runs, not when its transaction commits, so a transaction holding
+ * a lower version can commit after a higher one was read. Each refresh therefore reads again from the highest
+ * version seen at least {@code maxTransactionDuration} ago, by when every transaction holding a lower version
+ * has committed or rolled back, and skips the changes it already applied.
+ */
+public class RefreshingProductPriceRepository implements ProductPriceRepository, MeterBinder {
+    private final ProductPriceDeltaSource source;
+    private final Clock clock;
+    private final Duration maxTransactionDuration;
+    private final Deque<ObservedVersion> observedVersions = new ArrayDeque<>();
+
+    private volatile InMemoryProductPriceRepository index;
+    private volatile long version;
+    private long settledVersion;
+    private volatile Instant refreshedAt;
+    private volatile DistributionSummary deltaSize;
+
+    public RefreshingProductPriceRepository(
+            ProductPriceDeltaSource source,
+            Clock clock,
+            Duration maxTransactionDuration
+    ) {
+        this.source = source;
+        this.clock = clock;
+        this.maxTransactionDuration = maxTransactionDuration;
+        Instant startedAt = clock.instant();
+        ProductPriceDelta all = source.changesSince(0);
+        this.index = InMemoryProductPriceRepository.ofIdentified(all.upserted());
+        this.version = all.version();
+        this.observedVersions.addLast(new ObservedVersion(startedAt, all.version()));
+        this.refreshedAt = clock.instant();
+    }
+
+    /**
+     * Applies the changes since the last refresh and returns the prices they replaced, removed or added,
+     * so callers can invalidate whatever they derived from them.
+     */
+    public synchronized List<ProductPrice> refresh() {
+        Instant startedAt = clock.instant();
+        settleVersionsObservedBefore(startedAt.minus(maxTransactionDuration));
+        ProductPriceDelta delta = source.changesSince(settledVersion);
+        InMemoryProductPriceRepository current = index;
+
+        List<ProductPrice> changed = new ArrayList<>(delta.size());
+        Map<UUID, ProductPrice> upserted = new HashMap<>();
+        delta.upserted().forEach((id, productPrice) -> {
+            Optional<ProductPrice> previous = current.getProductPrice(id);
+            if (previous.filter(productPrice::equals).isEmpty()) {
+                previous.ifPresent(changed::add);
+                changed.add(productPrice);
+                upserted.put(id, productPrice);
+            }
+        });
+        List<ProductPriceDelta.Tombstone> deleted = new ArrayList<>();
+        for (ProductPriceDelta.Tombstone tombstone : delta.deleted()) {
+            current.getProductPrice(tombstone.id()).ifPresent(productPrice -> {
+                changed.add(productPrice);
+                deleted.add(tombstone);
+            });
+        }
+
+        ProductPriceDelta unapplied = new ProductPriceDelta(delta.version(), upserted, deleted);
+        if (!unapplied.isEmpty()) {
+            index = current.apply(unapplied);
+        }
+        if (delta.version() > version) {
+            version = delta.version();
+            observedVersions.addLast(new ObservedVersion(startedAt, delta.version()));
+        }
+        refreshedAt = clock.instant();
+
+        DistributionSummary summary = deltaSize;
+        if (summary != null) {
+            summary.record(unapplied.size());
+        }
+        return changed;
+    }
+
+    private void settleVersionsObservedBefore(Instant settledAt) {
+        while (!observedVersions.isEmpty() && !observedVersions.peekFirst().observedAt().isAfter(settledAt)) {
+            settledVersion = observedVersions.pollFirst().version();
+        }
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Version the next refresh reads from, below which every transaction has committed or rolled back.
+     */
+    public synchronized long settledVersion() {
+        return settledVersion;
+    }
+
+    /**
+     * Time since the last successful refresh, which bounds how stale the served prices can be.
+     */
+    public Duration lag() {
+        return Duration.between(refreshedAt, clock.instant());
+    }
+
+    @Override
+    public List<ProductPrice> getProductPrices(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return index.getProductPrices(productId, brandId, validAt);
+    }
+
+    @Override
+    public Optional<ProductPrice> getProductPrice(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return index.getProductPrice(productId, brandId, validAt);
+    }
+
+    @Override
+    public List<Optional<ProductPrice>> getProductPrices(List<ProductPriceLookup> lookups) {
+        return index.getProductPrices(lookups);
+    }
+
+    @Override
+    public ProductPriceTimeline getProductPriceTimeline(ProductId productId, BrandId brandId) {
+        return index.getProductPriceTimeline(productId, brandId);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("product.price.index.version", this, RefreshingProductPriceRepository::version)
+                .description("Change version of the prices served by the in-memory index")
+                .register(meterRegistry);
+        TimeGauge.builder(
+                        "product.price.index.refresh.lag",
+                        this,
+                        TimeUnit.NANOSECONDS,
+                        repository -> repository.lag().toNanos()
+                )
+                .description("Time since the in-memory index was last refreshed")
+                .register(meterRegistry);
+        deltaSize = DistributionSummary.builder("product.price.index.delta.size")
+                .description("Prices changed or deleted per refresh of the in-memory index")
+                .baseUnit("prices")
+                .register(meterRegistry);
+    }
+
+    private record ObservedVersion(
+            Instant observedAt,
+            long version
+    ) {}
+}
@@ -0,0 +1,57 @@
+package com.challenge.productservice.infrastructure.metrics;
+
+import com.challenge.productservice.application.getproductprice.GetProductPriceRequest;
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse;
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse.ProductPriceNotFound;
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse.Successful;
+import com.challenge.productservice.application.getproductprice.GetProductPriceUseCase;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every lookup and counts its outcome. The use case has no interface, so metrics are added by
+ * extending it here instead of annotating the application layer.
+ */
+public class MeteredGetProductPriceUseCase extends GetProductPriceUseCase {
+    private final Timer timer;
+    private final Counter successful;
+    private final Counter notFound;
+    private final Counter failed;
+
+    public MeteredGetProductPriceUseCase(ProductPriceRepository productPriceRepository, MeterRegistry meterRegistry) {
+        super(productPriceRepository);
+        this.timer = Timer.builder("product.price.lookup")
+                .description("Time to resolve the price of a product at a date")
+                .register(meterRegistry);
+        this.successful = outcomeCounter(meterRegistry, "successful");
+        this.notFound = outcomeCounter(meterRegistry, "not_found");
+        this.failed = outcomeCounter(meterRegistry, "error");
+    }
+
+    @Override
+    public GetProductPriceResponse execute(GetProductPriceRequest request) {
+        Timer.Sample sample = Timer.start();
+        try {
+            GetProductPriceResponse response = super.execute(request);
+            switch (response) {
+                case Successful ignored -> successful.increment();
+                case ProductPriceNotFound ignored -> notFound.increment();
+            }
+            return response;
+        } catch (RuntimeException exception) {
+            failed.increment();
+            throw exception;
+        } finally {
+            sample.stop(timer);
+        }
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("product.price.lookup.outcomes")
+                .description("Price lookups by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
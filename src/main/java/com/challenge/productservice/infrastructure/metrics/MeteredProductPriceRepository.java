@@ -0,0 +1,102 @@
+package com.challenge.productservice.infrastructure.metrics;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.PriceSegment;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceKey;
+import com.challenge.productservice.domain.productprice.ProductPriceLookup;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.ProductPriceTimeline;
+import com.challenge.productservice.infrastructure.repository.ForwardingProductPriceRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Times every repository operation, tagged by operation, and records the size of each batch and the segments of
+ * each loaded timeline. The candidates each lookup matched are recorded by the database repositories themselves,
+ * since the winner queries count them without returning them.
+ */
+public class MeteredProductPriceRepository extends ForwardingProductPriceRepository {
+    private final Timer getProductPricesTimer;
+    private final Timer getProductPriceTimer;
+    private final Timer getProductPricesBatchTimer;
+    private final Timer getProductPriceSegmentTimer;
+    private final Timer getProductPriceSegmentOfPriceTimer;
+    private final Timer getProductPriceTimelineTimer;
+    private final Timer getProductPriceTimelinesTimer;
+    private final DistributionSummary batchSize;
+    private final DistributionSummary timelineSegments;
+
+    public MeteredProductPriceRepository(ProductPriceRepository delegate, MeterRegistry meterRegistry) {
+        super(delegate);
+        this.getProductPricesTimer = operationTimer(meterRegistry, "getProductPrices");
+        this.getProductPriceTimer = operationTimer(meterRegistry, "getProductPrice");
+        this.getProductPricesBatchTimer = operationTimer(meterRegistry, "getProductPricesBatch");
+        this.getProductPriceSegmentTimer = operationTimer(meterRegistry, "getProductPriceSegment");
+        this.getProductPriceSegmentOfPriceTimer = operationTimer(meterRegistry, "getProductPriceSegmentOfPrice");
+        this.getProductPriceTimelineTimer = operationTimer(meterRegistry, "getProductPriceTimeline");
+        this.getProductPriceTimelinesTimer = operationTimer(meterRegistry, "getProductPriceTimelines");
+        this.batchSize = DistributionSummary.builder("product.price.repository.batch.size")
+                .description("Lookups resolved by each batch")
+                .register(meterRegistry);
+        this.timelineSegments = DistributionSummary.builder("product.price.repository.timeline.segments")
+                .description("Segments of each loaded price timeline")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<ProductPrice> getProductPrices(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return getProductPricesTimer.record(() -> super.getProductPrices(productId, brandId, validAt));
+    }
+
+    @Override
+    public Optional<ProductPrice> getProductPrice(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return getProductPriceTimer.record(() -> super.getProductPrice(productId, brandId, validAt));
+    }
+
+    @Override
+    public List<Optional<ProductPrice>> getProductPrices(List<ProductPriceLookup> lookups) {
+        batchSize.record(lookups.size());
+        return getProductPricesBatchTimer.record(() -> super.getProductPrices(lookups));
+    }
+
+    @Override
+    public Optional<PriceSegment> getProductPriceSegment(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return getProductPriceSegmentTimer.record(() -> super.getProductPriceSegment(productId, brandId, validAt));
+    }
+
+    @Override
+    public PriceSegment getProductPriceSegment(ProductPrice productPrice, LocalDateTime validAt) {
+        return getProductPriceSegmentOfPriceTimer.record(() -> super.getProductPriceSegment(productPrice, validAt));
+    }
+
+    @Override
+    public ProductPriceTimeline getProductPriceTimeline(ProductId productId, BrandId brandId) {
+        ProductPriceTimeline timeline = getProductPriceTimelineTimer.record(
+                () -> super.getProductPriceTimeline(productId, brandId)
+        );
+        timelineSegments.record(timeline.segments().size());
+        return timeline;
+    }
+
+    @Override
+    public List<ProductPriceTimeline> getProductPriceTimelines(List<ProductPriceKey> keys) {
+        batchSize.record(keys.size());
+        List<ProductPriceTimeline> timelines = getProductPriceTimelinesTimer.record(() -> super.getProductPriceTimelines(keys));
+        timelines.forEach(timeline -> timelineSegments.record(timeline.segments().size()));
+        return timelines;
+    }
+
+    private static Timer operationTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("product.price.repository")
+                .description("Time spent in the product price repository")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,10 @@
+package com.challenge.productservice.infrastructure.offheap;
+
+/**
+ * Number of prices in a catalog and the sum of their change versions. Every insert and update takes a version
+ * greater than all the previous ones, so any insert, update or delete changes one of the two.
+ */
+public record CatalogFingerprint(
+        long size,
+        long changeVersionSum
+) {}
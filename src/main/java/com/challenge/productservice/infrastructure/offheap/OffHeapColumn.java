@@ -0,0 +1,163 @@
+package com.challenge.productservice.infrastructure.offheap;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Checksum;
+
+/**
+ * Column of fixed width primitive values stored outside the heap. Values live in direct buffers of a fixed
+ * number of values each, so the column grows without copying and can hold more values than fit in one buffer.
+ * A column is written by a single thread and only read once it has been safely published. Values are little
+ * endian whether the buffers are allocated or mapped from a snapshot file.
+ */
+final class OffHeapColumn {
+    static final int MIN_CHUNK_VALUES = 1 << 10;
+    static final int MAX_CHUNK_VALUES = 1 << 20;
+
+    private final int width;
+    private final int chunkShift;
+    private final int chunkMask;
+    private ByteBuffer[] chunks = new ByteBuffer[0];
+    private int size;
+
+    OffHeapColumn(int width, int chunkValues) {
+        if (Integer.bitCount(chunkValues) != 1) {
+            throw new IllegalArgumentException("Chunk values must be a power of two");
+        }
+        this.width = width;
+        this.chunkShift = Integer.numberOfTrailingZeros(chunkValues);
+        this.chunkMask = chunkValues - 1;
+    }
+
+    /**
+     * Chunk size for a column expected to hold the given number of values: the power of two that fits them,
+     * kept between {@link #MIN_CHUNK_VALUES} and {@link #MAX_CHUNK_VALUES}, so a small catalog does not reserve
+     * a large chunk per column and a large one is not split into many small chunks.
+     */
+    static int chunkValuesFor(long expectedValues) {
+        int values = (int) Math.max(MIN_CHUNK_VALUES, Math.min(MAX_CHUNK_VALUES, expectedValues));
+        return Integer.highestOneBit(values - 1) << 1;
+    }
+
+    /**
+     * Read-only column over the values written by {@link #writeTo} at the given position of the file.
+     */
+    static OffHeapColumn mapped(FileChannel channel, long position, int width, int size, int chunkValues) throws IOException {
+        OffHeapColumn column = new OffHeapColumn(width, chunkValues);
+        int chunkCount = (int) ((size + (long) chunkValues - 1) / chunkValues);
+        column.chunks = new ByteBuffer[chunkCount];
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            long firstValue = (long) chunk * chunkValues;
+            long values = Math.min(chunkValues, size - firstValue);
+            column.chunks[chunk] = channel.map(FileChannel.MapMode.READ_ONLY, position + firstValue * width, values * width)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+        }
+        column.size = size;
+        return column;
+    }
+
+    static OffHeapColumn ofLongs(int chunkValues) {
+        return new OffHeapColumn(Long.BYTES, chunkValues);
+    }
+
+    static OffHeapColumn ofInts(int chunkValues) {
+        return new OffHeapColumn(Integer.BYTES, chunkValues);
+    }
+
+    static OffHeapColumn ofShorts(int chunkValues) {
+        return new OffHeapColumn(Short.BYTES, chunkValues);
+    }
+
+    int width() {
+        return width;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long valueBytes() {
+        return (long) size * width;
+    }
+
+    long offHeapBytes() {
+        return (long) chunks.length * (chunkMask + 1) * width;
+    }
+
+    void appendLong(long value) {
+        nextSlot().putLong(offset(size++), value);
+    }
+
+    void appendInt(int value) {
+        nextSlot().putInt(offset(size++), value);
+    }
+
+    void appendShort(short value) {
+        nextSlot().putShort(offset(size++), value);
+    }
+
+    long getLong(int index) {
+        return chunks[index >>> chunkShift].getLong(offset(index));
+    }
+
+    int getInt(int index) {
+        return chunks[index >>> chunkShift].getInt(offset(index));
+    }
+
+    short getShort(int index) {
+        return chunks[index >>> chunkShift].getShort(offset(index));
+    }
+
+    /**
+     * Writes the values, without the unused end of the last chunk, and adds them to the checksum.
+     */
+    void writeTo(WritableByteChannel channel, Checksum checksum) throws IOException {
+        for (ByteBuffer values : valueBuffers()) {
+            checksum.update(values.duplicate());
+            while (values.hasRemaining()) {
+                channel.write(values);
+            }
+        }
+    }
+
+    void updateChecksum(Checksum checksum) {
+        for (ByteBuffer values : valueBuffers()) {
+            checksum.update(values);
+        }
+    }
+
+    // Views of the chunks limited to the bytes holding values
+    private List<ByteBuffer> valueBuffers() {
+        List<ByteBuffer> buffers = new ArrayList<>(chunks.length);
+        long remaining = valueBytes();
+        for (int chunk = 0; remaining > 0; chunk++) {
+            ByteBuffer values = chunks[chunk].duplicate();
+            values.position(0).limit((int) Math.min(values.capacity(), remaining));
+            remaining -= values.remaining();
+            buffers.add(values);
+        }
+        return buffers;
+    }
+
+    private ByteBuffer nextSlot() {
+        if (size == Integer.MAX_VALUE) {
+            throw new IllegalStateException("Column is full");
+        }
+        int chunk = size >>> chunkShift;
+        if (chunk == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunk + 1);
+            chunks[chunk] = ByteBuffer.allocateDirect((chunkMask + 1) * width).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return chunks[chunk];
+    }
+
+    private int offset(int index) {
+        return (index & chunkMask) * width;
+    }
+}
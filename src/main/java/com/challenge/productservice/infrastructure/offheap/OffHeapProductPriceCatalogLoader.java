@@ -0,0 +1,89 @@
+package com.challenge.productservice.infrastructure.offheap;
+
+import com.challenge.productservice.infrastructure.offheap.OffHeapProductPriceSnapshot.Snapshot;
+import com.challenge.productservice.infrastructure.partition.BrandPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/**
+ * Starts the off-heap repository from a snapshot file when a usable one exists, and from the database otherwise.
+ * A snapshot is only used when it is readable, younger than the maximum age, holds the brands of the same
+ * partition and has the same {@link CatalogFingerprint} as the database, so a price inserted, updated or deleted
+ * since it was written is never served stale. After a database load the snapshot is rewritten for the next start.
+ */
+public class OffHeapProductPriceCatalogLoader {
+    private static final Logger log = LoggerFactory.getLogger(OffHeapProductPriceCatalogLoader.class);
+
+    private final Path snapshotPath;
+    private final BrandPartition partition;
+    private final Duration maxAge;
+    private final Clock clock;
+    private final Supplier<OffHeapProductPriceRepository> databaseLoad;
+    private final Supplier<CatalogFingerprint> databaseFingerprint;
+
+    public OffHeapProductPriceCatalogLoader(
+            Path snapshotPath,
+            BrandPartition partition,
+            Duration maxAge,
+            Clock clock,
+            Supplier<OffHeapProductPriceRepository> databaseLoad,
+            Supplier<CatalogFingerprint> databaseFingerprint
+    ) {
+        this.snapshotPath = snapshotPath;
+        this.partition = partition;
+        this.maxAge = maxAge;
+        this.clock = clock;
+        this.databaseLoad = databaseLoad;
+        this.databaseFingerprint = databaseFingerprint;
+    }
+
+    public OffHeapProductPriceRepository load() {
+        // Read before the load, so a change made during it makes the next start reload rather than be missed
+        CatalogFingerprint fingerprint = databaseFingerprint.get();
+        if (Files.exists(snapshotPath)) {
+            try {
+                Snapshot snapshot = OffHeapProductPriceSnapshot.read(snapshotPath);
+                String staleReason = staleReason(snapshot, fingerprint);
+                if (staleReason == null) {
+                    log.info("Serving {} prices from snapshot {}", snapshot.repository().size(), snapshotPath);
+                    return snapshot.repository();
+                }
+                log.info("Ignoring price snapshot {}: {}", snapshotPath, staleReason);
+            } catch (IOException | RuntimeException exception) {
+                log.warn("Ignoring unreadable price snapshot {}", snapshotPath, exception);
+            }
+        }
+
+        OffHeapProductPriceRepository repository = databaseLoad.get();
+        try {
+            OffHeapProductPriceSnapshot.write(repository, snapshotPath, clock.instant(), fingerprint, partition);
+            log.info("Wrote snapshot of {} prices to {}", repository.size(), snapshotPath);
+        } catch (IOException exception) {
+            log.warn("Could not write price snapshot {}", snapshotPath, exception);
+        }
+        return repository;
+    }
+
+    private String staleReason(Snapshot snapshot, CatalogFingerprint fingerprint) {
+        Instant expiresAt = snapshot.createdAt().plus(maxAge);
+        if (clock.instant().isAfter(expiresAt)) {
+            return "created at " + snapshot.createdAt() + ", older than " + maxAge;
+        }
+        if (!snapshot.partition().equals(partition)) {
+            return "holds brands " + snapshot.partition().brandIds() + " but this instance serves "
+                    + partition.brandIds();
+        }
+        if (!snapshot.fingerprint().equals(fingerprint)) {
+            return "loaded from " + snapshot.fingerprint() + " but the database is at " + fingerprint;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,372 @@
+package com.challenge.productservice.infrastructure.offheap;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.EpochMicros;
+import com.challenge.productservice.domain.productprice.PriceSegment;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceLookup;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.ProductPriceTimeline;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read-only repository that keeps the catalog in off-heap columns, so the heap does not grow with the number
+ * of prices. Prices are stored one column per field, sorted by product, brand and start date, and a directory
+ * holds the first row of every product and brand. A lookup is a binary search in the directory, another one
+ * in the rows of the product and brand and a short backwards scan, and only the returned prices are allocated.
+ */
+public class OffHeapProductPriceRepository implements ProductPriceRepository {
+    private static final Comparator<ProductPrice> KEY_ORDER = Comparator
+            .comparingLong((ProductPrice productPrice) -> productPrice.productId().value())
+            .thenComparingLong(productPrice -> productPrice.brandId().value())
+            .thenComparingLong(ProductPrice::startEpochMicros);
+
+    static final int[] COLUMN_WIDTHS = {
+            Long.BYTES, Long.BYTES, Integer.BYTES,
+            Long.BYTES, Long.BYTES, Long.BYTES, Integer.BYTES, Integer.BYTES, Long.BYTES, Short.BYTES
+    };
+
+    private final int keys;
+    private final OffHeapColumn keyProductIds;
+    private final OffHeapColumn keyBrandIds;
+    // First row of each key, followed by the number of rows
+    private final OffHeapColumn keyFirstRows;
+
+    private final OffHeapColumn starts;
+    private final OffHeapColumn ends;
+    // Latest end among the rows of the same key up to this one, which bounds the backwards scan
+    private final OffHeapColumn maxEnds;
+    private final OffHeapColumn priorities;
+    private final OffHeapColumn priceLists;
+    private final OffHeapColumn prices;
+    private final OffHeapColumn currencies;
+
+    /**
+     * Takes the columns in the order returned by {@link #columns()}.
+     */
+    OffHeapProductPriceRepository(List<OffHeapColumn> columns) {
+        if (columns.size() != COLUMN_WIDTHS.length) {
+            throw new IllegalArgumentException("Expected " + COLUMN_WIDTHS.length + " columns");
+        }
+        for (int i = 0; i < COLUMN_WIDTHS.length; i++) {
+            if (columns.get(i).width() != COLUMN_WIDTHS[i]) {
+                throw new IllegalArgumentException("Column " + i + " has an unexpected width");
+            }
+        }
+        this.keyProductIds = columns.get(0);
+        this.keyBrandIds = columns.get(1);
+        this.keyFirstRows = columns.get(2);
+        this.starts = columns.get(3);
+        this.ends = columns.get(4);
+        this.maxEnds = columns.get(5);
+        this.priorities = columns.get(6);
+        this.priceLists = columns.get(7);
+        this.prices = columns.get(8);
+        this.currencies = columns.get(9);
+        this.keys = keyProductIds.size();
+    }
+
+    public static OffHeapProductPriceRepository of(Collection<ProductPrice> productPrices) {
+        List<ProductPrice> sorted = new ArrayList<>(productPrices);
+        sorted.sort(KEY_ORDER);
+        Builder builder = builderFor(sorted.size());
+        sorted.forEach(builder::add);
+        return builder.build();
+    }
+
+    /**
+     * Builder for a catalog of unknown size, which grows its columns by the smallest chunks.
+     */
+    public static Builder builder() {
+        return new Builder(OffHeapColumn.MIN_CHUNK_VALUES);
+    }
+
+    /**
+     * Builder whose columns are chunked for about the given number of prices. The estimate only sets the chunk
+     * size, the columns still grow past it.
+     */
+    public static Builder builderFor(long expectedPrices) {
+        return new Builder(OffHeapColumn.chunkValuesFor(expectedPrices));
+    }
+
+    static Builder builder(int chunkValues) {
+        return new Builder(chunkValues);
+    }
+
+    public int size() {
+        return starts.size();
+    }
+
+    public long offHeapBytes() {
+        return columns().stream().mapToLong(OffHeapColumn::offHeapBytes).sum();
+    }
+
+    List<OffHeapColumn> columns() {
+        return List.of(keyProductIds, keyBrandIds, keyFirstRows, starts, ends, maxEnds, priorities, priceLists, prices, currencies);
+    }
+
+    @Override
+    public List<ProductPrice> getProductPrices(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        int key = keyIndex(productId.value(), brandId.value());
+        if (key < 0) {
+            return List.of();
+        }
+
+        int first = keyFirstRows.getInt(key);
+        long validAtCeil = EpochMicros.ceil(validAt);
+        List<ProductPrice> result = new ArrayList<>();
+        for (int row = lastStartingAtOrBefore(key, EpochMicros.floor(validAt)); row >= first && maxEnds.getLong(row) >= validAtCeil; row--) {
+            if (ends.getLong(row) >= validAtCeil) {
+                result.add(productPriceAt(row, productId, brandId));
+            }
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * Resolves the winner among the valid rows by comparing the columns with the same rules as
+     * {@link ProductPrice#PRECEDENCE}, and only creates the winning price.
+     */
+    @Override
+    public Optional<ProductPrice> getProductPrice(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        int key = keyIndex(productId.value(), brandId.value());
+        if (key < 0) {
+            return Optional.empty();
+        }
+
+        int winner = winnerRow(key, validAt);
+        return winner < 0 ? Optional.empty() : Optional.of(productPriceAt(winner, productId, brandId));
+    }
+
+    /**
+     * Resolves the winner like {@link #getProductPrice} and ends its segment at the first later start, up to the
+     * end of the winner, of a row with at least its priority, the same rule as the next override query of the
+     * database repositories. The segment starts at the given date, and only the winning price is created.
+     */
+    @Override
+    public Optional<PriceSegment> getProductPriceSegment(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        int key = keyIndex(productId.value(), brandId.value());
+        if (key < 0) {
+            return Optional.empty();
+        }
+        int winner = winnerRow(key, validAt);
+        if (winner < 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(segmentOf(key, productPriceAt(winner, productId, brandId), validAt));
+    }
+
+    /**
+     * Ends the segment of the price with the same scan as
+     * {@link #getProductPriceSegment(ProductId, BrandId, LocalDateTime)}.
+     */
+    @Override
+    public PriceSegment getProductPriceSegment(ProductPrice productPrice, LocalDateTime validAt) {
+        int key = keyIndex(productPrice.productId().value(), productPrice.brandId().value());
+        if (key < 0) {
+            return new PriceSegment(validAt, productPrice.endDate().plusNanos(1), productPrice);
+        }
+        return segmentOf(key, productPrice, validAt);
+    }
+
+    private PriceSegment segmentOf(int key, ProductPrice productPrice, LocalDateTime validAt) {
+        long winnerEnd = productPrice.endEpochMicros();
+        int winnerPriority = productPrice.priority();
+        int end = keyFirstRows.getInt(key + 1);
+        // Rows after this one start after validAt, in start date order
+        for (int row = lastStartingAtOrBefore(key, EpochMicros.floor(validAt)) + 1; row < end && starts.getLong(row) <= winnerEnd; row++) {
+            if (priorities.getInt(row) >= winnerPriority) {
+                return new PriceSegment(validAt, EpochMicros.toLocalDateTime(starts.getLong(row)), productPrice);
+            }
+        }
+        return new PriceSegment(validAt, productPrice.endDate().plusNanos(1), productPrice);
+    }
+
+    @Override
+    public List<Optional<ProductPrice>> getProductPrices(List<ProductPriceLookup> lookups) {
+        List<Optional<ProductPrice>> result = new ArrayList<>(lookups.size());
+        for (ProductPriceLookup lookup : lookups) {
+            result.add(getProductPrice(lookup.productId(), lookup.brandId(), lookup.validAt()));
+        }
+        return result;
+    }
+
+    @Override
+    public ProductPriceTimeline getProductPriceTimeline(ProductId productId, BrandId brandId) {
+        int key = keyIndex(productId.value(), brandId.value());
+        if (key < 0) {
+            return ProductPriceTimeline.empty();
+        }
+
+        int end = keyFirstRows.getInt(key + 1);
+        List<ProductPrice> productPrices = new ArrayList<>();
+        for (int row = keyFirstRows.getInt(key); row < end; row++) {
+            productPrices.add(productPriceAt(row, productId, brandId));
+        }
+        return ProductPriceTimeline.of(productPrices);
+    }
+
+    private int keyIndex(long productId, long brandId) {
+        int low = 0;
+        int high = keys - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = Long.compare(keyProductIds.getLong(mid), productId);
+            if (comparison == 0) {
+                comparison = Long.compare(keyBrandIds.getLong(mid), brandId);
+            }
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    // Row of the key that applies at the given date, or -1 when none does
+    private int winnerRow(int key, LocalDateTime validAt) {
+        int first = keyFirstRows.getInt(key);
+        long validAtCeil = EpochMicros.ceil(validAt);
+        int winner = -1;
+        for (int row = lastStartingAtOrBefore(key, EpochMicros.floor(validAt)); row >= first && maxEnds.getLong(row) >= validAtCeil; row--) {
+            if (ends.getLong(row) >= validAtCeil && (winner < 0 || precedes(row, winner))) {
+                winner = row;
+            }
+        }
+        return winner;
+    }
+
+    // Last row of the key starting at or before the instant, or the row before the key when there is none
+    private int lastStartingAtOrBefore(int key, long epochMicros) {
+        int low = keyFirstRows.getInt(key);
+        int high = keyFirstRows.getInt(key + 1) - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts.getLong(mid) > epochMicros) {
+                high = mid - 1;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return high;
+    }
+
+    private boolean precedes(int row, int other) {
+        int comparison = Integer.compare(priorities.getInt(row), priorities.getInt(other));
+        if (comparison == 0) {
+            comparison = Long.compare(starts.getLong(row), starts.getLong(other));
+        }
+        if (comparison == 0) {
+            comparison = Integer.compare(priceLists.getInt(row), priceLists.getInt(other));
+        }
+        if (comparison == 0) {
+            comparison = Long.compare(ends.getLong(row), ends.getLong(other));
+        }
+        if (comparison == 0) {
+            comparison = Long.compare(prices.getLong(row), prices.getLong(other));
+        }
+        if (comparison == 0) {
+            comparison = Short.compare(currencies.getShort(row), currencies.getShort(other));
+        }
+        return comparison > 0;
+    }
+
+    private ProductPrice productPriceAt(int row, ProductId productId, BrandId brandId) {
+        return new ProductPrice(
+                brandId,
+                starts.getLong(row),
+                ends.getLong(row),
+                priceLists.getInt(row),
+                productId,
+                priorities.getInt(row),
+                prices.getLong(row),
+                currencies.getShort(row)
+        );
+    }
+
+    /**
+     * Appends prices that arrive already sorted by product, brand and start date, for example straight from a
+     * database cursor, so the catalog never has to be held on the heap while the repository is built.
+     */
+    public static final class Builder {
+        private final OffHeapColumn keyProductIds;
+        private final OffHeapColumn keyBrandIds;
+        private final OffHeapColumn keyFirstRows;
+        private final OffHeapColumn starts;
+        private final OffHeapColumn ends;
+        private final OffHeapColumn maxEnds;
+        private final OffHeapColumn priorities;
+        private final OffHeapColumn priceLists;
+        private final OffHeapColumn prices;
+        private final OffHeapColumn currencies;
+        private ProductPrice last;
+        private long maxEnd;
+        private boolean built;
+
+        private Builder(int chunkValues) {
+            keyProductIds = OffHeapColumn.ofLongs(chunkValues);
+            keyBrandIds = OffHeapColumn.ofLongs(chunkValues);
+            keyFirstRows = OffHeapColumn.ofInts(chunkValues);
+            starts = OffHeapColumn.ofLongs(chunkValues);
+            ends = OffHeapColumn.ofLongs(chunkValues);
+            maxEnds = OffHeapColumn.ofLongs(chunkValues);
+            priorities = OffHeapColumn.ofInts(chunkValues);
+            priceLists = OffHeapColumn.ofInts(chunkValues);
+            prices = OffHeapColumn.ofLongs(chunkValues);
+            currencies = OffHeapColumn.ofShorts(chunkValues);
+        }
+
+        public Builder add(ProductPrice productPrice) {
+            if (built) {
+                throw new IllegalStateException("Repository has already been built");
+            }
+            if (last != null && KEY_ORDER.compare(last, productPrice) > 0) {
+                throw new IllegalArgumentException("Prices must be added in product, brand and start date order");
+            }
+
+            if (last == null
+                    || last.productId().value() != productPrice.productId().value()
+                    || last.brandId().value() != productPrice.brandId().value()) {
+                keyProductIds.appendLong(productPrice.productId().value());
+                keyBrandIds.appendLong(productPrice.brandId().value());
+                keyFirstRows.appendInt(starts.size());
+                maxEnd = Long.MIN_VALUE;
+            }
+
+            maxEnd = Math.max(maxEnd, productPrice.endEpochMicros());
+            starts.appendLong(productPrice.startEpochMicros());
+            ends.appendLong(productPrice.endEpochMicros());
+            maxEnds.appendLong(maxEnd);
+            priorities.appendInt(productPrice.priority());
+            priceLists.appendInt(productPrice.priceList());
+            prices.appendLong(productPrice.priceMinorUnits());
+            currencies.appendShort((short) productPrice.currencyIndex());
+            last = productPrice;
+            return this;
+        }
+
+        public OffHeapProductPriceRepository build() {
+            if (built) {
+                throw new IllegalStateException("Repository has already been built");
+            }
+            built = true;
+            keyFirstRows.appendInt(starts.size());
+            return new OffHeapProductPriceRepository(List.of(
+                    keyProductIds, keyBrandIds, keyFirstRows, starts, ends, maxEnds, priorities, priceLists, prices, currencies
+            ));
+        }
+    }
+}
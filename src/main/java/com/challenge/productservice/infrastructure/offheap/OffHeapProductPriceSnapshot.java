@@ -0,0 +1,185 @@
+package com.challenge.productservice.infrastructure.offheap;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.infrastructure.partition.BrandPartition;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary snapshot of an {@link OffHeapProductPriceRepository}. The file holds a header followed by the values
+ * of every column, little endian, in the order of {@link OffHeapProductPriceRepository#columns()}. Reading maps
+ * the columns straight from the file, so a snapshot is served without copying it into memory first.
+ * <p>
+ * Header: magic, format version, creation time in epoch milliseconds, the {@link CatalogFingerprint} of the
+ * database the snapshot was loaded from, the number and the sorted ids of the brands of its partition (none for
+ * every brand), column count, the width and size of each column, and the CRC32C of the column values.
+ */
+public final class OffHeapProductPriceSnapshot {
+    static final int MAGIC = 0x50524943;
+    static final int VERSION = 4;
+    // Magic, version, creation time, fingerprint and brand count
+    private static final int FIXED_HEADER_BYTES = Integer.BYTES * 2 + Long.BYTES * 3 + Integer.BYTES;
+
+    private OffHeapProductPriceSnapshot() {}
+
+    public record Snapshot(
+            OffHeapProductPriceRepository repository,
+            Instant createdAt,
+            CatalogFingerprint fingerprint,
+            BrandPartition partition
+    ) {}
+
+    /**
+     * Writes the snapshot to a temporary file next to the target and moves it into place, so readers never see
+     * a partially written snapshot.
+     */
+    public static void write(
+            OffHeapProductPriceRepository repository,
+            Path path,
+            Instant createdAt,
+            CatalogFingerprint fingerprint,
+            BrandPartition partition
+    ) throws IOException {
+        List<OffHeapColumn> columns = repository.columns();
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = header(columns, createdAt, fingerprint, partition);
+            channel.position(header.capacity());
+            CRC32C checksum = new CRC32C();
+            for (OffHeapColumn column : columns) {
+                column.writeTo(channel, checksum);
+            }
+
+            header.putLong(checksum.getValue()).flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+        } catch (IOException | RuntimeException exception) {
+            Files.deleteIfExists(temporary);
+            throw exception;
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static Snapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer fixedHeader = readFully(channel, 0, FIXED_HEADER_BYTES);
+            if (fixedHeader.getInt() != MAGIC) {
+                throw new IOException("Not a price snapshot: " + path);
+            }
+            int version = fixedHeader.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported price snapshot version " + version + ": " + path);
+            }
+            Instant createdAt = Instant.ofEpochMilli(fixedHeader.getLong());
+            CatalogFingerprint fingerprint = new CatalogFingerprint(fixedHeader.getLong(), fixedHeader.getLong());
+            int brandCount = fixedHeader.getInt();
+            long partitionHeaderBytes = (long) brandCount * Long.BYTES + Integer.BYTES;
+            if (brandCount < 0 || partitionHeaderBytes > Math.min(channel.size(), Integer.MAX_VALUE)) {
+                throw new IOException("Unexpected brand count " + brandCount + ": " + path);
+            }
+
+            ByteBuffer partitionHeader = readFully(channel, fixedHeader.capacity(), (int) partitionHeaderBytes);
+            Set<BrandId> brandIds = new HashSet<>(brandCount);
+            for (int i = 0; i < brandCount; i++) {
+                brandIds.add(new BrandId(partitionHeader.getLong()));
+            }
+            int columnCount = partitionHeader.getInt();
+            if (columnCount != OffHeapProductPriceRepository.COLUMN_WIDTHS.length) {
+                throw new IOException("Unexpected column count " + columnCount + ": " + path);
+            }
+
+            long columnHeaderPosition = fixedHeader.capacity() + partitionHeader.capacity();
+            ByteBuffer columnHeader = readFully(channel, columnHeaderPosition, columnCount * Integer.BYTES * 2 + Long.BYTES);
+            long position = columnHeaderPosition + columnHeader.capacity();
+            List<OffHeapColumn> columns = new ArrayList<>(columnCount);
+            for (int i = 0; i < columnCount; i++) {
+                int width = columnHeader.getInt();
+                int size = columnHeader.getInt();
+                if (width != OffHeapProductPriceRepository.COLUMN_WIDTHS[i] || size < 0) {
+                    throw new IOException("Unexpected layout of column " + i + ": " + path);
+                }
+                if (position + (long) width * size > channel.size()) {
+                    throw new IOException("Price snapshot is truncated: " + path);
+                }
+                columns.add(OffHeapColumn.mapped(channel, position, width, size, OffHeapColumn.chunkValuesFor(size)));
+                position += (long) width * size;
+            }
+            if (position != channel.size()) {
+                throw new IOException("Price snapshot has unexpected trailing bytes: " + path);
+            }
+
+            long expectedChecksum = columnHeader.getLong();
+            CRC32C checksum = new CRC32C();
+            columns.forEach(column -> column.updateChecksum(checksum));
+            if (checksum.getValue() != expectedChecksum) {
+                throw new IOException("Price snapshot checksum does not match: " + path);
+            }
+
+            return new Snapshot(
+                    new OffHeapProductPriceRepository(columns),
+                    createdAt,
+                    fingerprint,
+                    new BrandPartition(brandIds)
+            );
+        }
+    }
+
+    // Every field of the header except the checksum, which is only known once the columns are written
+    private static ByteBuffer header(
+            List<OffHeapColumn> columns,
+            Instant createdAt,
+            CatalogFingerprint fingerprint,
+            BrandPartition partition
+    ) {
+        long[] brandIds = partition.brandIds().stream()
+                .mapToLong(BrandId::value)
+                .sorted()
+                .toArray();
+        ByteBuffer header = ByteBuffer
+                .allocate(FIXED_HEADER_BYTES + brandIds.length * Long.BYTES + Integer.BYTES
+                        + columns.size() * Integer.BYTES * 2 + Long.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putLong(createdAt.toEpochMilli())
+                .putLong(fingerprint.size())
+                .putLong(fingerprint.changeVersionSum())
+                .putInt(brandIds.length);
+        for (long brandId : brandIds) {
+            header.putLong(brandId);
+        }
+        header.putInt(columns.size());
+        for (OffHeapColumn column : columns) {
+            header.putInt(column.width()).putInt(column.size());
+        }
+        return header;
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Price snapshot is truncated");
+            }
+        }
+        return buffer.flip();
+    }
+}
@@ -0,0 +1,27 @@
+package com.challenge.productservice.infrastructure.partition;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+
+import java.util.Set;
+
+/**
+ * Brands whose prices this instance loads, caches and serves. An empty set means every brand.
+ */
+public record BrandPartition(Set<BrandId> brandIds) {
+
+    public BrandPartition {
+        brandIds = Set.copyOf(brandIds);
+    }
+
+    public static BrandPartition all() {
+        return new BrandPartition(Set.of());
+    }
+
+    public boolean isAll() {
+        return brandIds.isEmpty();
+    }
+
+    public boolean owns(BrandId brandId) {
+        return brandIds.isEmpty() || brandIds.contains(brandId);
+    }
+}
@@ -0,0 +1,94 @@
+package com.challenge.productservice.infrastructure.partition;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.PriceSegment;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceKey;
+import com.challenge.productservice.domain.productprice.ProductPriceLookup;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.ProductPriceTimeline;
+import com.challenge.productservice.infrastructure.repository.ForwardingProductPriceRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Answers lookups of brands outside the partition as having no prices, so they never reach the caches or the
+ * database of this instance.
+ */
+public class PartitionedProductPriceRepository extends ForwardingProductPriceRepository {
+    private final BrandPartition partition;
+
+    public PartitionedProductPriceRepository(ProductPriceRepository delegate, BrandPartition partition) {
+        super(delegate);
+        this.partition = partition;
+    }
+
+    @Override
+    public List<ProductPrice> getProductPrices(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return partition.owns(brandId) ? delegate.getProductPrices(productId, brandId, validAt) : List.of();
+    }
+
+    @Override
+    public Optional<ProductPrice> getProductPrice(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return partition.owns(brandId) ? delegate.getProductPrice(productId, brandId, validAt) : Optional.empty();
+    }
+
+    @Override
+    public Optional<PriceSegment> getProductPriceSegment(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return partition.owns(brandId) ? delegate.getProductPriceSegment(productId, brandId, validAt) : Optional.empty();
+    }
+
+    /**
+     * Sends only the lookups of owned brands to the wrapped repository, as a single batch.
+     */
+    @Override
+    public List<Optional<ProductPrice>> getProductPrices(List<ProductPriceLookup> lookups) {
+        List<Optional<ProductPrice>> result = new ArrayList<>(lookups.size());
+        List<ProductPriceLookup> owned = new ArrayList<>();
+        List<Integer> ownedPositions = new ArrayList<>();
+
+        for (ProductPriceLookup lookup : lookups) {
+            if (partition.owns(lookup.brandId())) {
+                ownedPositions.add(result.size());
+                owned.add(lookup);
+            }
+            result.add(Optional.empty());
+        }
+
+        if (!owned.isEmpty()) {
+            List<Optional<ProductPrice>> resolved = delegate.getProductPrices(owned);
+            for (int i = 0; i < ownedPositions.size(); i++) {
+                result.set(ownedPositions.get(i), resolved.get(i));
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public ProductPriceTimeline getProductPriceTimeline(ProductId productId, BrandId brandId) {
+        return partition.owns(brandId)
+                ? delegate.getProductPriceTimeline(productId, brandId)
+                : ProductPriceTimeline.empty();
+    }
+
+    @Override
+    public List<ProductPriceTimeline> getProductPriceTimelines(List<ProductPriceKey> keys) {
+        List<ProductPriceKey> owned = keys.stream().filter(key -> partition.owns(key.brandId())).toList();
+        if (owned.size() == keys.size()) {
+            return delegate.getProductPriceTimelines(keys);
+        }
+
+        List<ProductPriceTimeline> resolved = owned.isEmpty() ? List.of() : delegate.getProductPriceTimelines(owned);
+        List<ProductPriceTimeline> result = new ArrayList<>(keys.size());
+        int next = 0;
+        for (ProductPriceKey key : keys) {
+            result.add(partition.owns(key.brandId()) ? resolved.get(next++) : ProductPriceTimeline.empty());
+        }
+        return result;
+    }
+}
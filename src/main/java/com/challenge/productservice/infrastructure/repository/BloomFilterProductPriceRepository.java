@@ -0,0 +1,139 @@
+package com.challenge.productservice.infrastructure.repository;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.PriceSegment;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceLookup;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.ProductPriceTimeline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Answers lookups of products and brands that have no prices without reaching the wrapped repository, using a
+ * Bloom filter of every pair with prices. The filter is filled once from the catalog and then kept up to date
+ * from the change notifications, so prices written without going through the application are not seen.
+ * Pairs whose prices are all removed stay in the filter and keep reaching the repository.
+ */
+public class BloomFilterProductPriceRepository extends ForwardingProductPriceRepository
+        implements ProductPriceChangeListener, MeterBinder {
+    /**
+     * Pairs the filter is sized for at least, so one built from an empty or small catalog still has room for the
+     * pairs learned from the change notifications instead of saturating and letting every lookup through.
+     */
+    static final long MIN_EXPECTED_PAIRS = 1024;
+
+    private final ProductBrandBloomFilter filter;
+    private volatile Counter shortCircuits;
+
+    /**
+     * @param knownPairs hands every product and brand with prices to the given consumer
+     * @param expectedPairs number of distinct products and brands with prices, not of prices
+     */
+    public BloomFilterProductPriceRepository(
+            ProductPriceRepository delegate,
+            Consumer<BiConsumer<ProductId, BrandId>> knownPairs,
+            long expectedPairs,
+            double falsePositiveProbability
+    ) {
+        super(delegate);
+        this.filter = new ProductBrandBloomFilter(Math.max(expectedPairs, MIN_EXPECTED_PAIRS), falsePositiveProbability);
+        knownPairs.accept(filter::add);
+    }
+
+    @Override
+    public List<ProductPrice> getProductPrices(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return isKnown(productId, brandId) ? delegate.getProductPrices(productId, brandId, validAt) : List.of();
+    }
+
+    @Override
+    public Optional<ProductPrice> getProductPrice(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return isKnown(productId, brandId) ? delegate.getProductPrice(productId, brandId, validAt) : Optional.empty();
+    }
+
+    @Override
+    public Optional<PriceSegment> getProductPriceSegment(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return isKnown(productId, brandId) ? delegate.getProductPriceSegment(productId, brandId, validAt) : Optional.empty();
+    }
+
+    /**
+     * Sends only the lookups of known pairs to the wrapped repository, as a single batch.
+     */
+    @Override
+    public List<Optional<ProductPrice>> getProductPrices(List<ProductPriceLookup> lookups) {
+        List<Optional<ProductPrice>> result = new ArrayList<>(lookups.size());
+        List<ProductPriceLookup> known = new ArrayList<>();
+        List<Integer> knownPositions = new ArrayList<>();
+
+        for (ProductPriceLookup lookup : lookups) {
+            if (isKnown(lookup.productId(), lookup.brandId())) {
+                knownPositions.add(result.size());
+                known.add(lookup);
+            }
+            result.add(Optional.empty());
+        }
+
+        if (!known.isEmpty()) {
+            List<Optional<ProductPrice>> resolved = delegate.getProductPrices(known);
+            for (int i = 0; i < knownPositions.size(); i++) {
+                result.set(knownPositions.get(i), resolved.get(i));
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public ProductPriceTimeline getProductPriceTimeline(ProductId productId, BrandId brandId) {
+        return isKnown(productId, brandId)
+                ? delegate.getProductPriceTimeline(productId, brandId)
+                : ProductPriceTimeline.empty();
+    }
+
+    @Override
+    public void productPricesChanged(Collection<ProductPrice> productPrices) {
+        for (ProductPrice productPrice : productPrices) {
+            filter.add(productPrice.productId(), productPrice.brandId());
+        }
+    }
+
+    public double expectedFalsePositiveProbability() {
+        return filter.expectedFalsePositiveProbability();
+    }
+
+    private boolean isKnown(ProductId productId, BrandId brandId) {
+        if (filter.mightContain(productId, brandId)) {
+            return true;
+        }
+        Counter counter = shortCircuits;
+        if (counter != null) {
+            counter.increment();
+        }
+        return false;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder(
+                        "product.price.filter.false.positive.probability",
+                        this,
+                        BloomFilterProductPriceRepository::expectedFalsePositiveProbability
+                )
+                .description("Expected probability that a product and brand without prices reaches the repository")
+                .register(meterRegistry);
+        shortCircuits = Counter.builder("product.price.filter.short.circuits")
+                .description("Lookups answered without the repository because the product and brand have no prices")
+                .register(meterRegistry);
+    }
+}
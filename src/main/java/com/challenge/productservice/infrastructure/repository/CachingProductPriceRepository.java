@@ -0,0 +1,118 @@
+package com.challenge.productservice.infrastructure.repository;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.PriceSegment;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceLookup;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.ProductPriceTimeline;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Caches the resolved price segments of each product and brand, so any later lookup whose date falls
+ * inside a known segment (or a known gap) is answered without reaching the wrapped repository.
+ * The cache is bounded by the total number of segments held and evicts whole products when full.
+ */
+public class CachingProductPriceRepository extends ForwardingProductPriceRepository
+        implements ProductPriceChangeListener, MeterBinder {
+    private final Cache<PriceKey, ProductPriceTimeline> timelines;
+
+    public CachingProductPriceRepository(ProductPriceRepository delegate, long maximumSegments) {
+        super(delegate);
+        this.timelines = Caffeine.newBuilder()
+                .maximumWeight(maximumSegments)
+                .<PriceKey, ProductPriceTimeline>weigher((key, timeline) -> Math.max(1, timeline.segments().size()))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Optional<ProductPrice> getProductPrice(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return getProductPriceTimeline(productId, brandId).priceAt(validAt);
+    }
+
+    @Override
+    public Optional<PriceSegment> getProductPriceSegment(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return getProductPriceTimeline(productId, brandId).segmentAt(validAt);
+    }
+
+    /**
+     * Answers the lookups of cached products directly and sends the rest to the wrapped repository as a
+     * single batch. Batch misses do not populate the cache, to keep one large batch from evicting hot products.
+     */
+    @Override
+    public List<Optional<ProductPrice>> getProductPrices(List<ProductPriceLookup> lookups) {
+        List<Optional<ProductPrice>> result = new ArrayList<>(lookups.size());
+        List<ProductPriceLookup> misses = new ArrayList<>();
+        List<Integer> missPositions = new ArrayList<>();
+
+        for (ProductPriceLookup lookup : lookups) {
+            ProductPriceTimeline timeline = timelines.getIfPresent(new PriceKey(lookup.productId(), lookup.brandId()));
+            if (timeline == null) {
+                missPositions.add(result.size());
+                misses.add(lookup);
+                result.add(Optional.empty());
+            } else {
+                result.add(timeline.priceAt(lookup.validAt()));
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            List<Optional<ProductPrice>> resolved = delegate.getProductPrices(misses);
+            for (int i = 0; i < missPositions.size(); i++) {
+                result.set(missPositions.get(i), resolved.get(i));
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public ProductPriceTimeline getProductPriceTimeline(ProductId productId, BrandId brandId) {
+        return timelines.get(
+                new PriceKey(productId, brandId),
+                key -> delegate.getProductPriceTimeline(key.productId(), key.brandId())
+        );
+    }
+
+    public void invalidate(ProductId productId, BrandId brandId) {
+        timelines.invalidate(new PriceKey(productId, brandId));
+    }
+
+    public void invalidateAll() {
+        timelines.invalidateAll();
+    }
+
+    @Override
+    public void productPricesChanged(Collection<ProductPrice> productPrices) {
+        for (ProductPrice productPrice : productPrices) {
+            invalidate(productPrice.productId(), productPrice.brandId());
+        }
+    }
+
+    /**
+     * Hit, miss and eviction counters since the cache was created.
+     */
+    public CacheStats stats() {
+        return timelines.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, timelines, "product-price-timelines");
+    }
+
+    private record PriceKey(ProductId productId, BrandId brandId) {}
+}
@@ -0,0 +1,75 @@
+package com.challenge.productservice.infrastructure.repository;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.PriceSegment;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceKey;
+import com.challenge.productservice.domain.productprice.ProductPriceLookup;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.ProductPriceTimeline;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Base class for repository decorators, forwards every call to the wrapped repository
+ * so subclasses only override the operations they change.
+ */
+public abstract class ForwardingProductPriceRepository implements ProductPriceRepository {
+    protected final ProductPriceRepository delegate;
+
+    protected ForwardingProductPriceRepository(ProductPriceRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Finds the first repository of the given type along a chain of decorators, starting with the outermost.
+     */
+    public static <T> Optional<T> find(ProductPriceRepository repository, Class<T> type) {
+        ProductPriceRepository current = repository;
+        while (current != null) {
+            if (type.isInstance(current)) {
+                return Optional.of(type.cast(current));
+            }
+            current = current instanceof ForwardingProductPriceRepository forwarding ? forwarding.delegate : null;
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<ProductPrice> getProductPrices(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return delegate.getProductPrices(productId, brandId, validAt);
+    }
+
+    @Override
+    public Optional<ProductPrice> getProductPrice(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return delegate.getProductPrice(productId, brandId, validAt);
+    }
+
+    @Override
+    public List<Optional<ProductPrice>> getProductPrices(List<ProductPriceLookup> lookups) {
+        return delegate.getProductPrices(lookups);
+    }
+
+    @Override
+    public Optional<PriceSegment> getProductPriceSegment(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return delegate.getProductPriceSegment(productId, brandId, validAt);
+    }
+
+    @Override
+    public PriceSegment getProductPriceSegment(ProductPrice productPrice, LocalDateTime validAt) {
+        return delegate.getProductPriceSegment(productPrice, validAt);
+    }
+
+    @Override
+    public ProductPriceTimeline getProductPriceTimeline(ProductId productId, BrandId brandId) {
+        return delegate.getProductPriceTimeline(productId, brandId);
+    }
+
+    @Override
+    public List<ProductPriceTimeline> getProductPriceTimelines(List<ProductPriceKey> keys) {
+        return delegate.getProductPriceTimelines(keys);
+    }
+}
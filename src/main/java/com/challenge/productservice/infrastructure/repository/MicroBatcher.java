@@ -0,0 +1,113 @@
+package com.challenge.productservice.infrastructure.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+/**
+ * Collects the keys loaded by concurrent callers into batches and loads each batch with a single call. The first
+ * caller of a batch leads it: it waits for the window to pass, or for the batch to fill up, then loads every key of
+ * the batch on its own thread and hands each caller its value, or the failure of the load.
+ */
+final class MicroBatcher<K, V> {
+    private final Function<List<K>, List<V>> loader;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final IntConsumer dispatched;
+    private Batch<K, V> open;
+
+    /**
+     * @param loader returns the value of each key, in the order of the keys
+     * @param dispatched receives the size of every batch loaded
+     */
+    MicroBatcher(Function<List<K>, List<V>> loader, Duration window, int maxBatchSize, IntConsumer dispatched) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Maximum batch size must be positive");
+        }
+        this.loader = loader;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.dispatched = dispatched;
+    }
+
+    V load(K key) {
+        Batch<K, V> batch;
+        CompletableFuture<V> value = new CompletableFuture<>();
+        boolean leader;
+        synchronized (this) {
+            leader = open == null;
+            if (leader) {
+                open = new Batch<>();
+            }
+            batch = open;
+            batch.keys.add(key);
+            batch.values.add(value);
+            if (batch.keys.size() >= maxBatchSize) {
+                open = null;
+                batch.full.countDown();
+            }
+        }
+
+        if (leader) {
+            awaitWindow(batch);
+            synchronized (this) {
+                if (open == batch) {
+                    open = null;
+                }
+            }
+            dispatch(batch);
+        }
+        return await(value);
+    }
+
+    private void awaitWindow(Batch<K, V> batch) {
+        try {
+            batch.full.await(windowNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void dispatch(Batch<K, V> batch) {
+        dispatched.accept(batch.keys.size());
+        try {
+            List<V> loaded = loader.apply(batch.keys);
+            if (loaded.size() != batch.keys.size()) {
+                throw new IllegalStateException(
+                        "Loaded " + loaded.size() + " values for a batch of " + batch.keys.size() + " keys"
+                );
+            }
+            for (int i = 0; i < loaded.size(); i++) {
+                batch.values.get(i).complete(loaded.get(i));
+            }
+        } catch (RuntimeException | Error e) {
+            batch.values.forEach(value -> value.completeExceptionally(e));
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> value) {
+        try {
+            return value.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Batch<K, V> {
+        private final List<K> keys = new ArrayList<>();
+        private final List<CompletableFuture<V>> values = new ArrayList<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+    }
+}
@@ -0,0 +1,67 @@
+package com.challenge.productservice.infrastructure.repository;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.PriceSegment;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceKey;
+import com.challenge.productservice.domain.productprice.ProductPriceLookup;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.ProductPriceTimeline;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Gathers the single price and timeline lookups made by concurrent callers within a short window, up to a maximum
+ * batch size, and resolves each batch with one multi-key call to the wrapped repository. Every caller waits for at
+ * most the window before its batch is sent, and gets back only its own result.
+ */
+public class MicroBatchingProductPriceRepository extends ForwardingProductPriceRepository implements MeterBinder {
+    private final MicroBatcher<ProductPriceLookup, Optional<ProductPrice>> prices;
+    private final MicroBatcher<ProductPriceKey, ProductPriceTimeline> timelines;
+    private volatile DistributionSummary batchSize;
+
+    public MicroBatchingProductPriceRepository(ProductPriceRepository delegate, Duration window, int maxBatchSize) {
+        super(delegate);
+        this.prices = new MicroBatcher<>(delegate::getProductPrices, window, maxBatchSize, this::recordBatchSize);
+        this.timelines = new MicroBatcher<>(delegate::getProductPriceTimelines, window, maxBatchSize, this::recordBatchSize);
+    }
+
+    @Override
+    public Optional<ProductPrice> getProductPrice(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return prices.load(new ProductPriceLookup(productId, brandId, validAt));
+    }
+
+    /**
+     * Resolves the winner in a batch with the single price lookups, then asks the wrapped repository for the end
+     * of the segment of just that winner, which is a bounded lookup rather than the whole timeline.
+     */
+    @Override
+    public Optional<PriceSegment> getProductPriceSegment(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return getProductPrice(productId, brandId, validAt).map(winner -> super.getProductPriceSegment(winner, validAt));
+    }
+
+    @Override
+    public ProductPriceTimeline getProductPriceTimeline(ProductId productId, BrandId brandId) {
+        return timelines.load(new ProductPriceKey(productId, brandId));
+    }
+
+    private void recordBatchSize(int size) {
+        DistributionSummary summary = batchSize;
+        if (summary != null) {
+            summary.record(size);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        batchSize = DistributionSummary.builder("product.price.lookups.batch.size")
+                .description("Concurrent lookups sent to the repository together in a single call")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,25 @@
+package com.challenge.productservice.infrastructure.repository;
+
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceWriter;
+
+import java.util.List;
+
+/**
+ * Tells the given listeners about every batch once it has been written.
+ */
+public class NotifyingProductPriceWriter implements ProductPriceWriter {
+    private final ProductPriceWriter delegate;
+    private final List<ProductPriceChangeListener> listeners;
+
+    public NotifyingProductPriceWriter(ProductPriceWriter delegate, List<ProductPriceChangeListener> listeners) {
+        this.delegate = delegate;
+        this.listeners = List.copyOf(listeners);
+    }
+
+    @Override
+    public void insertAll(List<ProductPrice> productPrices) {
+        delegate.insertAll(productPrices);
+        listeners.forEach(listener -> listener.productPricesChanged(productPrices));
+    }
+}
@@ -0,0 +1,77 @@
+package com.challenge.productservice.infrastructure.repository;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter of product and brand pairs, sized for an expected number of pairs and false positive probability.
+ * Pairs can be added concurrently with lookups and are never removed. The bit positions come from two halves of a
+ * single 64-bit hash of the pair, combined as in Kirsch and Mitzenmacher's double hashing.
+ */
+class ProductBrandBloomFilter {
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final AtomicLong setBits = new AtomicLong();
+
+    ProductBrandBloomFilter(long expectedPairs, double falsePositiveProbability) {
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("False positive probability must be between 0 and 1");
+        }
+        long pairs = Math.max(1, expectedPairs);
+        long bits = (long) Math.ceil(-pairs * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        int wordCount = Math.toIntExact(Math.max(1, (bits + 63) / 64));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = wordCount * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / pairs * Math.log(2)));
+    }
+
+    void add(ProductId productId, BrandId brandId) {
+        long hash = hash(productId, brandId);
+        int first = (int) hash;
+        int second = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Integer.toUnsignedLong(first + i * second) % bitCount;
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long previous = words.getAndUpdate(word, value -> value | mask);
+            if ((previous & mask) == 0) {
+                setBits.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * False means the pair was never added, true means it probably was.
+     */
+    boolean mightContain(ProductId productId, BrandId brandId) {
+        long hash = hash(productId, brandId);
+        int first = (int) hash;
+        int second = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Integer.toUnsignedLong(first + i * second) % bitCount;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Probability that a pair never added is reported as present, estimated from the share of bits already set.
+     */
+    double expectedFalsePositiveProbability() {
+        return Math.pow((double) setBits.get() / bitCount, hashCount);
+    }
+
+    // SplitMix64 finalizer over both ids, so consecutive ids spread over the whole filter
+    private static long hash(ProductId productId, BrandId brandId) {
+        long hash = productId.value() * 0x9E3779B97F4A7C15L + brandId.value();
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+}
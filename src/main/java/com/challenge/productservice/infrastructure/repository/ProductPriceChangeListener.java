@@ -0,0 +1,31 @@
+package com.challenge.productservice.infrastructure.repository;
+
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Implemented by repository decorators that keep derived state, such as caches, which must be
+ * updated when prices are written.
+ */
+public interface ProductPriceChangeListener {
+    void productPricesChanged(Collection<ProductPrice> productPrices);
+
+    /**
+     * Finds the listeners along a chain of repository decorators, outermost first.
+     */
+    static List<ProductPriceChangeListener> listenersIn(ProductPriceRepository repository) {
+        List<ProductPriceChangeListener> listeners = new ArrayList<>();
+        ProductPriceRepository current = repository;
+        while (current != null) {
+            if (current instanceof ProductPriceChangeListener listener) {
+                listeners.add(listener);
+            }
+            current = current instanceof ForwardingProductPriceRepository forwarding ? forwarding.delegate : null;
+        }
+        return listeners;
+    }
+}
@@ -0,0 +1,110 @@
+package com.challenge.productservice.infrastructure.repository;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.PriceSegment;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.ProductPriceTimeline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical lookups running at the same time: while a lookup is in flight, callers asking for the same
+ * product, brand and date wait for it and share its result, or its failure, instead of reaching the wrapped
+ * repository themselves. Nothing is kept once the lookup completes, so later callers always get a fresh result.
+ */
+public class SingleFlightProductPriceRepository extends ForwardingProductPriceRepository implements MeterBinder {
+    private final ConcurrentMap<PriceKey, CompletableFuture<Optional<ProductPrice>>> prices = new ConcurrentHashMap<>();
+    private final ConcurrentMap<PriceKey, CompletableFuture<Optional<PriceSegment>>> segments = new ConcurrentHashMap<>();
+    private final ConcurrentMap<TimelineKey, CompletableFuture<ProductPriceTimeline>> timelines = new ConcurrentHashMap<>();
+    private volatile Counter coalesced;
+
+    public SingleFlightProductPriceRepository(ProductPriceRepository delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public Optional<ProductPrice> getProductPrice(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return coalesce(
+                prices,
+                new PriceKey(productId, brandId, validAt),
+                () -> delegate.getProductPrice(productId, brandId, validAt)
+        );
+    }
+
+    @Override
+    public Optional<PriceSegment> getProductPriceSegment(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return coalesce(
+                segments,
+                new PriceKey(productId, brandId, validAt),
+                () -> delegate.getProductPriceSegment(productId, brandId, validAt)
+        );
+    }
+
+    @Override
+    public ProductPriceTimeline getProductPriceTimeline(ProductId productId, BrandId brandId) {
+        return coalesce(
+                timelines,
+                new TimelineKey(productId, brandId),
+                () -> delegate.getProductPriceTimeline(productId, brandId)
+        );
+    }
+
+    private <K, V> V coalesce(ConcurrentMap<K, CompletableFuture<V>> inFlight, K key, Supplier<V> lookup) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, call);
+        if (leader != null) {
+            Counter counter = coalesced;
+            if (counter != null) {
+                counter.increment();
+            }
+            return await(leader);
+        }
+
+        try {
+            V result = lookup.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        coalesced = Counter.builder("product.price.lookups.coalesced")
+                .description("Lookups answered with the result of an identical lookup already in flight")
+                .register(meterRegistry);
+    }
+
+    private record PriceKey(ProductId productId, BrandId brandId, LocalDateTime validAt) {}
+
+    private record TimelineKey(ProductId productId, BrandId brandId) {}
+}
@@ -1,3 +1,7 @@
+-- Change versions of prices and tombstones. Every insert and update takes the next value, so readers can fetch
+-- what changed since the last version they saw.
+CREATE SEQUENCE IF NOT EXISTS prices_version_seq;
+
 CREATE TABLE IF NOT EXISTS prices (
     id          UUID          PRIMARY KEY,
     brand_id    BIGINT          NOT NULL,
@@ -7,5 +11,41 @@ CREATE TABLE IF NOT EXISTS prices (
     product_id  BIGINT          NOT NULL,
     priority    INT             NOT NULL,
     price       DECIMAL(10, 2)  NOT NULL,
-    currency    VARCHAR(3)      NOT NULL
-);
\ No newline at end of file
+    currency    VARCHAR(3)      NOT NULL,
+    change_version BIGINT DEFAULT NEXT VALUE FOR prices_version_seq
+                          ON UPDATE NEXT VALUE FOR prices_version_seq NOT NULL
+);
+
+-- Matches the product, brand and date predicate of every price lookup. The trailing columns are the ones the
+-- lookups order by and map, including the id that JPA reads for every entity, so the index covers them without
+-- reading the table rows.
+CREATE INDEX IF NOT EXISTS prices_lookup_idx ON prices (
+    product_id,
+    brand_id,
+    start_date,
+    end_date,
+    priority,
+    price_list,
+    price,
+    currency,
+    id
+);
+
+-- Serves the export of a brand, which walks its prices in id order and resumes after the last id sent.
+CREATE INDEX IF NOT EXISTS prices_export_idx ON prices (brand_id, id);
+
+-- Serves the incremental refresh of the in-memory index, which reads the prices changed since a version.
+CREATE INDEX IF NOT EXISTS prices_version_idx ON prices (change_version);
+
+-- Deleted prices. Whatever deletes from prices must insert the tombstone in the same transaction, so the
+-- in-memory index learns about the delete on its next refresh. A price can be inserted again and deleted again,
+-- so each delete gets its own tombstone.
+CREATE TABLE IF NOT EXISTS price_tombstones (
+    id              UUID    NOT NULL,
+    brand_id        BIGINT  NOT NULL,
+    product_id      BIGINT  NOT NULL,
+    change_version  BIGINT  DEFAULT NEXT VALUE FOR prices_version_seq NOT NULL,
+    PRIMARY KEY (id, change_version)
+);
+
+CREATE INDEX IF NOT EXISTS price_tombstones_version_idx ON price_tombstones (change_version);
@@ -0,0 +1,66 @@
+package com.challenge.productservice.application.exportproductprices;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ExportedProductPrice;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceExporter;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExportProductPricesUseCaseTest {
+    private final BrandId brandId = new BrandId(1);
+    private final UUID after = UUID.randomUUID();
+    private final List<ExportedProductPrice> catalog = List.of(
+            createExportedProductPrice(1),
+            createExportedProductPrice(2)
+    );
+    private final ProductPriceExporter productPriceExporter = (brandId, after, consumer) -> {
+        if (brandId.equals(this.brandId) && after.equals(Optional.of(this.after))) {
+            catalog.forEach(consumer);
+        }
+    };
+    private final ExportProductPricesUseCase useCase = new ExportProductPricesUseCase(productPriceExporter);
+
+    @Test
+    void shouldPassEveryExportedPriceToTheConsumer() {
+        // Given
+        List<ExportedProductPrice> exported = new ArrayList<>();
+
+        // When
+        ExportProductPricesResponse response = useCase.execute(
+                new ExportProductPricesRequest(brandId, Optional.of(after)),
+                exported::add
+        );
+
+        // Then
+        assertThat(exported).isEqualTo(catalog);
+        assertThat(response.exportedRows()).isEqualTo(2);
+    }
+
+    private static ExportedProductPrice createExportedProductPrice(long productId) {
+        LocalDateTime now = LocalDateTime.now();
+        return new ExportedProductPrice(
+                UUID.randomUUID(),
+                new ProductPrice(
+                        new BrandId(1),
+                        now.minusDays(1),
+                        now.plusDays(1),
+                        1,
+                        new ProductId(productId),
+                        0,
+                        BigDecimal.TEN,
+                        Monetary.getCurrency("EUR")
+                )
+        );
+    }
+}
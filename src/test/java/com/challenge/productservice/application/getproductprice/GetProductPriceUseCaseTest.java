@@ -3,6 +3,7 @@ package com.challenge.productservice.application.getproductprice;
 import com.challenge.productservice.application.getproductprice.GetProductPriceResponse.ProductPriceNotFound;
 import com.challenge.productservice.application.getproductprice.GetProductPriceResponse.Successful;
 import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.PriceSegment;
 import com.challenge.productservice.domain.productprice.ProductId;
 import com.challenge.productservice.domain.productprice.ProductPrice;
 import com.challenge.productservice.domain.productprice.ProductPriceRepository;
@@ -11,7 +12,7 @@ import org.junit.jupiter.api.Test;
 import javax.money.Monetary;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.Mockito.mock;
@@ -30,40 +31,25 @@ class GetProductPriceUseCaseTest {
     GetProductPriceRequest request = new GetProductPriceRequest(productId, brandId, validAt);
 
     @Test
-    void shouldGetTheProductPriceWhenOnlyOnePriceIsFound() {
+    void shouldGetTheProductPriceWhenAPriceIsFound() {
         // Given
         ProductPrice expectedProductPrice = createProductPriceWithPriority(0);
-        when(productPriceRepository.getProductPrices(productId, brandId, validAt))
-                .thenReturn(List.of(expectedProductPrice));
+        LocalDateTime validUntil = endDate.plusNanos(1);
+        when(productPriceRepository.getProductPriceSegment(productId, brandId, validAt))
+                .thenReturn(Optional.of(new PriceSegment(startDate, validUntil, expectedProductPrice)));
 
         // When
         GetProductPriceResponse response = useCase.execute(request);
 
         // Then
-        assertThat(response).isEqualTo(new Successful(expectedProductPrice));
-        verify(productPriceRepository).getProductPrices(productId, brandId, validAt);
-    }
-
-    @Test
-    void shouldGetAProductPriceWithHighestPriorityWhenMultiplePricesFound() {
-        // Given
-        ProductPrice productPriceWithLessPriority = createProductPriceWithPriority(0);
-        ProductPrice productPriceWithHighestPriority = createProductPriceWithPriority(1);
-        when(productPriceRepository.getProductPrices(productId, brandId, validAt))
-                .thenReturn(List.of(productPriceWithHighestPriority, productPriceWithLessPriority));
-
-        // When
-        GetProductPriceResponse response = useCase.execute(request);
-
-        // Then
-        assertThat(response).isEqualTo(new Successful(productPriceWithHighestPriority));
-        verify(productPriceRepository).getProductPrices(productId, brandId, validAt);
+        assertThat(response).isEqualTo(new Successful(expectedProductPrice, validUntil));
+        verify(productPriceRepository).getProductPriceSegment(productId, brandId, validAt);
     }
 
     @Test
     void ShouldGetAPriceNotFoundResponseIfNoneFound() {
         // Given
-        when(productPriceRepository.getProductPrices(productId, brandId, validAt)).thenReturn(List.of());
+        when(productPriceRepository.getProductPriceSegment(productId, brandId, validAt)).thenReturn(Optional.empty());
 
         // When
         GetProductPriceResponse response = useCase.execute(request);
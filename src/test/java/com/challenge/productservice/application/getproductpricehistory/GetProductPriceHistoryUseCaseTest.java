@@ -0,0 +1,76 @@
+package com.challenge.productservice.application.getproductpricehistory;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.PriceSegment;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.ProductPriceTimeline;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GetProductPriceHistoryUseCaseTest {
+    private final ProductPriceRepository productPriceRepository = mock(ProductPriceRepository.class);
+    private final GetProductPriceHistoryUseCase useCase = new GetProductPriceHistoryUseCase(productPriceRepository);
+
+    ProductId productId = new ProductId(35455);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime from = LocalDateTime.of(2020, 6, 14, 0, 0);
+    LocalDateTime to = LocalDateTime.of(2020, 6, 14, 23, 59, 59);
+
+    @Test
+    void shouldGetTheResolvedSegmentsWithinTheRange() {
+        // Given
+        ProductPrice basePrice = createProductPrice(from.minusDays(1), from.plusDays(2), 0);
+        ProductPrice promotion = createProductPrice(from.plusHours(15), from.plusHours(18), 1);
+        when(productPriceRepository.getProductPriceTimeline(productId, brandId))
+                .thenReturn(ProductPriceTimeline.of(List.of(basePrice, promotion)));
+
+        // When
+        GetProductPriceHistoryResponse response = useCase.execute(
+                new GetProductPriceHistoryRequest(productId, brandId, from, to)
+        );
+
+        // Then
+        assertThat(response.segments()).containsExactly(
+                new PriceSegment(from, from.plusHours(15), basePrice),
+                new PriceSegment(from.plusHours(15), from.plusHours(18).plusNanos(1), promotion),
+                new PriceSegment(from.plusHours(18).plusNanos(1), to.plusNanos(1), basePrice)
+        );
+    }
+
+    @Test
+    void shouldGetNoSegmentsWhenTheProductHasNoPrices() {
+        // Given
+        when(productPriceRepository.getProductPriceTimeline(productId, brandId)).thenReturn(ProductPriceTimeline.empty());
+
+        // When
+        GetProductPriceHistoryResponse response = useCase.execute(
+                new GetProductPriceHistoryRequest(productId, brandId, from, to)
+        );
+
+        // Then
+        assertThat(response.segments()).isEmpty();
+    }
+
+    private ProductPrice createProductPrice(LocalDateTime startDate, LocalDateTime endDate, int priority) {
+        return new ProductPrice(
+                brandId,
+                startDate,
+                endDate,
+                1,
+                productId,
+                priority,
+                BigDecimal.TEN,
+                Monetary.getCurrency("EUR")
+        );
+    }
+}
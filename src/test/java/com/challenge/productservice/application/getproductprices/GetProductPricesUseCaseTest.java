@@ -0,0 +1,66 @@
+package com.challenge.productservice.application.getproductprices;
+
+import com.challenge.productservice.application.getproductprice.GetProductPriceRequest;
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse.ProductPriceNotFound;
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse.Successful;
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceLookup;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GetProductPricesUseCaseTest {
+    private final ProductPriceRepository productPriceRepository = mock(ProductPriceRepository.class);
+    private final GetProductPricesUseCase useCase = new GetProductPricesUseCase(productPriceRepository);
+
+    ProductId productId = new ProductId(2525);
+    ProductId unknownProductId = new ProductId(2526);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.now();
+
+    @Test
+    void shouldGetAResultForEachLookupInRequestOrder() {
+        // Given
+        ProductPrice productPrice = new ProductPrice(
+                brandId,
+                validAt.minusDays(1),
+                validAt.plusDays(1),
+                1,
+                productId,
+                0,
+                BigDecimal.TEN,
+                Monetary.getCurrency("EUR")
+        );
+        List<ProductPriceLookup> lookups = List.of(
+                new ProductPriceLookup(unknownProductId, brandId, validAt),
+                new ProductPriceLookup(productId, brandId, validAt)
+        );
+        when(productPriceRepository.getProductPrices(lookups))
+                .thenReturn(List.of(Optional.empty(), Optional.of(productPrice)));
+        GetProductPricesRequest request = new GetProductPricesRequest(List.of(
+                new GetProductPriceRequest(unknownProductId, brandId, validAt),
+                new GetProductPriceRequest(productId, brandId, validAt)
+        ));
+
+        // When
+        GetProductPricesResponse response = useCase.execute(request);
+
+        // Then
+        assertThat(response.results().size()).isEqualTo(2);
+        assertThat(response.results().get(0)).isInstanceOf(ProductPriceNotFound.class);
+        assertThat(response.results().get(1)).isEqualTo(new Successful(productPrice));
+        verify(productPriceRepository).getProductPrices(lookups);
+    }
+}
@@ -0,0 +1,64 @@
+package com.challenge.productservice.application.importproductprices;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceWriter;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImportProductPricesUseCaseTest {
+    private final List<List<ProductPrice>> writtenBatches = new ArrayList<>();
+    private final ProductPriceWriter productPriceWriter = writtenBatches::add;
+    private final ImportProductPricesUseCase useCase = new ImportProductPricesUseCase(productPriceWriter, 2);
+
+    LocalDateTime validAt = LocalDateTime.now();
+
+    @Test
+    void shouldWritePricesInBatchesOfTheConfiguredSize() {
+        // Given
+        List<ProductPrice> productPrices = IntStream.range(0, 5).mapToObj(this::createProductPrice).toList();
+
+        // When
+        ImportProductPricesResponse response = useCase.execute(new ImportProductPricesRequest(productPrices.iterator()));
+
+        // Then
+        assertThat(response.importedRows()).isEqualTo(5);
+        assertThat(writtenBatches).containsExactly(
+                productPrices.subList(0, 2),
+                productPrices.subList(2, 4),
+                productPrices.subList(4, 5)
+        );
+    }
+
+    @Test
+    void shouldNotWriteAnythingForAnEmptyImport() {
+        // When
+        ImportProductPricesResponse response = useCase.execute(new ImportProductPricesRequest(List.<ProductPrice>of().iterator()));
+
+        // Then
+        assertThat(response.importedRows()).isZero();
+        assertThat(writtenBatches).isEmpty();
+    }
+
+    private ProductPrice createProductPrice(int productId) {
+        return new ProductPrice(
+                new BrandId(1),
+                validAt.minusDays(1),
+                validAt.plusDays(1),
+                1,
+                new ProductId(productId),
+                0,
+                BigDecimal.TEN,
+                Monetary.getCurrency("EUR")
+        );
+    }
+}
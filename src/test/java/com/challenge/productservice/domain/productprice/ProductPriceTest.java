@@ -0,0 +1,89 @@
+package com.challenge.productservice.domain.productprice;
+
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductPriceTest {
+    private final LocalDateTime startDate = LocalDateTime.parse("2020-06-14T00:00:00.123456");
+    private final LocalDateTime endDate = LocalDateTime.parse("2020-12-31T23:59:59");
+
+    @Test
+    void shouldKeepDatesAmountAndCurrencyInCompactForm() {
+        // When
+        ProductPrice productPrice = createProductPrice(new BigDecimal("35.5"), "EUR");
+
+        // Then
+        assertThat(productPrice.startEpochMicros()).isEqualTo(1592092800123456L);
+        assertThat(productPrice.priceMinorUnits()).isEqualTo(3550);
+        assertThat(productPrice.currencyIndex()).isEqualTo(Currencies.indexOf("EUR"));
+        assertThat(productPrice.startDate()).isEqualTo(startDate);
+        assertThat(productPrice.endDate()).isEqualTo(endDate);
+        assertThat(productPrice.price()).isEqualTo(new BigDecimal("35.50"));
+        assertThat(productPrice.currency()).isEqualTo(Monetary.getCurrency("EUR"));
+    }
+
+    @Test
+    void shouldKeepTheScaleOfThePriceColumnWhateverTheCurrency() {
+        // When
+        ProductPrice yenPrice = createProductPrice(new BigDecimal("100.50"), "JPY");
+        ProductPrice dinarPrice = createProductPrice(new BigDecimal("35.50"), "KWD");
+
+        // Then
+        assertThat(yenPrice.priceMinorUnits()).isEqualTo(10050);
+        assertThat(yenPrice.price()).isEqualTo(new BigDecimal("100.50"));
+        assertThat(dinarPrice.price()).isEqualTo(new BigDecimal("35.50"));
+        assertThat(createProductPrice(new BigDecimal("100.00"), "JPY").price()).isEqualTo(new BigDecimal("100.00"));
+    }
+
+    @Test
+    void shouldRejectAmountsWithMoreDecimalsThanThePriceColumn() {
+        assertThatThrownBy(() -> createProductPrice(new BigDecimal("35.505"), "EUR"))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void shouldBeValidBetweenItsStartAndEndDatesBothIncluded() {
+        // Given
+        ProductPrice productPrice = createProductPrice(BigDecimal.TEN, "EUR");
+
+        // Then
+        assertThat(productPrice.isValidAt(startDate)).isTrue();
+        assertThat(productPrice.isValidAt(endDate)).isTrue();
+        assertThat(productPrice.isValidAt(startDate.minusNanos(1))).isFalse();
+        assertThat(productPrice.isValidAt(endDate.plusNanos(1))).isFalse();
+    }
+
+    @Test
+    void shouldOnlyTieOnPrecedenceWithAnEqualPrice() {
+        // Given
+        ProductPrice productPrice = createProductPrice(new BigDecimal("35.50"), "EUR");
+
+        // Then
+        assertThat(ProductPrice.PRECEDENCE.compare(productPrice, createProductPrice(new BigDecimal("35.50"), "EUR"))).isZero();
+        assertThat(ProductPrice.PRECEDENCE.compare(productPrice, createProductPrice(new BigDecimal("25.45"), "EUR"))).isPositive();
+        assertThat(ProductPrice.PRECEDENCE.compare(productPrice, createProductPrice(new BigDecimal("35.50"), "USD"))).isNegative();
+        assertThat(ProductPrice.PRECEDENCE.compare(
+                productPrice,
+                new ProductPrice(new BrandId(1), startDate, endDate.minusDays(1), 1, new ProductId(35455), 0, new BigDecimal("99.99"), Monetary.getCurrency("EUR"))
+        )).isPositive();
+    }
+
+    private ProductPrice createProductPrice(BigDecimal price, String currency) {
+        return new ProductPrice(
+                new BrandId(1),
+                startDate,
+                endDate,
+                1,
+                new ProductId(35455),
+                0,
+                price,
+                Monetary.getCurrency(currency)
+        );
+    }
+}
@@ -0,0 +1,137 @@
+package com.challenge.productservice.domain.productprice;
+
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductPriceTimelineTest {
+    private final BrandId brandId = new BrandId(1);
+    private final ProductId productId = new ProductId(35455);
+
+    private final ProductPrice basePrice = createProductPrice("2020-06-14T00:00:00", "2020-12-31T23:59:59", 1, 0);
+    private final ProductPrice afternoonPrice = createProductPrice("2020-06-14T15:00:00", "2020-06-14T18:30:00", 2, 1);
+    private final ProductPrice morningPrice = createProductPrice("2020-06-15T00:00:00", "2020-06-15T11:00:00", 3, 1);
+    private final ProductPrice latePrice = createProductPrice("2020-06-15T16:00:00", "2020-12-31T23:59:59", 4, 1);
+
+    @Test
+    void shouldResolveOverlappingPricesIntoNonOverlappingSegments() {
+        // When
+        ProductPriceTimeline timeline = ProductPriceTimeline.of(List.of(latePrice, basePrice, morningPrice, afternoonPrice));
+
+        // Then
+        assertThat(timeline.segments()).containsExactly(
+                new PriceSegment(date("2020-06-14T00:00:00"), date("2020-06-14T15:00:00"), basePrice),
+                new PriceSegment(date("2020-06-14T15:00:00"), date("2020-06-14T18:30:00").plusNanos(1), afternoonPrice),
+                new PriceSegment(date("2020-06-14T18:30:00").plusNanos(1), date("2020-06-15T00:00:00"), basePrice),
+                new PriceSegment(date("2020-06-15T00:00:00"), date("2020-06-15T11:00:00").plusNanos(1), morningPrice),
+                new PriceSegment(date("2020-06-15T11:00:00").plusNanos(1), date("2020-06-15T16:00:00"), basePrice),
+                new PriceSegment(date("2020-06-15T16:00:00"), date("2020-12-31T23:59:59").plusNanos(1), latePrice)
+        );
+    }
+
+    @Test
+    void shouldGetThePriceThatAppliesAtGivenDate() {
+        // Given
+        ProductPriceTimeline timeline = ProductPriceTimeline.of(List.of(basePrice, afternoonPrice, morningPrice, latePrice));
+
+        // Then
+        assertThat(timeline.priceAt(date("2020-06-14T10:00:00"))).contains(basePrice);
+        assertThat(timeline.priceAt(date("2020-06-14T15:00:00"))).contains(afternoonPrice);
+        assertThat(timeline.priceAt(date("2020-06-14T18:30:00"))).contains(afternoonPrice);
+        assertThat(timeline.priceAt(date("2020-06-14T21:00:00"))).contains(basePrice);
+        assertThat(timeline.priceAt(date("2020-06-15T10:00:00"))).contains(morningPrice);
+        assertThat(timeline.priceAt(date("2020-06-16T21:00:00"))).contains(latePrice);
+        assertThat(timeline.priceAt(date("2020-12-31T23:59:59"))).contains(latePrice);
+    }
+
+    @Test
+    void shouldNotGetAPriceOutsideOfTheTimeline() {
+        // Given
+        ProductPriceTimeline timeline = ProductPriceTimeline.of(List.of(afternoonPrice, morningPrice));
+
+        // Then
+        assertThat(timeline.priceAt(date("2020-06-14T14:59:59"))).isEmpty();
+        assertThat(timeline.priceAt(date("2020-06-14T20:00:00"))).isEmpty();
+        assertThat(timeline.priceAt(date("2020-06-15T11:00:01"))).isEmpty();
+        assertThat(ProductPriceTimeline.empty().priceAt(date("2020-06-14T16:00:00"))).isEmpty();
+    }
+
+    @Test
+    void shouldMergeTheSegmentsOfAPriceThatKeepsWinning() {
+        // Given
+        ProductPrice lowerPriorityPrice = createProductPrice("2020-06-14T10:00:00", "2020-06-14T12:00:00", 5, 0);
+        ProductPrice higherPriorityPrice = createProductPrice("2020-06-14T09:00:00", "2020-06-14T13:00:00", 6, 1);
+
+        // When
+        ProductPriceTimeline timeline = ProductPriceTimeline.of(List.of(lowerPriorityPrice, higherPriorityPrice));
+
+        // Then
+        assertThat(timeline.segments()).containsExactly(
+                new PriceSegment(date("2020-06-14T09:00:00"), date("2020-06-14T13:00:00").plusNanos(1), higherPriorityPrice)
+        );
+    }
+
+    @Test
+    void shouldGiveEqualPriorityOverlapsToTheMostRecentlyStartedPrice() {
+        // Given
+        ProductPrice olderPrice = createProductPrice("2020-06-14T00:00:00", "2020-06-14T23:59:59", 5, 1);
+        ProductPrice newerPrice = createProductPrice("2020-06-14T12:00:00", "2020-06-14T13:00:00", 6, 1);
+
+        // When
+        ProductPriceTimeline timeline = ProductPriceTimeline.of(List.of(newerPrice, olderPrice));
+
+        // Then
+        assertThat(timeline.priceAt(date("2020-06-14T11:59:59"))).contains(olderPrice);
+        assertThat(timeline.priceAt(date("2020-06-14T12:30:00"))).contains(newerPrice);
+        assertThat(timeline.priceAt(date("2020-06-14T13:30:00"))).contains(olderPrice);
+    }
+
+    @Test
+    void shouldGetTheSegmentsOverlappingAWindowCutToIt() {
+        // Given
+        ProductPriceTimeline timeline = ProductPriceTimeline.of(List.of(basePrice, afternoonPrice, morningPrice, latePrice));
+
+        // When
+        List<PriceSegment> segments = timeline.between(date("2020-06-14T16:00:00"), date("2020-06-15T10:00:00"));
+
+        // Then
+        assertThat(segments).containsExactly(
+                new PriceSegment(date("2020-06-14T16:00:00"), date("2020-06-14T18:30:00").plusNanos(1), afternoonPrice),
+                new PriceSegment(date("2020-06-14T18:30:00").plusNanos(1), date("2020-06-15T00:00:00"), basePrice),
+                new PriceSegment(date("2020-06-15T00:00:00"), date("2020-06-15T10:00:00"), morningPrice)
+        );
+    }
+
+    @Test
+    void shouldGetNoSegmentsForAWindowOutsideOfTheTimeline() {
+        // Given
+        ProductPriceTimeline timeline = ProductPriceTimeline.of(List.of(afternoonPrice, morningPrice));
+
+        // Then
+        assertThat(timeline.between(date("2020-06-13T00:00:00"), date("2020-06-14T15:00:00"))).isEmpty();
+        assertThat(timeline.between(date("2020-06-14T19:00:00"), date("2020-06-14T23:00:00"))).isEmpty();
+        assertThat(timeline.between(date("2020-06-16T00:00:00"), date("2020-06-17T00:00:00"))).isEmpty();
+    }
+
+    private ProductPrice createProductPrice(String startDate, String endDate, int priceList, int priority) {
+        return new ProductPrice(
+                brandId,
+                date(startDate),
+                date(endDate),
+                priceList,
+                productId,
+                priority,
+                new BigDecimal("9.99"),
+                Monetary.getCurrency("EUR")
+        );
+    }
+
+    private static LocalDateTime date(String date) {
+        return LocalDateTime.parse(date);
+    }
+}
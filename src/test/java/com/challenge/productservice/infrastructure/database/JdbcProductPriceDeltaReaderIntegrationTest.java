@@ -0,0 +1,254 @@
+package com.challenge.productservice.infrastructure.database;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.inmemory.ProductPriceDelta;
+import com.challenge.productservice.infrastructure.inmemory.RefreshingProductPriceRepository;
+import com.challenge.productservice.infrastructure.partition.BrandPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.money.Monetary;
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+class JdbcProductPriceDeltaReaderIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcProductPriceDeltaReader deltaReader;
+
+    ProductId productId = new ProductId(Math.round(Math.random() * 1000) + 1_000_000);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+    @BeforeEach
+    void setUp() {
+        deltaReader = new JdbcProductPriceDeltaReader(jdbcTemplate, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM prices WHERE product_id = ?", productId.value());
+    }
+
+    @Test
+    void shouldReadOnlyThePricesInsertedSinceTheGivenVersion() {
+        // Given
+        UUID existingId = givenExistingProductPrice(createProductPrice(0, "35.50"));
+        long version = deltaReader.changesSince(0).version();
+        ProductPrice inserted = createProductPrice(1, "25.45");
+        UUID insertedId = givenExistingProductPrice(inserted);
+
+        // When
+        ProductPriceDelta delta = deltaReader.changesSince(version);
+
+        // Then
+        assertThat(delta.upserted()).isEqualTo(Map.of(insertedId, inserted));
+        assertThat(delta.upserted()).doesNotContainKey(existingId);
+        assertThat(delta.deleted()).isEmpty();
+        assertThat(delta.version()).isGreaterThan(version);
+    }
+
+    @Test
+    void shouldReadUpdatedPricesAndTombstones() {
+        // Given
+        UUID updatedId = givenExistingProductPrice(createProductPrice(0, "35.50"));
+        UUID deletedId = givenExistingProductPrice(createProductPrice(1, "25.45"));
+        long version = deltaReader.changesSince(0).version();
+        jdbcTemplate.update("UPDATE prices SET price = 30.50 WHERE id = ?", updatedId);
+        jdbcTemplate.update("DELETE FROM prices WHERE id = ?", deletedId);
+        jdbcTemplate.update(
+                "INSERT INTO price_tombstones (id, brand_id, product_id) VALUES (?, ?, ?)",
+                deletedId, brandId.value(), productId.value()
+        );
+
+        // When
+        ProductPriceDelta delta = deltaReader.changesSince(version);
+
+        // Then
+        assertThat(delta.upserted()).isEqualTo(Map.of(updatedId, createProductPrice(0, "30.50")));
+        assertThat(delta.deleted()).containsExactly(new ProductPriceDelta.Tombstone(deletedId, productId, brandId));
+    }
+
+    @Test
+    void shouldReadAPriceDeletedAgainAfterBeingInsertedAgain() {
+        // Given
+        ProductPrice productPrice = createProductPrice(0, "35.50");
+        UUID id = givenExistingProductPrice(productPrice);
+        long version = deltaReader.changesSince(0).version();
+        givenDeletedProductPrice(id);
+        givenExistingProductPrice(id, productPrice);
+        givenDeletedProductPrice(id);
+
+        // When
+        ProductPriceDelta delta = deltaReader.changesSince(version);
+
+        // Then
+        assertThat(delta.upserted()).isEmpty();
+        assertThat(delta.deleted()).containsExactly(new ProductPriceDelta.Tombstone(id, productId, brandId));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldRefreshAPriceCommittedAfterAPriceWithAHigherVersionWasRead() throws SQLException {
+        // Given
+        RefreshingProductPriceRepository repository = new RefreshingProductPriceRepository(
+                deltaReader,
+                Clock.systemUTC(),
+                Duration.ofMinutes(1)
+        );
+        ProductPrice committedLate = createProductPrice(0, "35.50");
+        ProductPrice committedEarly = createProductPrice(1, "25.45");
+        List<ProductPrice> servedBeforeTheLateCommit;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            givenExistingProductPrice(
+                    new JdbcTemplate(new SingleConnectionDataSource(connection, true)),
+                    UUID.randomUUID(),
+                    committedLate
+            );
+            givenExistingProductPrice(committedEarly);
+            repository.refresh();
+            servedBeforeTheLateCommit = repository.getProductPrices(productId, brandId, validAt);
+            connection.commit();
+        }
+
+        // When
+        repository.refresh();
+
+        // Then
+        assertThat(servedBeforeTheLateCommit).containsExactly(committedEarly);
+        assertThat(repository.getProductPrices(productId, brandId, validAt))
+                .containsExactlyInAnyOrder(committedLate, committedEarly);
+    }
+
+    @Test
+    void shouldReadOnlyTheChangesOfTheBrandsOfThePartition() {
+        // Given
+        long version = deltaReader.changesSince(0).version();
+        ProductPrice ownedPrice = createProductPrice(0, "35.50");
+        UUID ownedId = givenExistingProductPrice(ownedPrice);
+        UUID otherBrandId = givenExistingProductPrice(new ProductPrice(
+                new BrandId(2),
+                ownedPrice.startDate(),
+                ownedPrice.endDate(),
+                1,
+                productId,
+                0,
+                new BigDecimal("25.45"),
+                Monetary.getCurrency("EUR")
+        ));
+        jdbcTemplate.update("DELETE FROM prices WHERE id = ?", otherBrandId);
+        jdbcTemplate.update(
+                "INSERT INTO price_tombstones (id, brand_id, product_id) VALUES (?, ?, ?)",
+                otherBrandId, 2, productId.value()
+        );
+        JdbcProductPriceDeltaReader partitionReader = new JdbcProductPriceDeltaReader(
+                jdbcTemplate,
+                transactionManager,
+                new BrandPartition(Set.of(brandId))
+        );
+
+        // When
+        ProductPriceDelta delta = partitionReader.changesSince(version);
+
+        // Then
+        assertThat(delta.upserted()).isEqualTo(Map.of(ownedId, ownedPrice));
+        assertThat(delta.deleted()).isEmpty();
+    }
+
+    @Test
+    void shouldKeepTheGivenVersionWhenNothingChanged() {
+        // Given
+        long version = deltaReader.changesSince(0).version();
+
+        // When
+        ProductPriceDelta delta = deltaReader.changesSince(version);
+
+        // Then
+        assertThat(delta.isEmpty()).isTrue();
+        assertThat(delta.version()).isEqualTo(version);
+    }
+
+    private ProductPrice createProductPrice(int priority, String price) {
+        return new ProductPrice(
+                brandId,
+                validAt.minusDays(1),
+                validAt.plusDays(1),
+                1,
+                productId,
+                priority,
+                new BigDecimal(price),
+                Monetary.getCurrency("EUR")
+        );
+    }
+
+    private void givenDeletedProductPrice(UUID id) {
+        jdbcTemplate.update("DELETE FROM prices WHERE id = ?", id);
+        jdbcTemplate.update(
+                "INSERT INTO price_tombstones (id, brand_id, product_id) VALUES (?, ?, ?)",
+                id, brandId.value(), productId.value()
+        );
+    }
+
+    private UUID givenExistingProductPrice(ProductPrice productPrice) {
+        return givenExistingProductPrice(UUID.randomUUID(), productPrice);
+    }
+
+    private UUID givenExistingProductPrice(UUID id, ProductPrice productPrice) {
+        return givenExistingProductPrice(jdbcTemplate, id, productPrice);
+    }
+
+    private UUID givenExistingProductPrice(JdbcTemplate jdbcTemplate, UUID id, ProductPrice productPrice) {
+        jdbcTemplate.update(
+                """
+                    INSERT INTO prices (id, brand_id, start_date, end_date, price_list, product_id, priority, price, currency)
+                    VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """,
+                id,
+                productPrice.brandId().value(),
+                Timestamp.valueOf(productPrice.startDate()),
+                Timestamp.valueOf(productPrice.endDate()),
+                productPrice.priceList(),
+                productPrice.productId().value(),
+                productPrice.priority(),
+                productPrice.price(),
+                productPrice.currency().getCurrencyCode()
+        );
+        return id;
+    }
+}
@@ -0,0 +1,130 @@
+package com.challenge.productservice.infrastructure.database;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ExportedProductPrice;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceExporter;
+import com.challenge.productservice.infrastructure.config.DatabaseConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@DataJpaTest(properties = {
+        "product-service.export.fetch-size=2"
+})
+@Import({
+        DatabaseConfig.class
+})
+class JdbcProductPriceExporterIntegrationTest {
+
+    @Autowired
+    private ProductPriceExporter productPriceExporter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    BrandId brandId = new BrandId(Math.round(Math.random() * 1000) + 1_000_000);
+    LocalDateTime validAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+    @Test
+    void shouldExportEveryPriceOfTheBrandInIdOrder() {
+        // Given
+        List<ExportedProductPrice> catalog = givenExistingProductPrices(brandId, 5);
+        givenExistingProductPrices(new BrandId(brandId.value() + 1), 2);
+
+        // When
+        List<ExportedProductPrice> exported = export(Optional.empty());
+
+        // Then
+        assertThat(exported).containsExactlyElementsOf(inIdOrder(catalog));
+    }
+
+    @Test
+    void shouldResumeTheExportAfterTheGivenId() {
+        // Given
+        List<ExportedProductPrice> catalog = inIdOrder(givenExistingProductPrices(brandId, 5));
+        List<ExportedProductPrice> exportedBeforeInterruption = catalog.subList(0, 2);
+        UUID lastReceivedId = exportedBeforeInterruption.get(1).id();
+
+        // When
+        List<ExportedProductPrice> exported = export(Optional.of(lastReceivedId));
+
+        // Then
+        assertThat(exported).containsExactlyElementsOf(catalog.subList(2, 5));
+    }
+
+    private List<ExportedProductPrice> export(Optional<UUID> after) {
+        List<ExportedProductPrice> exported = new ArrayList<>();
+        productPriceExporter.exportProductPrices(brandId, after, exported::add);
+        return exported;
+    }
+
+    // Ordered the way the database orders the id column
+    private List<ExportedProductPrice> inIdOrder(List<ExportedProductPrice> productPrices) {
+        List<UUID> ids = jdbcTemplate.queryForList("SELECT id FROM prices ORDER BY id", UUID.class);
+        return productPrices.stream()
+                .sorted(Comparator.comparingInt(productPrice -> ids.indexOf(productPrice.id())))
+                .toList();
+    }
+
+    private List<ExportedProductPrice> givenExistingProductPrices(BrandId brandId, int count) {
+        List<ExportedProductPrice> productPrices = IntStream.range(0, count)
+                .mapToObj(i -> new ExportedProductPrice(
+                        UUID.randomUUID(),
+                        new ProductPrice(
+                                brandId,
+                                validAt.minusDays(1),
+                                validAt.plusDays(1),
+                                1,
+                                new ProductId(i),
+                                i % 2,
+                                new BigDecimal("9.99"),
+                                Monetary.getCurrency("EUR")
+                        )
+                ))
+                .toList();
+        jdbcTemplate.batchUpdate(
+                """
+                    INSERT INTO prices (id, brand_id, start_date, end_date, price_list, product_id, priority, price, currency)
+                    VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """,
+                productPrices.stream()
+                        .map(exported -> {
+                            ProductPrice productPrice = exported.productPrice();
+                            return new Object[]{
+                                    exported.id(),
+                                    productPrice.brandId().value(),
+                                    Timestamp.valueOf(productPrice.startDate()),
+                                    Timestamp.valueOf(productPrice.endDate()),
+                                    productPrice.priceList(),
+                                    productPrice.productId().value(),
+                                    productPrice.priority(),
+                                    productPrice.price(),
+                                    productPrice.currency().getCurrencyCode()
+                            };
+                        })
+                        .toList()
+        );
+        return productPrices;
+    }
+}
@@ -0,0 +1,9 @@
+package com.challenge.productservice.infrastructure.database;
+
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest(properties = {
+        "product-service.repository.type=jdbc"
+})
+class JdbcProductPriceRepositoryIntegrationTest extends ProductPriceRepositoryIntegrationTest {
+}
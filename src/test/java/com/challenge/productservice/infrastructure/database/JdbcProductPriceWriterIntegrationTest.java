@@ -0,0 +1,67 @@
+package com.challenge.productservice.infrastructure.database;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.ProductPriceWriter;
+import com.challenge.productservice.infrastructure.config.DatabaseConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+@Import({
+        DatabaseConfig.class
+})
+class JdbcProductPriceWriterIntegrationTest {
+
+    @Autowired
+    private ProductPriceWriter productPriceWriter;
+
+    @Autowired
+    private ProductPriceRepository productPriceRepository;
+
+    LocalDateTime validAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+    @Test
+    void shouldInsertAllPricesOfABatch() {
+        // Given
+        ProductId productId = new ProductId(Math.round(Math.random() * 1000) + 1_000_000);
+        BrandId brandId = new BrandId(1);
+        ProductPrice productPricePriorityZero = createProductPrice(brandId, productId, 0);
+        ProductPrice productPricePriorityOne = createProductPrice(brandId, productId, 1);
+
+        // When
+        productPriceWriter.insertAll(List.of(productPricePriorityZero, productPricePriorityOne));
+
+        // Then
+        assertThat(productPriceRepository.getProductPrices(productId, brandId, validAt))
+                .containsExactlyInAnyOrder(productPricePriorityZero, productPricePriorityOne);
+    }
+
+    private ProductPrice createProductPrice(BrandId brandId, ProductId productId, int priority) {
+        return new ProductPrice(
+                brandId,
+                validAt.minusDays(1),
+                validAt.plusDays(1),
+                1,
+                productId,
+                priority,
+                new BigDecimal("9.99"),
+                Monetary.getCurrency("EUR")
+        );
+    }
+}
@@ -0,0 +1,223 @@
+package com.challenge.productservice.infrastructure.database;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceKey;
+import com.challenge.productservice.domain.productprice.ProductPriceLookup;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.infrastructure.config.DatabaseConfig;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs EXPLAIN on the SQL that Hibernate generates for each lookup and fails if H2 stops using the
+ * lookup index, so changes to the queries or to the schema cannot silently fall back to a table scan.
+ */
+@ExtendWith(SpringExtension.class)
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.challenge.productservice.infrastructure.database.ProductPriceQueryPlanIntegrationTest$RecordingStatementInspector"
+})
+@Import({
+        DatabaseConfig.class
+})
+class ProductPriceQueryPlanIntegrationTest {
+    private static final String LOOKUP_INDEX = "PRICES_LOOKUP_IDX";
+    private static final String PRICES_TABLE_SCAN = "PRICES.tableScan";
+
+    @Autowired
+    private ProductPriceRepository productPriceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    ProductId productId = new ProductId(35455);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    @BeforeEach
+    void givenALargeEnoughCatalogForTheOptimizerToChooseAnIndex() {
+        List<Object[]> rows = IntStream.range(0, 1000)
+                .mapToObj(i -> new Object[]{
+                        UUID.randomUUID(),
+                        (long) i % 10,
+                        Timestamp.valueOf(validAt.minusDays(i % 30)),
+                        Timestamp.valueOf(validAt.plusDays(i % 30)),
+                        i % 5,
+                        100_000L + i,
+                        i % 3
+                })
+                .toList();
+        jdbcTemplate.batchUpdate(
+                """
+                    INSERT INTO prices (id, brand_id, start_date, end_date, price_list, product_id, priority, price, currency)
+                    VALUES (?, ?, ?, ?, ?, ?, ?, 9.99, 'EUR')
+                """,
+                rows
+        );
+        jdbcTemplate.execute("ANALYZE");
+        RecordingStatementInspector.clear();
+    }
+
+    @Test
+    void getProductPricesShouldUseTheLookupIndex() {
+        // When
+        productPriceRepository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        assertThat(explainLastPricesQuery(productId.value(), brandId.value(), timestamp(validAt), timestamp(validAt)))
+                .contains(LOOKUP_INDEX)
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void getProductPriceShouldUseTheLookupIndex() {
+        // When
+        productPriceRepository.getProductPrice(productId, brandId, validAt);
+
+        // Then
+        assertThat(explainLastPricesQuery(productId.value(), brandId.value(), timestamp(validAt), timestamp(validAt), 1))
+                .contains(LOOKUP_INDEX)
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void getProductPriceSegmentShouldBoundTheSegmentWithTheLookupIndex() {
+        // Given
+        ProductPrice winner = productPriceRepository.getProductPrice(productId, brandId, validAt).orElseThrow();
+
+        // When
+        productPriceRepository.getProductPriceSegment(productId, brandId, validAt);
+
+        // Then
+        assertThat(explainLastPricesQuery(
+                productId.value(),
+                brandId.value(),
+                timestamp(validAt),
+                timestamp(winner.endDate()),
+                winner.priority()
+        ))
+                .contains(LOOKUP_INDEX)
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void getProductPriceTimelineShouldUseTheLookupIndex() {
+        // When
+        productPriceRepository.getProductPriceTimeline(productId, brandId);
+
+        // Then
+        assertThat(explainLastPricesQuery(productId.value(), brandId.value()))
+                .contains(LOOKUP_INDEX)
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void getProductPricesOfABatchShouldUseTheLookupIndex() {
+        // Given
+        List<ProductPriceLookup> lookups = List.of(
+                new ProductPriceLookup(productId, brandId, validAt),
+                new ProductPriceLookup(new ProductId(100_001), new BrandId(1), validAt)
+        );
+
+        // When
+        productPriceRepository.getProductPrices(lookups);
+
+        // Then
+        assertThat(explainLastPricesQuery(
+                new Long[]{productId.value(), 100_001L},
+                new Long[]{brandId.value(), 1L},
+                new Timestamp[]{timestamp(validAt), timestamp(validAt)}
+        ))
+                .contains(LOOKUP_INDEX)
+                .doesNotContainIgnoringCase(PRICES_TABLE_SCAN);
+    }
+
+    @Test
+    void getProductPricesOfBatchesOfAnySizeShouldRunTheSameStatement() {
+        // When
+        productPriceRepository.getProductPrices(List.of(new ProductPriceLookup(productId, brandId, validAt)));
+        String single = RecordingStatementInspector.lastSelectFromPrices();
+        productPriceRepository.getProductPrices(List.of(
+                new ProductPriceLookup(productId, brandId, validAt),
+                new ProductPriceLookup(new ProductId(100_001), new BrandId(1), validAt),
+                new ProductPriceLookup(new ProductId(100_002), new BrandId(2), validAt)
+        ));
+        String several = RecordingStatementInspector.lastSelectFromPrices();
+
+        // Then
+        assertThat(several).isEqualTo(single);
+    }
+
+    @Test
+    void getProductPriceTimelinesShouldUseTheLookupIndex() {
+        // Given
+        List<ProductPriceKey> keys = List.of(
+                new ProductPriceKey(productId, brandId),
+                new ProductPriceKey(new ProductId(100_001), new BrandId(1))
+        );
+
+        // When
+        productPriceRepository.getProductPriceTimelines(keys);
+
+        // Then
+        assertThat(explainLastPricesQuery(
+                new Long[]{productId.value(), 100_001L},
+                new Long[]{brandId.value(), 1L}
+        ))
+                .contains(LOOKUP_INDEX)
+                .doesNotContainIgnoringCase(PRICES_TABLE_SCAN);
+    }
+
+    private String explainLastPricesQuery(Object... parameters) {
+        String sql = RecordingStatementInspector.lastSelectFromPrices();
+        assertThat(sql).as("query generated for the prices table").isNotNull();
+
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters);
+    }
+
+    private static Timestamp timestamp(LocalDateTime dateTime) {
+        return Timestamp.valueOf(dateTime);
+    }
+
+    public static class RecordingStatementInspector implements StatementInspector {
+        private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+        static void clear() {
+            statements.clear();
+        }
+
+        static String lastSelectFromPrices() {
+            for (int i = statements.size() - 1; i >= 0; i--) {
+                String sql = statements.get(i);
+                if (sql.trim().toLowerCase().startsWith("select") && sql.toLowerCase().contains("prices")) {
+                    return sql;
+                }
+            }
+            return null;
+        }
+    }
+}
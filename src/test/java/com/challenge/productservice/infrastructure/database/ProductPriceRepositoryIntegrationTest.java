@@ -0,0 +1,545 @@
+package com.challenge.productservice.infrastructure.database;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.PriceSegment;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceKey;
+import com.challenge.productservice.domain.productprice.ProductPriceLookup;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.ProductPriceTimeline;
+import com.challenge.productservice.infrastructure.config.DatabaseConfig;
+import com.challenge.productservice.infrastructure.database.entity.ProductPriceEntity;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.AssertionsForClassTypes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import javax.money.Monetary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Scenarios every database backed {@link ProductPriceRepository} has to pass. Subclasses pick the
+ * implementation through product-service.repository.type.
+ */
+@ExtendWith(SpringExtension.class)
+@Import({
+        DatabaseConfig.class
+})
+abstract class ProductPriceRepositoryIntegrationTest {
+
+    @Autowired
+    private ProductPriceRepository productPriceRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    LocalDateTime validAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+    @Test
+    void shouldGetProductPricesValidAtGivenDate() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        BrandId brandId = new BrandId(randomLong());
+        ProductPrice productPricePriorityZero = createProductPrice(
+                brandId,
+                productId,
+                validAt.minusDays(1),
+                validAt.plusDays(1),
+                0
+        );
+        ProductPrice productPricePriorityOne = createProductPrice(
+                brandId,
+                productId,
+                validAt.minusDays(1),
+                validAt.plusDays(1),
+                1
+        );
+        givenExistingProductPrice(productPricePriorityZero);
+        givenExistingProductPrice(productPricePriorityOne);
+
+        // When
+        List<ProductPrice> result = productPriceRepository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).isEqualTo(List.of(productPricePriorityZero, productPricePriorityOne));
+    }
+
+    @Test
+    void shouldGetTheProductPriceWithHighestPriorityValidAtGivenDate() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        BrandId brandId = new BrandId(randomLong());
+        ProductPrice productPricePriorityZero = createProductPrice(
+                brandId,
+                productId,
+                validAt.minusDays(1),
+                validAt.plusDays(1),
+                0
+        );
+        ProductPrice productPricePriorityOne = createProductPrice(
+                brandId,
+                productId,
+                validAt.minusDays(1),
+                validAt.plusDays(1),
+                1
+        );
+        givenExistingProductPrice(productPricePriorityOne);
+        givenExistingProductPrice(productPricePriorityZero);
+
+        // When
+        Optional<ProductPrice> result = productPriceRepository.getProductPrice(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).contains(productPricePriorityOne);
+    }
+
+    @Test
+    void shouldRecordTheCandidatesCountedNextToTheWinner() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ((MeterBinder) productPriceRepository).bindTo(meterRegistry);
+        ProductId productId = new ProductId(randomLong());
+        BrandId brandId = new BrandId(randomLong());
+        givenExistingProductPrice(createProductPrice(brandId, productId, validAt.minusDays(1), validAt.plusDays(1), 0));
+        givenExistingProductPrice(createProductPrice(brandId, productId, validAt.minusDays(2), validAt.plusDays(2), 1));
+
+        // When
+        productPriceRepository.getProductPrice(productId, brandId, validAt);
+
+        // Then
+        DistributionSummary candidates = meterRegistry.get("product.price.repository.candidates").summary();
+        assertThat(candidates.count()).isEqualTo(1);
+        assertThat(candidates.totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldGetTheMostRecentlyStartedProductPriceWhenPrioritiesAreEqual() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        BrandId brandId = new BrandId(randomLong());
+        ProductPrice olderProductPrice = createProductPrice(
+                brandId,
+                productId,
+                validAt.minusDays(2),
+                validAt.plusDays(1),
+                1
+        );
+        ProductPrice newerProductPrice = createProductPrice(
+                brandId,
+                productId,
+                validAt.minusDays(1),
+                validAt.plusDays(1),
+                1
+        );
+        givenExistingProductPrice(newerProductPrice);
+        givenExistingProductPrice(olderProductPrice);
+
+        // When
+        Optional<ProductPrice> result = productPriceRepository.getProductPrice(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).contains(newerProductPrice);
+    }
+
+    @Test
+    void shouldGetTheSameProductPriceWhateverTheRowOrderWhenOnlyTheAmountsDiffer() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        BrandId brandId = new BrandId(randomLong());
+        ProductPrice lowerProductPrice = createProductPrice(brandId, productId, validAt.minusDays(1), validAt.plusDays(1), 1);
+        ProductPrice higherProductPrice = new ProductPrice(
+                brandId,
+                validAt.minusDays(1),
+                validAt.plusDays(1),
+                1,
+                productId,
+                1,
+                new BigDecimal("19.99"),
+                Monetary.getCurrency("EUR")
+        );
+        givenExistingProductPrice(lowerProductPrice);
+        givenExistingProductPrice(higherProductPrice);
+        givenExistingProductPrice(lowerProductPrice);
+
+        // When
+        Optional<ProductPrice> result = productPriceRepository.getProductPrice(productId, brandId, validAt);
+        List<Optional<ProductPrice>> batchResult = productPriceRepository.getProductPrices(
+                List.of(new ProductPriceLookup(productId, brandId, validAt))
+        );
+
+        // Then
+        assertThat(result).contains(higherProductPrice);
+        assertThat(batchResult).containsExactly(Optional.of(higherProductPrice));
+    }
+
+    @Test
+    void shouldNotGetTheProductPriceWhenNoneIsValidAtGivenDate() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        BrandId brandId = new BrandId(randomLong());
+        ProductPrice productPrice = createProductPrice(
+                brandId,
+                productId,
+                validAt.plusDays(1),
+                validAt.plusDays(2),
+                1
+        );
+        givenExistingProductPrice(productPrice);
+
+        // When
+        Optional<ProductPrice> result = productPriceRepository.getProductPrice(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void shouldGetTheTimelineOfAProductAndBrand() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        BrandId brandId = new BrandId(randomLong());
+        ProductPrice productPricePriorityZero = createProductPrice(
+                brandId,
+                productId,
+                validAt.minusDays(1),
+                validAt.plusDays(1),
+                0
+        );
+        ProductPrice productPricePriorityOne = createProductPrice(
+                brandId,
+                productId,
+                validAt.plusDays(2),
+                validAt.plusDays(3),
+                1
+        );
+        givenExistingProductPrice(productPricePriorityZero);
+        givenExistingProductPrice(productPricePriorityOne);
+
+        // When
+        ProductPriceTimeline result = productPriceRepository.getProductPriceTimeline(productId, brandId);
+
+        // Then
+        assertThat(result.segments()).containsExactly(
+                new PriceSegment(validAt.minusDays(1), validAt.plusDays(1).plusNanos(1), productPricePriorityZero),
+                new PriceSegment(validAt.plusDays(2), validAt.plusDays(3).plusNanos(1), productPricePriorityOne)
+        );
+    }
+
+    @Test
+    void shouldGetThePriceSegmentEndingWhenAHigherPriorityPriceStarts() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        BrandId brandId = new BrandId(randomLong());
+        ProductPrice basePrice = createProductPrice(brandId, productId, validAt.minusDays(1), validAt.plusDays(5), 1);
+        ProductPrice lowerPriorityPrice = createProductPrice(brandId, productId, validAt.plusDays(1), validAt.plusDays(2), 0);
+        ProductPrice overridePrice = createProductPrice(brandId, productId, validAt.plusDays(3), validAt.plusDays(4), 2);
+        givenExistingProductPrice(basePrice);
+        givenExistingProductPrice(lowerPriorityPrice);
+        givenExistingProductPrice(overridePrice);
+
+        // When
+        Optional<PriceSegment> result = productPriceRepository.getProductPriceSegment(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).contains(new PriceSegment(validAt, validAt.plusDays(3), basePrice));
+        assertThat(result.get().until())
+                .isEqualTo(productPriceRepository.getProductPriceTimeline(productId, brandId).segmentAt(validAt).get().until());
+    }
+
+    @Test
+    void shouldGetThePriceSegmentEndingWithTheWinnerWhenNothingOverridesIt() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        BrandId brandId = new BrandId(randomLong());
+        ProductPrice productPrice = createProductPrice(brandId, productId, validAt.minusDays(1), validAt.plusDays(1), 0);
+        givenExistingProductPrice(productPrice);
+        givenExistingProductPrice(createProductPrice(brandId, productId, validAt.plusDays(2), validAt.plusDays(3), 1));
+
+        // When
+        Optional<PriceSegment> result = productPriceRepository.getProductPriceSegment(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).contains(new PriceSegment(validAt, validAt.plusDays(1).plusNanos(1), productPrice));
+    }
+
+    @Test
+    void shouldGetTheTimelineOfEachProductAndBrandInOrder() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        BrandId brandId = new BrandId(randomLong());
+        BrandId otherBrandId = new BrandId(brandId.value() + 1);
+        BrandId brandIdWithoutPrices = new BrandId(brandId.value() + 2);
+        ProductPrice productPrice = createProductPrice(
+                brandId,
+                productId,
+                validAt.minusDays(1),
+                validAt.plusDays(1),
+                0
+        );
+        ProductPrice otherBrandProductPrice = createProductPrice(
+                otherBrandId,
+                productId,
+                validAt.plusDays(2),
+                validAt.plusDays(3),
+                0
+        );
+        givenExistingProductPrice(productPrice);
+        givenExistingProductPrice(otherBrandProductPrice);
+
+        List<ProductPriceKey> keys = List.of(
+                new ProductPriceKey(productId, otherBrandId),
+                new ProductPriceKey(productId, brandIdWithoutPrices),
+                new ProductPriceKey(productId, brandId),
+                new ProductPriceKey(productId, otherBrandId)
+        );
+
+        // When
+        List<ProductPriceTimeline> result = productPriceRepository.getProductPriceTimelines(keys);
+
+        // Then
+        assertThat(result).hasSize(4);
+        assertThat(result.get(0).priceAt(validAt.plusDays(2))).contains(otherBrandProductPrice);
+        assertThat(result.get(1).segments()).isEmpty();
+        assertThat(result.get(2).priceAt(validAt)).contains(productPrice);
+        assertThat(result.get(2).priceAt(validAt.plusDays(2))).isEmpty();
+        assertThat(result.get(3).segments()).isEqualTo(result.get(0).segments());
+    }
+
+    @Test
+    void shouldGetTheProductPriceOfEachLookupInOrder() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        BrandId brandId = new BrandId(randomLong());
+        ProductPrice productPricePriorityZero = createProductPrice(
+                brandId,
+                productId,
+                validAt.minusDays(1),
+                validAt.plusDays(3),
+                0
+        );
+        ProductPrice productPricePriorityOne = createProductPrice(
+                brandId,
+                productId,
+                validAt.plusDays(1),
+                validAt.plusDays(2),
+                1
+        );
+        givenExistingProductPrice(productPricePriorityZero);
+        givenExistingProductPrice(productPricePriorityOne);
+
+        List<ProductPriceLookup> lookups = List.of(
+                new ProductPriceLookup(productId, brandId, validAt.plusDays(1)),
+                new ProductPriceLookup(productId, new BrandId(brandId.value() + 1), validAt),
+                new ProductPriceLookup(productId, brandId, validAt),
+                new ProductPriceLookup(productId, brandId, validAt.plusDays(1))
+        );
+
+        // When
+        List<Optional<ProductPrice>> result = productPriceRepository.getProductPrices(lookups);
+
+        // Then
+        assertThat(result).containsExactly(
+                Optional.of(productPricePriorityOne),
+                Optional.empty(),
+                Optional.of(productPricePriorityZero),
+                Optional.of(productPricePriorityOne)
+        );
+    }
+
+    @Test
+    void shouldGetProductPriceWhenStartDateIsEqualToValidAtDate() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        BrandId brandId = new BrandId(randomLong());
+        ProductPrice productPrice = createProductPrice(
+                brandId,
+                productId,
+                validAt,
+                validAt.plusDays(1),
+                0
+        );
+        givenExistingProductPrice(productPrice);
+
+        // When
+        List<ProductPrice> result = productPriceRepository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        AssertionsForClassTypes.assertThat(result).isEqualTo(List.of(productPrice));
+    }
+
+    @Test
+    void shouldGetProductPriceWhenEndDateIsEqualToValidAtDate() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        BrandId brandId = new BrandId(randomLong());
+        ProductPrice productPrice = createProductPrice(
+                brandId,
+                productId,
+                validAt.minusDays(1),
+                validAt,
+                0
+        );
+        givenExistingProductPrice(productPrice);
+
+        // When
+        List<ProductPrice> result = productPriceRepository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        AssertionsForClassTypes.assertThat(result).isEqualTo(List.of(productPrice));
+    }
+
+    @Test
+    void shouldNotGetAProductPriceWhenEndedBeforeValidAtDate() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        BrandId brandId = new BrandId(randomLong());
+        ProductPrice productPrice = createProductPrice(
+                brandId,
+                productId,
+                validAt.minusDays(2),
+                validAt.minusDays(1),
+                0
+        );
+        givenExistingProductPrice(productPrice);
+
+        // When
+        List<ProductPrice> result = productPriceRepository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        AssertionsForClassTypes.assertThat(result.size()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldNotGetAProductPriceWhenStartsAfterValidAtDate() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        BrandId brandId = new BrandId(randomLong());
+        ProductPrice productPrice = createProductPrice(
+                brandId,
+                productId,
+                validAt.plusDays(1),
+                validAt.plusDays(2),
+                0
+        );
+        givenExistingProductPrice(productPrice);
+
+        // When
+        List<ProductPrice> result = productPriceRepository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        AssertionsForClassTypes.assertThat(result.size()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldNotGetAProductPriceWhenNonFound() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        BrandId brandId = new BrandId(randomLong());
+
+        // When
+        List<ProductPrice> result = productPriceRepository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        AssertionsForClassTypes.assertThat(result.size()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldNotGetAProductPriceWithDifferentBrandIdAndSameProductId() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        BrandId brandId = new BrandId(randomLong());
+        ProductPrice productPrice = createProductPrice(
+                brandId,
+                productId,
+                validAt.minusDays(1),
+                validAt.plusDays(1),
+                0
+        );
+        givenExistingProductPrice(productPrice);
+
+        BrandId anotherBrandId = new BrandId(randomLong());
+
+        // When
+        List<ProductPrice> result = productPriceRepository.getProductPrices(productId, anotherBrandId, validAt);
+
+        // Then
+        AssertionsForClassTypes.assertThat(result.size()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldNotGetAProductPriceWithDifferentProductIdAndSameBrandId() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        BrandId brandId = new BrandId(randomLong());
+        ProductPrice productPrice = createProductPrice(
+                brandId,
+                productId,
+                validAt.minusDays(1),
+                validAt.plusDays(1),
+                0
+        );
+        givenExistingProductPrice(productPrice);
+
+        ProductId anotherProductId = new ProductId(randomLong());
+
+        // When
+        List<ProductPrice> result = productPriceRepository.getProductPrices(anotherProductId, brandId, validAt);
+
+        // Then
+        AssertionsForClassTypes.assertThat(result.size()).isEqualTo(0);
+    }
+
+    private void givenExistingProductPrice(ProductPrice productPrice) {
+        ProductPriceEntity entity = new ProductPriceEntity();
+        entity.setId(UUID.randomUUID());
+        entity.setBrandId(productPrice.brandId().value());
+        entity.setStartDate(productPrice.startDate());
+        entity.setEndDate(productPrice.endDate());
+        entity.setPriceList(productPrice.priceList());
+        entity.setProductId(productPrice.productId().value());
+        entity.setPriority(productPrice.priority());
+        entity.setPrice(productPrice.price());
+        entity.setCurrency(productPrice.currency().getCurrencyCode());
+
+        entityManager.persist(entity);
+        entityManager.flush();
+    }
+
+    private long randomLong() {
+        return Math.round(Math.random() * 1000);
+    }
+
+    private ProductPrice createProductPrice(
+            BrandId brandId,
+            ProductId productId,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            int priority
+    ) {
+        return new ProductPrice(
+                brandId,
+                startDate,
+                endDate,
+                1,
+                productId,
+                priority,
+                new BigDecimal("9.99"),
+                Monetary.getCurrency("EUR")
+        );
+    }
+}
@@ -0,0 +1,66 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class BoundedLookupExecutorTest {
+    private final BoundedLookupExecutor executor = new BoundedLookupExecutor(Thread.ofVirtual().factory(), 1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    void shouldRejectALookupWhileTheMaximumIsRunning() {
+        // Given
+        executor.execute(this::awaitRelease);
+
+        // Then
+        assertThatThrownBy(() -> executor.execute(() -> {}))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void shouldRunALookupOnceARunningOneCompletes() {
+        // Given
+        executor.execute(this::awaitRelease);
+        release.countDown();
+        await().atMost(Duration.ofSeconds(5)).until(() -> executor.availablePermits() == 1);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        // When
+        executor.execute(() -> ran.set(true));
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).untilTrue(ran);
+    }
+
+    @Test
+    void shouldReleaseThePermitOfAFailedLookup() {
+        // When
+        executor.execute(() -> {
+            throw new IllegalStateException("Database unavailable");
+        });
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> executor.availablePermits() == 1);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
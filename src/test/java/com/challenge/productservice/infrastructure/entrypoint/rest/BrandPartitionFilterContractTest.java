@@ -0,0 +1,162 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import com.challenge.productservice.application.getproductprice.GetProductPriceRequest;
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse.ProductPriceNotFound;
+import com.challenge.productservice.application.getproductprice.GetProductPriceUseCase;
+import com.challenge.productservice.application.getproductprices.GetProductPricesRequest;
+import com.challenge.productservice.application.getproductprices.GetProductPricesResponse;
+import com.challenge.productservice.application.getproductprices.GetProductPricesUseCase;
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.infrastructure.config.ObjectMapperConfig;
+import com.challenge.productservice.infrastructure.config.RestConfig;
+import io.restassured.http.ContentType;
+import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import io.restassured.module.mockmvc.response.MockMvcResponse;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@Import({ObjectMapperConfig.class, RestConfig.class})
+@WebMvcTest(
+        controllers = ProductPriceController.class,
+        properties = {
+                "product-service.partition.brand-ids=1",
+                "product-service.partition.routes.2=http://localhost:8082/"
+        }
+)
+class BrandPartitionFilterContractTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @MockBean
+    private GetProductPriceUseCase getProductPriceUseCase;
+
+    @MockBean
+    private GetProductPricesUseCase getProductPricesUseCase;
+
+    ProductId productId = new ProductId(35455);
+    LocalDateTime validAt = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    @Test
+    void shouldServeBrandsOfThePartition() {
+        // Given
+        GetProductPriceRequest useCaseRequest = new GetProductPriceRequest(productId, new BrandId(1), validAt);
+        when(getProductPriceUseCase.execute(useCaseRequest)).thenReturn(new ProductPriceNotFound());
+
+        // When
+        MockMvcResponse response = whenARequestToGetAProductPriceIsReceived(1);
+
+        // Then
+        response.then().statusCode(HttpStatus.NOT_FOUND.value());
+        verify(getProductPriceUseCase).execute(useCaseRequest);
+    }
+
+    @Test
+    void shouldReturn421WithTheOwnerOfARoutedBrand() {
+        // When
+        MockMvcResponse response = whenARequestToGetAProductPriceIsReceived(2);
+
+        // Then
+        response.then()
+                .statusCode(421)
+                .header(HttpHeaders.LOCATION, CoreMatchers.startsWith(
+                        "http://localhost:8082/prices?productId=35455&brandId=2&validAt="
+                ))
+                .body("detail", CoreMatchers.equalTo("Brand 2 is not served by this instance"));
+        verifyNoInteractions(getProductPriceUseCase);
+    }
+
+    @Test
+    void shouldReturn421WithoutLocationForABrandWithoutRoute() {
+        // When
+        MockMvcResponse response = whenARequestToGetAProductPriceIsReceived(3);
+
+        // Then
+        response.then()
+                .statusCode(421)
+                .header(HttpHeaders.LOCATION, CoreMatchers.nullValue())
+                .body("detail", CoreMatchers.equalTo("Brand 3 is not served by this instance"));
+        verifyNoInteractions(getProductPriceUseCase);
+    }
+
+    @Test
+    void shouldAnswerBatchLookupsOfOtherBrandsAsMisdirected() {
+        // Given
+        GetProductPriceRequest servedLookup = new GetProductPriceRequest(productId, new BrandId(1), validAt);
+        GetProductPricesRequest useCaseRequest = new GetProductPricesRequest(List.of(servedLookup));
+        when(getProductPricesUseCase.execute(useCaseRequest))
+                .thenReturn(new GetProductPricesResponse(List.of(new ProductPriceNotFound())));
+
+        // When
+        MockMvcResponse response = whenABatchRequestIsReceived(2, 1, 3);
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.OK.value())
+                .body("results[0].status", CoreMatchers.equalTo("misdirected"))
+                .body("results[0].found", CoreMatchers.equalTo(false))
+                .body("results[0].detail", CoreMatchers.equalTo("Brand 2 is not served by this instance"))
+                .body("results[0].route", CoreMatchers.equalTo("http://localhost:8082/"))
+                .body("results[1].status", CoreMatchers.equalTo("not_found"))
+                .body("results[2].status", CoreMatchers.equalTo("misdirected"))
+                .body("results[2].route", CoreMatchers.nullValue());
+        verify(getProductPricesUseCase).execute(useCaseRequest);
+    }
+
+    @Test
+    void shouldNotLookUpABatchOfOtherBrandsOnly() {
+        // When
+        MockMvcResponse response = whenABatchRequestIsReceived(2);
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.OK.value())
+                .body("results[0].status", CoreMatchers.equalTo("misdirected"));
+        verifyNoInteractions(getProductPricesUseCase);
+    }
+
+    private MockMvcResponse whenABatchRequestIsReceived(long... brandIds) {
+        List<Map<String, Object>> lookups = Arrays.stream(brandIds)
+                .mapToObj(brandId -> Map.<String, Object>of(
+                        "productId", productId.value(),
+                        "brandId", brandId,
+                        "validAt", validAt.toString()
+                ))
+                .toList();
+        return RestAssuredMockMvc
+                .given()
+                .webAppContextSetup(context)
+                .contentType(ContentType.JSON)
+                .body(Map.of("lookups", lookups))
+                .when()
+                .post("/prices/batch");
+    }
+
+    private MockMvcResponse whenARequestToGetAProductPriceIsReceived(long brandId) {
+        return RestAssuredMockMvc
+                .given()
+                .webAppContextSetup(context)
+                .queryParam("productId", productId.value())
+                .queryParam("brandId", brandId)
+                .queryParam("validAt", validAt.toString())
+                .when()
+                .get("/prices");
+    }
+}
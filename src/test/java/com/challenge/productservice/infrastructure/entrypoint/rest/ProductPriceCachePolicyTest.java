@@ -0,0 +1,69 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductPriceCachePolicyTest {
+
+    private final ProductPriceCachePolicy cachePolicy = new ProductPriceCachePolicy(Duration.ofHours(1));
+
+    LocalDateTime validAt = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    @Test
+    void shouldGiveTheSameETagOnlyToPricesWithTheSameResponse() {
+        // Given
+        ProductPrice productPrice = createProductPrice(0, "35.50");
+
+        // When
+        String etag = cachePolicy.etag(productPrice);
+
+        // Then
+        assertThat(etag).startsWith("\"").endsWith("\"");
+        assertThat(etag).isEqualTo(cachePolicy.etag(createProductPrice(0, "35.50")));
+        assertThat(etag).isNotEqualTo(cachePolicy.etag(createProductPrice(0, "35.51")));
+    }
+
+    @Test
+    void shouldCacheUntilThePriceChanges() {
+        // When
+        String cacheControl = cachePolicy.cacheControl(validAt, Optional.of(validAt.plusMinutes(10).plusNanos(1)))
+                .getHeaderValue();
+
+        // Then
+        assertThat(cacheControl).isEqualTo("max-age=600");
+    }
+
+    @Test
+    void shouldNotCacheLongerThanTheMaximumAge() {
+        // When
+        String untilNextPrice = cachePolicy.cacheControl(validAt, Optional.of(validAt.plusDays(1))).getHeaderValue();
+        String unknownEnd = cachePolicy.cacheControl(validAt, Optional.empty()).getHeaderValue();
+
+        // Then
+        assertThat(untilNextPrice).isEqualTo("max-age=3600");
+        assertThat(unknownEnd).isEqualTo("max-age=3600");
+    }
+
+    private ProductPrice createProductPrice(int priority, String price) {
+        return new ProductPrice(
+                new BrandId(1),
+                validAt.minusDays(1),
+                validAt.plusDays(1),
+                1,
+                new ProductId(35455),
+                priority,
+                new BigDecimal(price),
+                Monetary.getCurrency("EUR")
+        );
+    }
+}
@@ -0,0 +1,433 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import com.challenge.productservice.application.getproductprice.GetProductPriceRequest;
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse;
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse.ProductPriceNotFound;
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse.Successful;
+import com.challenge.productservice.application.getproductprice.GetProductPriceUseCase;
+import com.challenge.productservice.application.getproductprices.GetProductPricesRequest;
+import com.challenge.productservice.application.getproductprices.GetProductPricesResponse;
+import com.challenge.productservice.application.getproductprices.GetProductPricesUseCase;
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.config.ObjectMapperConfig;
+import com.challenge.productservice.infrastructure.config.RestConfig;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.ProductPriceBatchResponse;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.ProductPriceResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.http.ContentType;
+import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import io.restassured.module.mockmvc.response.MockMvcResponse;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@Import({ObjectMapperConfig.class, RestConfig.class})
+abstract class ProductPriceEntrypointContractTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private GetProductPriceUseCase getProductPriceUseCase;
+
+    @MockBean
+    private GetProductPricesUseCase getProductPricesUseCase;
+
+    ProductId productId = new ProductId(2525);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    LocalDateTime startDate = validAt.minusDays(1);
+    LocalDateTime endDate = validAt.plusDays(1);
+    BigDecimal price = new BigDecimal("9.99");
+    int priceList = 1;
+    String currency = "EUR";
+    ProductPrice productPrice = new ProductPrice(
+            brandId,
+            startDate,
+            endDate,
+            priceList,
+            productId,
+            1,
+            price,
+            Monetary.getCurrency(currency)
+    );
+    GetProductPriceRequest useCaseRequest = new GetProductPriceRequest(productId, brandId, validAt);
+    String etag = new ProductPriceCachePolicy(Duration.ofHours(1)).etag(productPrice);
+
+    @Test
+    void getProductPrice() throws JsonProcessingException {
+        // Given
+        GetProductPriceResponse useCaseResponse = new Successful(productPrice);
+        when(getProductPriceUseCase.execute(useCaseRequest)).thenReturn(useCaseResponse);
+
+        ProductPriceResponse productPriceResponse = new ProductPriceResponse(
+                productId.value(),
+                brandId.value(),
+                priceList,
+                startDate,
+                endDate,
+                price,
+                currency
+        );
+        String expectedJsonResponse = objectMapper.writeValueAsString(productPriceResponse);
+
+        // When
+        MockMvcResponse response = whenARequestToGetAProductPriceIsReceived();
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.OK.value())
+                .body(CoreMatchers.equalTo(expectedJsonResponse));
+
+        verify(getProductPriceUseCase).execute(useCaseRequest);
+    }
+
+    @Test
+    void shouldReturnTheSameBodyWhenThePriceIsRequestedAgain() throws JsonProcessingException {
+        // Given
+        when(getProductPriceUseCase.execute(useCaseRequest)).thenReturn(new Successful(productPrice));
+        String expectedJsonResponse = objectMapper.writeValueAsString(ProductPriceResponse.from(productPrice));
+        whenARequestToGetAProductPriceIsReceived();
+
+        // When
+        MockMvcResponse response = whenARequestToGetAProductPriceIsReceived();
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(ContentType.JSON)
+                .body(CoreMatchers.equalTo(expectedJsonResponse));
+    }
+
+    @Test
+    void shouldSendTheETagOfThePriceAndCacheItUntilThePriceChanges() {
+        // Given
+        when(getProductPriceUseCase.execute(useCaseRequest)).thenReturn(new Successful(productPrice, validAt.plusMinutes(10)));
+
+        // When
+        MockMvcResponse response = whenARequestToGetAProductPriceIsReceived();
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.OK.value())
+                .header(HttpHeaders.ETAG, CoreMatchers.equalTo(etag))
+                .header(HttpHeaders.CACHE_CONTROL, CoreMatchers.equalTo("max-age=600"));
+    }
+
+    @Test
+    void shouldReturn304WithoutBodyWhenTheETagMatches() {
+        // Given
+        when(getProductPriceUseCase.execute(useCaseRequest)).thenReturn(new Successful(productPrice, validAt.plusMinutes(10)));
+
+        // When
+        MockMvcResponse response = whenAConditionalRequestToGetAProductPriceIsReceived(etag);
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.NOT_MODIFIED.value())
+                .header(HttpHeaders.ETAG, CoreMatchers.equalTo(etag))
+                .header(HttpHeaders.CACHE_CONTROL, CoreMatchers.equalTo("max-age=600"))
+                .body(CoreMatchers.equalTo(""));
+    }
+
+    @Test
+    void shouldReturnTheBodyWhenTheETagDoesNotMatch() throws JsonProcessingException {
+        // Given
+        when(getProductPriceUseCase.execute(useCaseRequest)).thenReturn(new Successful(productPrice));
+        String expectedJsonResponse = objectMapper.writeValueAsString(ProductPriceResponse.from(productPrice));
+
+        // When
+        MockMvcResponse response = whenAConditionalRequestToGetAProductPriceIsReceived("\"stale\"");
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.OK.value())
+                .header(HttpHeaders.ETAG, CoreMatchers.equalTo(etag))
+                .body(CoreMatchers.equalTo(expectedJsonResponse));
+    }
+
+    @Test
+    void shouldReturn404WhenPriceNotFoundForGivenParameters() {
+        // Given
+        GetProductPriceResponse useCaseResponse = new ProductPriceNotFound();
+        when(getProductPriceUseCase.execute(useCaseRequest)).thenReturn(useCaseResponse);
+
+        // When
+        MockMvcResponse response = whenARequestToGetAProductPriceIsReceived();
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.NOT_FOUND.value())
+                .body("detail", CoreMatchers.equalTo("Price not found for given parameters."));
+
+        verify(getProductPriceUseCase).execute(useCaseRequest);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"productId", "brandId", "validAt"})
+    void shouldReturn400WhenParamIsMissing(String missingParamName) {
+        // When
+        MockMvcResponse response = whenARequestToGetAProductPriceWithMissingParamIsReceived(missingParamName);
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("detail", CoreMatchers.equalTo(
+                        String.format(
+                                "Required request parameter '%s' is not present", missingParamName)
+                        )
+                );
+
+        verifyNoInteractions(getProductPriceUseCase);
+    }
+
+    @Test
+    void shouldReturn400WhenValidAtParamIsNull() {
+        // When
+        MockMvcResponse response = whenARequestToGetAProductPriceIsReceived(String.valueOf(productId.value()), String.valueOf(brandId.value()), null);
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("detail", CoreMatchers.equalTo("Parameter 'validAt' has an invalid type"));
+
+        verifyNoInteractions(getProductPriceUseCase);
+    }
+
+    @Test
+    void shouldReturn400WhenValidAtParamHasInvalidDateTimeFormat() {
+        // When
+        String validAt = "2024/7/2";
+        MockMvcResponse response = whenARequestToGetAProductPriceIsReceived(String.valueOf(productId.value()), String.valueOf(brandId.value()), validAt);
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("detail", CoreMatchers.equalTo("Parameter 'validAt' has an invalid type"));
+
+        verifyNoInteractions(getProductPriceUseCase);
+    }
+
+    @Test
+    void shouldReturn400WhenProductIdParamHasInvalidType() {
+        // When
+        MockMvcResponse response = whenARequestToGetAProductPriceIsReceived(String.valueOf(productId.value()), "invalid long", validAt.toString());
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("detail", CoreMatchers.equalTo("Parameter 'brandId' has an invalid type"));
+
+        verifyNoInteractions(getProductPriceUseCase);
+    }
+
+    @Test
+    void shouldReturn400WhenBrandIdParamHasInvalidType() {
+        // When
+        MockMvcResponse response = whenARequestToGetAProductPriceIsReceived(String.valueOf(productId.value()), "invalid long", validAt.toString());
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("detail", CoreMatchers.equalTo("Parameter 'brandId' has an invalid type"));
+
+        verifyNoInteractions(getProductPriceUseCase);
+    }
+
+    @Test
+    void shouldReturn500WhenErrorOccurs() {
+        // Given
+        when(getProductPriceUseCase.execute(useCaseRequest)).thenThrow(new RuntimeException("Unexpected error"));
+
+        // When
+        MockMvcResponse response = whenARequestToGetAProductPriceIsReceived();
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                .body("detail", CoreMatchers.equalTo("An unexpected error occurred"));
+
+        verify(getProductPriceUseCase).execute(useCaseRequest);
+    }
+
+    @Test
+    void getProductPricesInRequestOrder() throws JsonProcessingException {
+        // Given
+        GetProductPriceRequest unknownProductRequest = new GetProductPriceRequest(new ProductId(1), brandId, validAt);
+        GetProductPricesRequest useCaseBatchRequest = new GetProductPricesRequest(List.of(useCaseRequest, unknownProductRequest));
+        GetProductPricesResponse useCaseBatchResponse = new GetProductPricesResponse(
+                List.of(new Successful(productPrice), new ProductPriceNotFound())
+        );
+        when(getProductPricesUseCase.execute(useCaseBatchRequest)).thenReturn(useCaseBatchResponse);
+
+        ProductPriceBatchResponse batchResponse = new ProductPriceBatchResponse(List.of(
+                ProductPriceBatchResponse.Result.found(new ProductPriceResponse(
+                        productId.value(),
+                        brandId.value(),
+                        priceList,
+                        startDate,
+                        endDate,
+                        price,
+                        currency
+                )),
+                ProductPriceBatchResponse.Result.notFound("Price not found for given parameters.")
+        ));
+        String expectedJsonResponse = objectMapper.writeValueAsString(batchResponse);
+
+        // When
+        MockMvcResponse response = whenABatchRequestIsReceived(Map.of(
+                "lookups", List.of(lookupBody(useCaseRequest), lookupBody(unknownProductRequest))
+        ));
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.OK.value())
+                .body(CoreMatchers.equalTo(expectedJsonResponse));
+
+        verify(getProductPricesUseCase).execute(useCaseBatchRequest);
+    }
+
+    @Test
+    void shouldReturn400WhenBatchHasNoLookups() {
+        // When
+        MockMvcResponse response = whenABatchRequestIsReceived(Map.of("lookups", List.of()));
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("detail", CoreMatchers.equalTo("Field 'lookups' must not be empty"));
+
+        verifyNoInteractions(getProductPricesUseCase);
+    }
+
+    @Test
+    void shouldReturn400WhenABatchLookupHasAMissingField() {
+        // When
+        MockMvcResponse response = whenABatchRequestIsReceived(Map.of(
+                "lookups", List.of(Map.of("productId", productId.value(), "brandId", brandId.value()))
+        ));
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("detail", CoreMatchers.equalTo("Field 'lookups[0].validAt' must not be null"));
+
+        verifyNoInteractions(getProductPricesUseCase);
+    }
+
+    @Test
+    void shouldReturn400WhenBatchBodyIsMalformed() {
+        // When
+        MockMvcResponse response = whenABatchRequestIsReceived("{\"lookups\": [");
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("detail", CoreMatchers.equalTo("Request body is missing or malformed"));
+
+        verifyNoInteractions(getProductPricesUseCase);
+    }
+
+    private Map<String, Object> lookupBody(GetProductPriceRequest request) {
+        return Map.of(
+                "productId", request.productId().value(),
+                "brandId", request.brandId().value(),
+                "validAt", request.validAt().toString()
+        );
+    }
+
+    private MockMvcResponse whenABatchRequestIsReceived(Object body) {
+        return RestAssuredMockMvc
+                .given()
+                .webAppContextSetup(context)
+                .contentType(ContentType.JSON)
+                .body(body)
+                .when()
+                .post("/prices/batch");
+    }
+
+    private MockMvcResponse whenARequestToGetAProductPriceIsReceived() {
+        return whenARequestToGetAProductPriceIsReceived(
+            String.valueOf(productId.value()),
+            String.valueOf(brandId.value()),
+            validAt.toString()
+        );
+    }
+
+    private MockMvcResponse whenARequestToGetAProductPriceIsReceived(
+            String productId,
+        String brandId,
+        String validAt
+    ) {
+        return RestAssuredMockMvc
+                .given()
+                .webAppContextSetup(context)
+                .contentType(ContentType.JSON)
+                .param("productId", productId)
+                .param("brandId", brandId)
+                .param("validAt", validAt)
+                .when()
+                .get("/prices");
+    }
+
+    private MockMvcResponse whenAConditionalRequestToGetAProductPriceIsReceived(String ifNoneMatch) {
+        return RestAssuredMockMvc
+                .given()
+                .webAppContextSetup(context)
+                .header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch)
+                .param("productId", productId.value())
+                .param("brandId", brandId.value())
+                .param("validAt", validAt.toString())
+                .when()
+                .get("/prices");
+    }
+
+    private MockMvcResponse whenARequestToGetAProductPriceWithMissingParamIsReceived(String missingParam) {
+        var mock = RestAssuredMockMvc
+                .given()
+                .webAppContextSetup(context)
+                .contentType(ContentType.JSON);
+
+        if (!"productId".equals(missingParam)) {
+           mock.param("productId", productId.value());
+        }
+
+        if (!"brandId".equals(missingParam)) {
+            mock.param("brandId", productId.value());
+        }
+
+        if (!"validAt".equals(missingParam)) {
+            mock.param("validAt", productId.value());
+        }
+
+        return mock
+                .when()
+                .get("/prices");
+    }
+
+}
\ No newline at end of file
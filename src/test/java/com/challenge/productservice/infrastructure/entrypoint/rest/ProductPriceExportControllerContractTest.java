@@ -0,0 +1,185 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import com.challenge.productservice.application.exportproductprices.ExportProductPricesRequest;
+import com.challenge.productservice.application.exportproductprices.ExportProductPricesResponse;
+import com.challenge.productservice.application.exportproductprices.ExportProductPricesUseCase;
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ExportedProductPrice;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.config.ObjectMapperConfig;
+import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import io.restassured.module.mockmvc.response.MockMvcResponse;
+import io.restassured.module.mockmvc.specification.MockMvcRequestSpecification;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.money.Monetary;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@Import({ObjectMapperConfig.class})
+@WebMvcTest(controllers = ProductPriceExportController.class)
+class ProductPriceExportControllerContractTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @MockBean
+    private ExportProductPricesUseCase exportProductPricesUseCase;
+
+    UUID firstId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    UUID secondId = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    ProductPrice productPrice = new ProductPrice(
+            new BrandId(1),
+            LocalDateTime.parse("2020-06-14T00:00:00"),
+            LocalDateTime.parse("2020-12-31T23:59:59"),
+            1,
+            new ProductId(35455),
+            0,
+            new BigDecimal("35.50"),
+            Monetary.getCurrency("EUR")
+    );
+    String expectedNdjson = """
+            {"brandId":1,"currency":"EUR","endDate":"2020-12-31T23:59:59","id":"00000000-0000-0000-0000-000000000001","price":35.50,"priceList":1,"priority":0,"productId":35455,"startDate":"2020-06-14T00:00:00"}
+            {"brandId":1,"currency":"EUR","endDate":"2020-12-31T23:59:59","id":"00000000-0000-0000-0000-000000000002","price":35.50,"priceList":1,"priority":0,"productId":35455,"startDate":"2020-06-14T00:00:00"}
+            """;
+
+    @Test
+    void shouldStreamThePricesOfTheBrandAsNdjson() {
+        // Given
+        givenTheBrandHasPrices(Optional.empty());
+
+        // When
+        MockMvcResponse response = whenAnExportIsRequested(RestAssuredMockMvc.given().queryParam("brandId", 1));
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.OK.value())
+                .header("Content-Type", CoreMatchers.startsWith("application/x-ndjson"));
+        assertThat(response.asString()).isEqualTo(expectedNdjson);
+    }
+
+    @Test
+    void shouldResumeTheExportAfterTheGivenId() {
+        // Given
+        UUID after = UUID.randomUUID();
+        givenTheBrandHasPrices(Optional.of(after));
+
+        // When
+        MockMvcResponse response = whenAnExportIsRequested(
+                RestAssuredMockMvc.given().queryParam("brandId", 1).queryParam("after", after)
+        );
+
+        // Then
+        response.then().statusCode(HttpStatus.OK.value());
+        assertThat(response.asString()).isEqualTo(expectedNdjson);
+    }
+
+    @Test
+    void shouldCompressTheExportWhenTheClientAcceptsGzip() throws IOException {
+        // Given
+        givenTheBrandHasPrices(Optional.empty());
+
+        // When
+        MockMvcResponse response = whenAnExportIsRequested(
+                RestAssuredMockMvc.given().queryParam("brandId", 1).header("Accept-Encoding", "gzip, deflate")
+        );
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.OK.value())
+                .header("Content-Encoding", "gzip");
+        try (InputStream body = new GZIPInputStream(new ByteArrayInputStream(response.asByteArray()))) {
+            assertThat(new String(body.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(expectedNdjson);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gzip;q=0", "x-gzip", "deflate, *;q=0", "gzip;q=0, *"})
+    void shouldNotCompressTheExportWhenTheClientDoesNotAcceptGzip(String acceptEncoding) {
+        // Given
+        givenTheBrandHasPrices(Optional.empty());
+
+        // When
+        MockMvcResponse response = whenAnExportIsRequested(
+                RestAssuredMockMvc.given().queryParam("brandId", 1).header("Accept-Encoding", acceptEncoding)
+        );
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.OK.value())
+                .header("Content-Encoding", CoreMatchers.nullValue());
+        assertThat(response.asString()).isEqualTo(expectedNdjson);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gzip;q=0.5", "GZIP", "deflate;q=1, *;q=0.1"})
+    void shouldCompressTheExportWhenGzipIsAcceptedWithAPositiveQValue(String acceptEncoding) {
+        // Given
+        givenTheBrandHasPrices(Optional.empty());
+
+        // When
+        MockMvcResponse response = whenAnExportIsRequested(
+                RestAssuredMockMvc.given().queryParam("brandId", 1).header("Accept-Encoding", acceptEncoding)
+        );
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.OK.value())
+                .header("Content-Encoding", "gzip");
+    }
+
+    @Test
+    void shouldReturn400WhenTheResumeIdIsNotAnUuid() {
+        // When
+        MockMvcResponse response = whenAnExportIsRequested(
+                RestAssuredMockMvc.given().queryParam("brandId", 1).queryParam("after", "not-an-id")
+        );
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("detail", CoreMatchers.equalTo("Parameter 'after' has an invalid type"));
+    }
+
+    private void givenTheBrandHasPrices(Optional<UUID> after) {
+        when(exportProductPricesUseCase.execute(
+                eq(new ExportProductPricesRequest(new BrandId(1), after)),
+                any()
+        )).thenAnswer(invocation -> {
+            Consumer<ExportedProductPrice> consumer = invocation.getArgument(1);
+            List.of(firstId, secondId).forEach(id -> consumer.accept(new ExportedProductPrice(id, productPrice)));
+            return new ExportProductPricesResponse(2);
+        });
+    }
+
+    private MockMvcResponse whenAnExportIsRequested(MockMvcRequestSpecification request) {
+        return request
+                .webAppContextSetup(context)
+                .when()
+                .get("/prices/export");
+    }
+}
@@ -0,0 +1,140 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import com.challenge.productservice.application.getproductpricehistory.GetProductPriceHistoryRequest;
+import com.challenge.productservice.application.getproductpricehistory.GetProductPriceHistoryResponse;
+import com.challenge.productservice.application.getproductpricehistory.GetProductPriceHistoryUseCase;
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.PriceSegment;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.config.ObjectMapperConfig;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.ProductPriceHistoryResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import io.restassured.module.mockmvc.response.MockMvcResponse;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@Import({ObjectMapperConfig.class})
+@WebMvcTest(controllers = ProductPriceHistoryController.class)
+class ProductPriceHistoryControllerContractTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private GetProductPriceHistoryUseCase getProductPriceHistoryUseCase;
+
+    ProductId productId = new ProductId(35455);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime from = LocalDateTime.of(2020, 6, 14, 0, 0);
+    LocalDateTime to = LocalDateTime.of(2020, 6, 14, 23, 59, 59);
+    GetProductPriceHistoryRequest useCaseRequest = new GetProductPriceHistoryRequest(productId, brandId, from, to);
+
+    @Test
+    void getProductPriceHistory() throws JsonProcessingException {
+        // Given
+        ProductPrice basePrice = createProductPrice(from.minusDays(1), from.plusDays(1), 1, 0, "35.50");
+        ProductPrice promotion = createProductPrice(from.plusHours(15), from.plusHours(18), 2, 1, "25.45");
+        when(getProductPriceHistoryUseCase.execute(useCaseRequest)).thenReturn(new GetProductPriceHistoryResponse(List.of(
+                new PriceSegment(from, from.plusHours(15), basePrice),
+                new PriceSegment(from.plusHours(15), from.plusHours(18).plusNanos(1), promotion)
+        )));
+
+        String expectedJsonResponse = objectMapper.writeValueAsString(new ProductPriceHistoryResponse(
+                productId.value(),
+                brandId.value(),
+                List.of(
+                        new ProductPriceHistoryResponse.Segment(
+                                from,
+                                from.plusHours(15).minusNanos(1),
+                                1,
+                                0,
+                                new BigDecimal("35.50"),
+                                "EUR"
+                        ),
+                        new ProductPriceHistoryResponse.Segment(
+                                from.plusHours(15),
+                                from.plusHours(18),
+                                2,
+                                1,
+                                new BigDecimal("25.45"),
+                                "EUR"
+                        )
+                )
+        ));
+
+        // When
+        MockMvcResponse response = whenARequestToGetThePriceHistoryIsReceived(from, to);
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.OK.value())
+                .body(CoreMatchers.equalTo(expectedJsonResponse));
+
+        verify(getProductPriceHistoryUseCase).execute(useCaseRequest);
+    }
+
+    @Test
+    void shouldReturn400WhenTheRangeEndsBeforeItStarts() {
+        // When
+        MockMvcResponse response = whenARequestToGetThePriceHistoryIsReceived(to, from);
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("detail", CoreMatchers.equalTo("Parameter 'from' must not be after 'to'"));
+
+        verifyNoInteractions(getProductPriceHistoryUseCase);
+    }
+
+    private MockMvcResponse whenARequestToGetThePriceHistoryIsReceived(LocalDateTime from, LocalDateTime to) {
+        return RestAssuredMockMvc
+                .given()
+                .webAppContextSetup(context)
+                .param("productId", productId.value())
+                .param("brandId", brandId.value())
+                .param("from", from.toString())
+                .param("to", to.toString())
+                .when()
+                .get("/prices/history");
+    }
+
+    private ProductPrice createProductPrice(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            int priceList,
+            int priority,
+            String price
+    ) {
+        return new ProductPrice(
+                brandId,
+                startDate,
+                endDate,
+                priceList,
+                productId,
+                priority,
+                new BigDecimal(price),
+                Monetary.getCurrency("EUR")
+        );
+    }
+}
@@ -0,0 +1,147 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import com.challenge.productservice.application.importproductprices.ImportProductPricesRequest;
+import com.challenge.productservice.application.importproductprices.ImportProductPricesResponse;
+import com.challenge.productservice.application.importproductprices.ImportProductPricesUseCase;
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.config.ObjectMapperConfig;
+import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import io.restassured.module.mockmvc.response.MockMvcResponse;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@Import({ObjectMapperConfig.class})
+@WebMvcTest(controllers = ProductPriceImportController.class)
+class ProductPriceImportControllerContractTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @MockBean
+    private ImportProductPricesUseCase importProductPricesUseCase;
+
+    private final List<ProductPrice> importedPrices = new ArrayList<>();
+
+    ProductPrice productPrice = new ProductPrice(
+            new BrandId(1),
+            LocalDateTime.parse("2020-06-14T00:00:00"),
+            LocalDateTime.parse("2020-12-31T23:59:59"),
+            1,
+            new ProductId(35455),
+            0,
+            new BigDecimal("35.50"),
+            Monetary.getCurrency("EUR")
+    );
+
+    @Test
+    void shouldImportCsvPrices() {
+        // Given
+        givenTheUseCaseImportsEveryPrice();
+        String csv = """
+                brand_id,start_date,end_date,price_list,product_id,priority,price,currency
+                1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,35.50,EUR
+
+                1,2020-06-14T00:00:00,2020-12-31T23:59:59,1,35455,0,35.50,EUR
+                """;
+
+        // When
+        MockMvcResponse response = whenAnImportIsReceived("text/csv", csv);
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.OK.value())
+                .body("importedRows", CoreMatchers.equalTo(2));
+        assertThat(importedPrices).containsExactly(productPrice, productPrice);
+    }
+
+    @Test
+    void shouldImportNdjsonPrices() {
+        // Given
+        givenTheUseCaseImportsEveryPrice();
+        String ndjson = """
+                {"brandId":1,"productId":35455,"priceList":1,"priority":0,"startDate":"2020-06-14T00:00:00","endDate":"2020-12-31T23:59:59","price":35.50,"currency":"EUR"}
+                """;
+
+        // When
+        MockMvcResponse response = whenAnImportIsReceived("application/x-ndjson", ndjson);
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.OK.value())
+                .body("importedRows", CoreMatchers.equalTo(1));
+        assertThat(importedPrices).containsExactly(productPrice);
+    }
+
+    @Test
+    void shouldReturn400WithTheLineNumberWhenALineIsInvalid() {
+        // Given
+        givenTheUseCaseImportsEveryPrice();
+        String csv = """
+                1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,35.50,EUR
+                1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,35.50
+                """;
+
+        // When
+        MockMvcResponse response = whenAnImportIsReceived("text/csv", csv);
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("detail", CoreMatchers.equalTo("Line 2 is invalid: expected 8 columns but found 7"));
+    }
+
+    @Test
+    void shouldReturn400WhenANdjsonFieldIsMissing() {
+        // Given
+        givenTheUseCaseImportsEveryPrice();
+        String ndjson = """
+                {"brandId":1,"productId":35455,"priceList":1,"startDate":"2020-06-14T00:00:00","endDate":"2020-12-31T23:59:59","price":35.50,"currency":"EUR"}
+                """;
+
+        // When
+        MockMvcResponse response = whenAnImportIsReceived("application/x-ndjson", ndjson);
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("detail", CoreMatchers.equalTo("Line 1 is invalid: field 'priority' is missing"));
+    }
+
+    private void givenTheUseCaseImportsEveryPrice() {
+        when(importProductPricesUseCase.execute(any(ImportProductPricesRequest.class))).thenAnswer(invocation -> {
+            Iterator<ProductPrice> productPrices = invocation.<ImportProductPricesRequest>getArgument(0).productPrices();
+            productPrices.forEachRemaining(importedPrices::add);
+            return new ImportProductPricesResponse(importedPrices.size(), Duration.ofMillis(10));
+        });
+    }
+
+    private MockMvcResponse whenAnImportIsReceived(String contentType, String body) {
+        return RestAssuredMockMvc
+                .given()
+                .webAppContextSetup(context)
+                .contentType(contentType)
+                .body(body)
+                .when()
+                .post("/prices/import");
+    }
+}
@@ -0,0 +1,7 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+
+@WebMvcTest(controllers = ProductPriceController.class, properties = "product-service.entrypoint=functional")
+class ProductPriceRouterContractTest extends ProductPriceEntrypointContractTest {
+}
@@ -0,0 +1,57 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import com.challenge.productservice.application.getproductprice.GetProductPriceUseCase;
+import com.challenge.productservice.application.getproductprices.GetProductPricesUseCase;
+import com.challenge.productservice.infrastructure.config.ObjectMapperConfig;
+import com.challenge.productservice.infrastructure.config.RestConfig;
+import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import io.restassured.module.mockmvc.response.MockMvcResponse;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@Import({ObjectMapperConfig.class, RestConfig.class})
+@WebMvcTest(
+        controllers = ProductPriceController.class,
+        properties = {
+                "product-service.entrypoint=functional",
+                "product-service.lookups.max-concurrent=0"
+        }
+)
+class ProductPriceRouterSaturatedContractTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @MockBean
+    private GetProductPriceUseCase getProductPriceUseCase;
+
+    @MockBean
+    private GetProductPricesUseCase getProductPricesUseCase;
+
+    @Test
+    void shouldReturn503WhenNoMoreLookupsCanRun() {
+        // When
+        MockMvcResponse response = RestAssuredMockMvc
+                .given()
+                .webAppContextSetup(context)
+                .queryParam("productId", 35455)
+                .queryParam("brandId", 1)
+                .queryParam("validAt", "2020-06-14T16:00:00")
+                .when()
+                .get("/prices");
+
+        // Then
+        response.then()
+                .statusCode(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .body("detail", CoreMatchers.equalTo("Too many lookups in progress, retry later"));
+        verifyNoInteractions(getProductPriceUseCase);
+    }
+}
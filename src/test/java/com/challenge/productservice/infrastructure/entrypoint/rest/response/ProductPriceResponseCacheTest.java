@@ -0,0 +1,54 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest.response;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.config.ObjectMapperConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductPriceResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapperConfig().objectMapper();
+    private final ProductPriceResponseCache responseCache = new ProductPriceResponseCache(objectMapper, 10);
+
+    LocalDateTime validAt = LocalDateTime.of(2020, 6, 14, 16, 0);
+    ProductPrice productPrice = new ProductPrice(
+            new BrandId(1),
+            validAt.minusDays(1),
+            validAt.plusDays(1),
+            1,
+            new ProductId(35455),
+            0,
+            new BigDecimal("35.50"),
+            Monetary.getCurrency("EUR")
+    );
+
+    @Test
+    void shouldWriteTheSameBytesAsTheObjectMapper() throws JsonProcessingException {
+        // When
+        byte[] json = responseCache.json(productPrice);
+
+        // Then
+        assertThat(json).isEqualTo(objectMapper.writeValueAsBytes(ProductPriceResponse.from(productPrice)));
+    }
+
+    @Test
+    void shouldSerializeEachPriceOnce() {
+        // Given
+        byte[] first = responseCache.json(productPrice);
+
+        // When
+        byte[] second = responseCache.json(productPrice);
+
+        // Then
+        assertThat(second).isSameAs(first);
+    }
+}
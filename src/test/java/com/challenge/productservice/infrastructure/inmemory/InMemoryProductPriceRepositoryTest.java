@@ -0,0 +1,233 @@
+package com.challenge.productservice.infrastructure.inmemory;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryProductPriceRepositoryTest {
+
+    ProductId productId = new ProductId(35455);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    @Test
+    void shouldGetProductPricesValidAtGivenDate() {
+        // Given
+        ProductPrice productPricePriorityZero = createProductPrice(brandId, productId, validAt.minusDays(1), validAt.plusDays(1), 0);
+        ProductPrice productPricePriorityOne = createProductPrice(brandId, productId, validAt.minusHours(1), validAt.plusHours(1), 1);
+        ProductPriceRepository repository = InMemoryProductPriceRepository.of(
+                List.of(productPricePriorityOne, productPricePriorityZero)
+        );
+
+        // When
+        List<ProductPrice> result = repository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).containsExactly(productPricePriorityZero, productPricePriorityOne);
+    }
+
+    @Test
+    void shouldGetProductPriceWhenStartDateIsEqualToValidAtDate() {
+        // Given
+        ProductPrice productPrice = createProductPrice(brandId, productId, validAt, validAt.plusDays(1), 0);
+        ProductPriceRepository repository = InMemoryProductPriceRepository.of(List.of(productPrice));
+
+        // When
+        List<ProductPrice> result = repository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).containsExactly(productPrice);
+    }
+
+    @Test
+    void shouldGetProductPriceWhenEndDateIsEqualToValidAtDate() {
+        // Given
+        ProductPrice productPrice = createProductPrice(brandId, productId, validAt.minusDays(1), validAt, 0);
+        ProductPriceRepository repository = InMemoryProductPriceRepository.of(List.of(productPrice));
+
+        // When
+        List<ProductPrice> result = repository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).containsExactly(productPrice);
+    }
+
+    @Test
+    void shouldSkipPricesThatEndedBeforeValidAtDateWhileScanningLongerOnes() {
+        // Given
+        ProductPrice longPrice = createProductPrice(brandId, productId, validAt.minusDays(10), validAt.plusDays(10), 0);
+        ProductPrice endedPrice = createProductPrice(brandId, productId, validAt.minusDays(5), validAt.minusDays(4), 1);
+        ProductPrice startsLaterPrice = createProductPrice(brandId, productId, validAt.plusDays(1), validAt.plusDays(2), 1);
+        ProductPriceRepository repository = InMemoryProductPriceRepository.of(
+                List.of(startsLaterPrice, endedPrice, longPrice)
+        );
+
+        // When
+        List<ProductPrice> result = repository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).containsExactly(longPrice);
+    }
+
+    @Test
+    void shouldNotGetAProductPriceWhenEndedBeforeValidAtDate() {
+        // Given
+        ProductPrice productPrice = createProductPrice(brandId, productId, validAt.minusDays(2), validAt.minusDays(1), 0);
+        ProductPriceRepository repository = InMemoryProductPriceRepository.of(List.of(productPrice));
+
+        // When
+        List<ProductPrice> result = repository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void shouldNotGetAProductPriceWhenStartsAfterValidAtDate() {
+        // Given
+        ProductPrice productPrice = createProductPrice(brandId, productId, validAt.plusDays(1), validAt.plusDays(2), 0);
+        ProductPriceRepository repository = InMemoryProductPriceRepository.of(List.of(productPrice));
+
+        // When
+        List<ProductPrice> result = repository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void shouldNotGetAProductPriceWithDifferentBrandIdOrProductId() {
+        // Given
+        ProductPrice productPrice = createProductPrice(brandId, productId, validAt.minusDays(1), validAt.plusDays(1), 0);
+        ProductPriceRepository repository = InMemoryProductPriceRepository.of(List.of(productPrice));
+
+        // When
+        List<ProductPrice> otherBrand = repository.getProductPrices(productId, new BrandId(2), validAt);
+        List<ProductPrice> otherProduct = repository.getProductPrices(new ProductId(1), brandId, validAt);
+
+        // Then
+        assertThat(otherBrand).isEmpty();
+        assertThat(otherProduct).isEmpty();
+    }
+
+    @Test
+    void shouldGetTheProductPriceWithHighestPriorityValidAtGivenDate() {
+        // Given
+        ProductPrice productPricePriorityZero = createProductPrice(brandId, productId, validAt.minusDays(1), validAt.plusDays(1), 0);
+        ProductPrice productPricePriorityOne = createProductPrice(brandId, productId, validAt.minusHours(1), validAt.plusHours(1), 1);
+        ProductPriceRepository repository = InMemoryProductPriceRepository.of(
+                List.of(productPricePriorityOne, productPricePriorityZero)
+        );
+
+        // When
+        Optional<ProductPrice> duringOverride = repository.getProductPrice(productId, brandId, validAt);
+        Optional<ProductPrice> afterOverride = repository.getProductPrice(productId, brandId, validAt.plusHours(2));
+        Optional<ProductPrice> unknownProduct = repository.getProductPrice(new ProductId(1), brandId, validAt);
+
+        // Then
+        assertThat(duringOverride).contains(productPricePriorityOne);
+        assertThat(afterOverride).contains(productPricePriorityZero);
+        assertThat(unknownProduct).isEmpty();
+    }
+
+    @Test
+    void shouldApplyADeltaToACopyOfTheIndex() {
+        // Given
+        UUID productPriceId = UUID.randomUUID();
+        UUID promotionId = UUID.randomUUID();
+        ProductPrice productPrice = createProductPrice(brandId, productId, validAt.minusDays(1), validAt.plusDays(1), 0);
+        ProductPrice promotion = createProductPrice(brandId, productId, validAt.minusHours(1), validAt.plusHours(1), 1);
+        InMemoryProductPriceRepository repository = InMemoryProductPriceRepository.ofIdentified(
+                Map.of(productPriceId, productPrice)
+        );
+
+        // When
+        InMemoryProductPriceRepository refreshed = repository.apply(new ProductPriceDelta(
+                2,
+                Map.of(promotionId, promotion),
+                List.of(new ProductPriceDelta.Tombstone(productPriceId, productId, brandId))
+        ));
+
+        // Then
+        assertThat(refreshed.getProductPrices(productId, brandId, validAt)).containsExactly(promotion);
+        assertThat(refreshed.getProductPrice(productPriceId)).isEmpty();
+        assertThat(repository.getProductPrices(productId, brandId, validAt)).containsExactly(productPrice);
+    }
+
+    @Test
+    void shouldMoveAPriceWhoseProductOrBrandChanged() {
+        // Given
+        UUID productPriceId = UUID.randomUUID();
+        ProductId otherProductId = new ProductId(productId.value() + 1);
+        ProductPrice productPrice = createProductPrice(brandId, productId, validAt.minusDays(1), validAt.plusDays(1), 0);
+        ProductPrice moved = createProductPrice(brandId, otherProductId, validAt.minusDays(1), validAt.plusDays(1), 0);
+        InMemoryProductPriceRepository repository = InMemoryProductPriceRepository.ofIdentified(
+                Map.of(productPriceId, productPrice)
+        );
+
+        // When
+        InMemoryProductPriceRepository refreshed = repository.apply(new ProductPriceDelta(
+                2,
+                Map.of(productPriceId, moved),
+                List.of()
+        ));
+
+        // Then
+        assertThat(refreshed.getProductPrices(productId, brandId, validAt)).isEmpty();
+        assertThat(refreshed.getProductPrices(otherProductId, brandId, validAt)).containsExactly(moved);
+        assertThat(refreshed.getProductPrice(productPriceId)).contains(moved);
+    }
+
+    @Test
+    void shouldDeleteAMovedPriceFromTheGroupItIsFiledUnder() {
+        // Given
+        UUID productPriceId = UUID.randomUUID();
+        ProductId otherProductId = new ProductId(productId.value() + 1);
+        InMemoryProductPriceRepository repository = InMemoryProductPriceRepository.ofIdentified(Map.of(
+                productPriceId,
+                createProductPrice(brandId, otherProductId, validAt.minusDays(1), validAt.plusDays(1), 0)
+        ));
+
+        // When
+        InMemoryProductPriceRepository refreshed = repository.apply(new ProductPriceDelta(
+                2,
+                Map.of(),
+                List.of(new ProductPriceDelta.Tombstone(productPriceId, productId, brandId))
+        ));
+
+        // Then
+        assertThat(refreshed.getProductPrices(otherProductId, brandId, validAt)).isEmpty();
+        assertThat(refreshed.getProductPrice(productPriceId)).isEmpty();
+    }
+
+    private ProductPrice createProductPrice(
+            BrandId brandId,
+            ProductId productId,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            int priority
+    ) {
+        return new ProductPrice(
+                brandId,
+                startDate,
+                endDate,
+                1,
+                productId,
+                priority,
+                new BigDecimal("9.99"),
+                Monetary.getCurrency("EUR")
+        );
+    }
+}
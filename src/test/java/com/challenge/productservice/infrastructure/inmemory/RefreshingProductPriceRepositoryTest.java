@@ -0,0 +1,203 @@
+package com.challenge.productservice.infrastructure.inmemory;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RefreshingProductPriceRepositoryTest {
+
+    ProductId productId = new ProductId(35455);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.of(2020, 6, 14, 16, 0);
+    Clock clock = Clock.fixed(Instant.parse("2020-06-14T16:00:00Z"), ZoneOffset.UTC);
+
+    UUID basePriceId = UUID.randomUUID();
+    ProductPrice basePrice = createProductPrice(validAt.minusDays(1), validAt.plusDays(1), 0, "35.50");
+    FakeDeltaSource source = new FakeDeltaSource();
+
+    @Test
+    void shouldLoadEveryPriceOnCreation() {
+        // Given
+        source.willReturn(new ProductPriceDelta(3, Map.of(basePriceId, basePrice), List.of()));
+
+        // When
+        RefreshingProductPriceRepository repository = new RefreshingProductPriceRepository(source, clock, Duration.ZERO);
+
+        // Then
+        assertThat(repository.getProductPrice(productId, brandId, validAt)).contains(basePrice);
+        assertThat(repository.version()).isEqualTo(3);
+        assertThat(source.requestedVersions).containsExactly(0L);
+    }
+
+    @Test
+    void shouldApplyOnlyTheChangesSinceTheLastRefresh() {
+        // Given
+        source.willReturn(new ProductPriceDelta(3, Map.of(basePriceId, basePrice), List.of()));
+        RefreshingProductPriceRepository repository = new RefreshingProductPriceRepository(source, clock, Duration.ZERO);
+        ProductPrice promotion = createProductPrice(validAt.minusHours(1), validAt.plusHours(1), 1, "25.45");
+        source.willReturn(new ProductPriceDelta(5, Map.of(UUID.randomUUID(), promotion), List.of()));
+
+        // When
+        List<ProductPrice> changed = repository.refresh();
+
+        // Then
+        assertThat(changed).containsExactly(promotion);
+        assertThat(repository.getProductPrice(productId, brandId, validAt)).contains(promotion);
+        assertThat(repository.getProductPrice(productId, brandId, validAt.plusDays(1))).contains(basePrice);
+        assertThat(repository.version()).isEqualTo(5);
+        assertThat(source.requestedVersions).containsExactly(0L, 3L);
+    }
+
+    @Test
+    void shouldReplaceUpdatedPricesAndRemoveDeletedOnes() {
+        // Given
+        UUID promotionId = UUID.randomUUID();
+        ProductPrice promotion = createProductPrice(validAt.minusHours(1), validAt.plusHours(1), 1, "25.45");
+        source.willReturn(new ProductPriceDelta(3, Map.of(basePriceId, basePrice, promotionId, promotion), List.of()));
+        RefreshingProductPriceRepository repository = new RefreshingProductPriceRepository(source, clock, Duration.ZERO);
+        ProductPrice updatedBasePrice = createProductPrice(validAt.minusDays(1), validAt.plusDays(1), 0, "30.50");
+        source.willReturn(new ProductPriceDelta(
+                6,
+                Map.of(basePriceId, updatedBasePrice),
+                List.of(new ProductPriceDelta.Tombstone(promotionId, productId, brandId))
+        ));
+
+        // When
+        List<ProductPrice> changed = repository.refresh();
+
+        // Then
+        assertThat(changed).containsExactlyInAnyOrder(basePrice, updatedBasePrice, promotion);
+        assertThat(repository.getProductPrices(productId, brandId, validAt)).containsExactly(updatedBasePrice);
+    }
+
+    @Test
+    void shouldRecordTheVersionAndTheDeltaSize() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        source.willReturn(new ProductPriceDelta(3, Map.of(basePriceId, basePrice), List.of()));
+        RefreshingProductPriceRepository repository = new RefreshingProductPriceRepository(source, clock, Duration.ZERO);
+        repository.bindTo(meterRegistry);
+        source.willReturn(new ProductPriceDelta(
+                4,
+                Map.of(),
+                List.of(new ProductPriceDelta.Tombstone(basePriceId, productId, brandId))
+        ));
+
+        // When
+        repository.refresh();
+
+        // Then
+        assertThat(meterRegistry.get("product.price.index.version").gauge().value()).isEqualTo(4);
+        assertThat(meterRegistry.get("product.price.index.delta.size").summary().totalAmount()).isEqualTo(1);
+        assertThat(meterRegistry.get("product.price.index.refresh.lag").timeGauge().value()).isZero();
+    }
+
+    @Test
+    void shouldReadAgainTheChangesOfTransactionsThatMayStillCommit() {
+        // Given
+        MutableClock clock = new MutableClock(Instant.parse("2020-06-14T16:00:00Z"));
+        source.willReturn(new ProductPriceDelta(3, Map.of(basePriceId, basePrice), List.of()));
+        RefreshingProductPriceRepository repository = new RefreshingProductPriceRepository(
+                source,
+                clock,
+                Duration.ofMinutes(1)
+        );
+        UUID promotionId = UUID.randomUUID();
+        ProductPrice promotion = createProductPrice(validAt.minusHours(1), validAt.plusHours(1), 1, "25.45");
+        source.willReturn(new ProductPriceDelta(5, Map.of(basePriceId, basePrice, promotionId, promotion), List.of()));
+        clock.advance(Duration.ofSeconds(30));
+        List<ProductPrice> changedBeforeTheLateCommit = repository.refresh();
+        ProductPrice lateCommit = createProductPrice(validAt.minusHours(2), validAt.plusHours(2), 2, "20.15");
+        source.willReturn(new ProductPriceDelta(
+                5,
+                Map.of(promotionId, promotion, UUID.randomUUID(), lateCommit),
+                List.of()
+        ));
+        clock.advance(Duration.ofSeconds(40));
+
+        // When
+        List<ProductPrice> changed = repository.refresh();
+
+        // Then
+        assertThat(changedBeforeTheLateCommit).containsExactly(promotion);
+        assertThat(changed).containsExactly(lateCommit);
+        assertThat(repository.getProductPrice(productId, brandId, validAt)).contains(lateCommit);
+        assertThat(repository.version()).isEqualTo(5);
+        assertThat(repository.settledVersion()).isEqualTo(3);
+        assertThat(source.requestedVersions).containsExactly(0L, 0L, 3L);
+    }
+
+    private ProductPrice createProductPrice(LocalDateTime startDate, LocalDateTime endDate, int priority, String price) {
+        return new ProductPrice(
+                brandId,
+                startDate,
+                endDate,
+                1,
+                productId,
+                priority,
+                new BigDecimal(price),
+                Monetary.getCurrency("EUR")
+        );
+    }
+
+    private static class FakeDeltaSource implements ProductPriceDeltaSource {
+        private final Deque<ProductPriceDelta> deltas = new ArrayDeque<>();
+        private final List<Long> requestedVersions = new ArrayList<>();
+
+        void willReturn(ProductPriceDelta delta) {
+            deltas.add(delta);
+        }
+
+        @Override
+        public ProductPriceDelta changesSince(long version) {
+            requestedVersions.add(version);
+            return deltas.poll();
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
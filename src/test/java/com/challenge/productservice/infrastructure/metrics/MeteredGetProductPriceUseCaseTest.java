@@ -0,0 +1,65 @@
+package com.challenge.productservice.infrastructure.metrics;
+
+import com.challenge.productservice.application.getproductprice.GetProductPriceRequest;
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.PriceSegment;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MeteredGetProductPriceUseCaseTest {
+    private final ProductPriceRepository productPriceRepository = mock(ProductPriceRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MeteredGetProductPriceUseCase useCase = new MeteredGetProductPriceUseCase(productPriceRepository, meterRegistry);
+
+    ProductId productId = new ProductId(2525);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.now();
+    GetProductPriceRequest request = new GetProductPriceRequest(productId, brandId, validAt);
+
+    @Test
+    void shouldTimeLookupsAndCountTheirOutcomes() {
+        // Given
+        ProductPrice productPrice = new ProductPrice(
+                brandId,
+                validAt.minusDays(1),
+                validAt.plusDays(1),
+                1,
+                productId,
+                0,
+                BigDecimal.TEN,
+                Monetary.getCurrency("EUR")
+        );
+        when(productPriceRepository.getProductPriceSegment(productId, brandId, validAt))
+                .thenReturn(Optional.of(new PriceSegment(productPrice.startDate(), productPrice.endDate(), productPrice)))
+                .thenReturn(Optional.empty())
+                .thenThrow(new RuntimeException("Unexpected error"));
+
+        // When
+        useCase.execute(request);
+        useCase.execute(request);
+        assertThatThrownBy(() -> useCase.execute(request)).isInstanceOf(RuntimeException.class);
+
+        // Then
+        assertThat(meterRegistry.get("product.price.lookup").timer().count()).isEqualTo(3);
+        assertThat(outcomeCount("successful")).isEqualTo(1);
+        assertThat(outcomeCount("not_found")).isEqualTo(1);
+        assertThat(outcomeCount("error")).isEqualTo(1);
+    }
+
+    private double outcomeCount(String outcome) {
+        return meterRegistry.get("product.price.lookup.outcomes").tag("outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,180 @@
+package com.challenge.productservice.infrastructure.offheap;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.partition.BrandPartition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.money.Monetary;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapProductPriceCatalogLoaderTest {
+
+    @TempDir
+    Path directory;
+
+    Instant now = Instant.parse("2024-10-04T10:00:00Z");
+    Clock clock = Clock.fixed(now, ZoneOffset.UTC);
+    Duration maxAge = Duration.ofHours(1);
+    LocalDateTime validAt = LocalDateTime.of(2020, 6, 14, 16, 0);
+    ProductPrice productPrice = new ProductPrice(
+            new BrandId(1),
+            validAt.minusDays(1),
+            validAt.plusDays(1),
+            1,
+            new ProductId(35455),
+            0,
+            new BigDecimal("35.50"),
+            Monetary.getCurrency("EUR")
+    );
+    CatalogFingerprint fingerprint = new CatalogFingerprint(1, 3);
+    BrandPartition partition = new BrandPartition(Set.of(new BrandId(1)));
+    AtomicInteger databaseLoads = new AtomicInteger();
+
+    @Test
+    void shouldLoadFromTheDatabaseAndWriteASnapshotWhenThereIsNone() {
+        // Given
+        Path path = directory.resolve("prices.snapshot");
+
+        // When
+        OffHeapProductPriceRepository repository = loader(path, fingerprint).load();
+
+        // Then
+        assertThat(databaseLoads).hasValue(1);
+        assertThat(repository.size()).isEqualTo(1);
+        assertThat(path).exists();
+    }
+
+    @Test
+    void shouldServeFromAFreshSnapshotWithoutLoadingFromTheDatabase() throws IOException {
+        // Given
+        Path path = directory.resolve("prices.snapshot");
+        givenASnapshotCreatedAt(path, now.minus(Duration.ofMinutes(30)));
+
+        // When
+        OffHeapProductPriceRepository repository = loader(path, fingerprint).load();
+
+        // Then
+        assertThat(databaseLoads).hasValue(0);
+        assertThat(repository.getProductPrice(productPrice.productId(), productPrice.brandId(), validAt))
+                .contains(productPrice);
+    }
+
+    @Test
+    void shouldLoadFromTheDatabaseWhenTheSnapshotIsTooOld() throws IOException {
+        // Given
+        Path path = directory.resolve("prices.snapshot");
+        givenASnapshotCreatedAt(path, now.minus(Duration.ofHours(2)));
+
+        // When
+        loader(path, fingerprint).load();
+
+        // Then
+        assertThat(databaseLoads).hasValue(1);
+        assertThat(OffHeapProductPriceSnapshot.read(path).createdAt()).isEqualTo(now);
+    }
+
+    @Test
+    void shouldLoadFromTheDatabaseWhenTheSnapshotHoldsADifferentNumberOfPrices() throws IOException {
+        // Given
+        Path path = directory.resolve("prices.snapshot");
+        givenASnapshotCreatedAt(path, now);
+
+        // When
+        loader(path, new CatalogFingerprint(2, 7)).load();
+
+        // Then
+        assertThat(databaseLoads).hasValue(1);
+    }
+
+    @Test
+    void shouldLoadFromTheDatabaseWhenAPriceChangedSinceTheSnapshot() throws IOException {
+        // Given
+        Path path = directory.resolve("prices.snapshot");
+        givenASnapshotCreatedAt(path, now);
+        CatalogFingerprint updated = new CatalogFingerprint(1, 4);
+
+        // When
+        loader(path, updated).load();
+
+        // Then
+        assertThat(databaseLoads).hasValue(1);
+        assertThat(OffHeapProductPriceSnapshot.read(path).fingerprint()).isEqualTo(updated);
+    }
+
+    @Test
+    void shouldLoadFromTheDatabaseWhenTheSnapshotHoldsTheBrandsOfAnotherPartition() throws IOException {
+        // Given
+        Path path = directory.resolve("prices.snapshot");
+        givenASnapshotCreatedAt(path, now);
+        BrandPartition otherPartition = new BrandPartition(Set.of(new BrandId(1), new BrandId(2)));
+
+        // When
+        loader(path, otherPartition, fingerprint).load();
+
+        // Then
+        assertThat(databaseLoads).hasValue(1);
+        assertThat(OffHeapProductPriceSnapshot.read(path).partition()).isEqualTo(otherPartition);
+    }
+
+    @Test
+    void shouldLoadFromTheDatabaseWhenTheSnapshotIsUnreadable() throws IOException {
+        // Given
+        Path path = directory.resolve("prices.snapshot");
+        Files.write(path, new byte[]{1, 2, 3});
+
+        // When
+        OffHeapProductPriceRepository repository = loader(path, fingerprint).load();
+
+        // Then
+        assertThat(databaseLoads).hasValue(1);
+        assertThat(repository.size()).isEqualTo(1);
+    }
+
+    private void givenASnapshotCreatedAt(Path path, Instant createdAt) throws IOException {
+        OffHeapProductPriceSnapshot.write(
+                OffHeapProductPriceRepository.of(List.of(productPrice)),
+                path,
+                createdAt,
+                fingerprint,
+                partition
+        );
+    }
+
+    private OffHeapProductPriceCatalogLoader loader(Path path, CatalogFingerprint databaseFingerprint) {
+        return loader(path, partition, databaseFingerprint);
+    }
+
+    private OffHeapProductPriceCatalogLoader loader(
+            Path path,
+            BrandPartition partition,
+            CatalogFingerprint databaseFingerprint
+    ) {
+        return new OffHeapProductPriceCatalogLoader(
+                path,
+                partition,
+                maxAge,
+                clock,
+                () -> {
+                    databaseLoads.incrementAndGet();
+                    return OffHeapProductPriceRepository.of(List.of(productPrice));
+                },
+                () -> databaseFingerprint
+        );
+    }
+}
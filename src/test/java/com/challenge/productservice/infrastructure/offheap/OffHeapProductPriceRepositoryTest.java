@@ -0,0 +1,259 @@
+package com.challenge.productservice.infrastructure.offheap;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.PriceSegment;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceLookup;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.ProductPriceTimeline;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OffHeapProductPriceRepositoryTest {
+
+    ProductId productId = new ProductId(35455);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    @Test
+    void shouldGetProductPricesValidAtGivenDate() {
+        // Given
+        ProductPrice productPricePriorityZero = createProductPrice(brandId, productId, validAt.minusDays(1), validAt.plusDays(1), 0);
+        ProductPrice productPricePriorityOne = createProductPrice(brandId, productId, validAt.minusHours(1), validAt.plusHours(1), 1);
+        ProductPriceRepository repository = OffHeapProductPriceRepository.of(
+                List.of(productPricePriorityOne, productPricePriorityZero)
+        );
+
+        // When
+        List<ProductPrice> result = repository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).containsExactly(productPricePriorityZero, productPricePriorityOne);
+    }
+
+    @Test
+    void shouldGetProductPriceWhenValidAtDateIsEqualToStartOrEndDate() {
+        // Given
+        ProductPrice startsAtValidAt = createProductPrice(brandId, productId, validAt, validAt.plusDays(1), 0);
+        ProductPrice endsAtValidAt = createProductPrice(brandId, productId, validAt.minusDays(1), validAt, 1);
+        ProductPriceRepository repository = OffHeapProductPriceRepository.of(List.of(startsAtValidAt, endsAtValidAt));
+
+        // When
+        List<ProductPrice> result = repository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).containsExactly(endsAtValidAt, startsAtValidAt);
+    }
+
+    @Test
+    void shouldSkipPricesThatEndedBeforeValidAtDateWhileScanningLongerOnes() {
+        // Given
+        ProductPrice longPrice = createProductPrice(brandId, productId, validAt.minusDays(10), validAt.plusDays(10), 0);
+        ProductPrice endedPrice = createProductPrice(brandId, productId, validAt.minusDays(5), validAt.minusDays(4), 1);
+        ProductPrice startsLaterPrice = createProductPrice(brandId, productId, validAt.plusDays(1), validAt.plusDays(2), 1);
+        ProductPriceRepository repository = OffHeapProductPriceRepository.of(
+                List.of(startsLaterPrice, endedPrice, longPrice)
+        );
+
+        // When
+        List<ProductPrice> result = repository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).containsExactly(longPrice);
+    }
+
+    @Test
+    void shouldNotGetAProductPriceWithDifferentBrandIdOrProductId() {
+        // Given
+        ProductPrice productPrice = createProductPrice(brandId, productId, validAt.minusDays(1), validAt.plusDays(1), 0);
+        ProductPriceRepository repository = OffHeapProductPriceRepository.of(List.of(
+                productPrice,
+                createProductPrice(new BrandId(0), productId, validAt.plusDays(1), validAt.plusDays(2), 0),
+                createProductPrice(brandId, new ProductId(1), validAt.plusDays(1), validAt.plusDays(2), 0)
+        ));
+
+        // When
+        List<ProductPrice> otherBrand = repository.getProductPrices(productId, new BrandId(2), validAt);
+        List<ProductPrice> otherProduct = repository.getProductPrices(new ProductId(2), brandId, validAt);
+
+        // Then
+        assertThat(otherBrand).isEmpty();
+        assertThat(otherProduct).isEmpty();
+    }
+
+    @Test
+    void shouldGetTheProductPriceWithHighestPrecedenceValidAtGivenDate() {
+        // Given
+        ProductPrice productPricePriorityZero = createProductPrice(brandId, productId, validAt.minusDays(1), validAt.plusDays(1), 0);
+        ProductPrice productPricePriorityOne = createProductPrice(brandId, productId, validAt.minusHours(2), validAt.plusHours(1), 1);
+        ProductPrice newerProductPricePriorityOne = createProductPrice(brandId, productId, validAt.minusHours(1), validAt.plusHours(1), 1);
+        ProductPriceRepository repository = OffHeapProductPriceRepository.of(
+                List.of(newerProductPricePriorityOne, productPricePriorityOne, productPricePriorityZero)
+        );
+
+        // When
+        List<Optional<ProductPrice>> result = repository.getProductPrices(List.of(
+                new ProductPriceLookup(productId, brandId, validAt),
+                new ProductPriceLookup(productId, brandId, validAt.plusHours(2)),
+                new ProductPriceLookup(new ProductId(1), brandId, validAt)
+        ));
+
+        // Then
+        assertThat(result).containsExactly(
+                Optional.of(newerProductPricePriorityOne),
+                Optional.of(productPricePriorityZero),
+                Optional.empty()
+        );
+    }
+
+    @Test
+    void shouldBreakPrecedenceTiesWithTheRemainingColumnsLikeTheDomain() {
+        // Given
+        ProductPrice productPrice = createProductPrice(brandId, productId, validAt.minusDays(1), validAt.plusDays(1), 1);
+        ProductPrice higherProductPrice = new ProductPrice(
+                brandId,
+                validAt.minusDays(1),
+                validAt.plusDays(1),
+                1,
+                productId,
+                1,
+                new BigDecimal("19.99"),
+                Monetary.getCurrency("EUR")
+        );
+        ProductPrice longerProductPrice = createProductPrice(brandId, productId, validAt.minusDays(1), validAt.plusDays(2), 1);
+
+        // When
+        Optional<ProductPrice> amountTie = OffHeapProductPriceRepository.of(List.of(higherProductPrice, productPrice))
+                .getProductPrice(productId, brandId, validAt);
+        Optional<ProductPrice> endTie = OffHeapProductPriceRepository.of(List.of(productPrice, longerProductPrice, higherProductPrice))
+                .getProductPrice(productId, brandId, validAt);
+
+        // Then
+        assertThat(amountTie).contains(higherProductPrice);
+        assertThat(endTie).contains(longerProductPrice);
+    }
+
+    @Test
+    void shouldGetTheTimelineOfAProductAndBrand() {
+        // Given
+        ProductPrice productPrice = createProductPrice(brandId, productId, validAt.minusDays(1), validAt.plusDays(1), 0);
+        ProductPriceRepository repository = OffHeapProductPriceRepository.of(List.of(productPrice));
+
+        // When
+        List<PriceSegment> segments = repository.getProductPriceTimeline(productId, brandId).segments();
+        List<PriceSegment> unknownSegments = repository.getProductPriceTimeline(new ProductId(1), brandId).segments();
+
+        // Then
+        assertThat(segments).containsExactly(
+                new PriceSegment(validAt.minusDays(1), validAt.plusDays(1).plusNanos(1), productPrice)
+        );
+        assertThat(unknownSegments).isEmpty();
+    }
+
+    @Test
+    void shouldGetTheSameSegmentAsTheTimeline() {
+        // Given
+        ProductPriceRepository repository = OffHeapProductPriceRepository.of(List.of(
+                createProductPrice(brandId, productId, validAt.minusDays(10), validAt.plusDays(10), 0),
+                createProductPrice(brandId, productId, validAt.minusHours(2), validAt.plusHours(1), 1),
+                createProductPrice(brandId, productId, validAt.plusMinutes(30), validAt.plusHours(3), 1),
+                createProductPrice(brandId, productId, validAt.plusHours(4), validAt.plusHours(5), -1),
+                createProductPrice(brandId, productId, validAt.plusHours(6), validAt.plusHours(7), 2),
+                createProductPrice(brandId, productId, validAt.plusDays(11), validAt.plusDays(12), 0)
+        ));
+        ProductPriceTimeline timeline = repository.getProductPriceTimeline(productId, brandId);
+        List<LocalDateTime> dates = IntStream.range(-12 * 4, 12 * 4)
+                .mapToObj(quarter -> validAt.plusMinutes(15L * quarter))
+                .collect(Collectors.toCollection(ArrayList::new));
+        dates.addAll(List.of(validAt.minusDays(11), validAt.plusDays(10), validAt.plusDays(10).plusSeconds(1), validAt.plusDays(11)));
+
+        for (LocalDateTime date : dates) {
+            // When
+            Optional<PriceSegment> segment = repository.getProductPriceSegment(productId, brandId, date);
+
+            // Then
+            Optional<PriceSegment> expected = timeline.segmentAt(date);
+            assertThat(segment.map(PriceSegment::productPrice)).as("price at %s", date)
+                    .isEqualTo(expected.map(PriceSegment::productPrice));
+            assertThat(segment.map(PriceSegment::until)).as("until at %s", date)
+                    .isEqualTo(expected.map(PriceSegment::until));
+            assertThat(segment.map(PriceSegment::from)).as("from at %s", date)
+                    .isEqualTo(expected.map(ignored -> date));
+        }
+    }
+
+    @Test
+    void shouldServeCatalogsSpanningSeveralOffHeapChunks() {
+        // Given
+        List<ProductPrice> productPrices = IntStream.range(0, 50)
+                .mapToObj(i -> createProductPrice(brandId, new ProductId(i / 5), validAt.plusDays(i % 5), validAt.plusDays(i % 5 + 1), 0))
+                .toList();
+        OffHeapProductPriceRepository.Builder builder = OffHeapProductPriceRepository.builder(4);
+        productPrices.forEach(builder::add);
+        OffHeapProductPriceRepository repository = builder.build();
+
+        // When
+        List<ProductPrice> result = repository.getProductPrices(new ProductId(7), brandId, validAt.plusDays(3));
+
+        // Then
+        assertThat(repository.size()).isEqualTo(50);
+        assertThat(result).containsExactly(productPrices.get(37), productPrices.get(38));
+    }
+
+    @Test
+    void shouldSizeTheChunksOfASmallCatalogToTheCatalog() {
+        // Given
+        List<ProductPrice> productPrices = IntStream.range(0, 10)
+                .mapToObj(i -> createProductPrice(brandId, new ProductId(i), validAt, validAt.plusDays(1), 0))
+                .toList();
+
+        // When
+        OffHeapProductPriceRepository repository = OffHeapProductPriceRepository.of(productPrices);
+
+        // Then
+        assertThat(repository.offHeapBytes())
+                .isEqualTo((long) OffHeapColumn.MIN_CHUNK_VALUES * IntStream.of(OffHeapProductPriceRepository.COLUMN_WIDTHS).sum());
+    }
+
+    @Test
+    void shouldRejectPricesAddedOutOfOrder() {
+        // Given
+        OffHeapProductPriceRepository.Builder builder = OffHeapProductPriceRepository.builder()
+                .add(createProductPrice(brandId, new ProductId(2), validAt, validAt.plusDays(1), 0));
+
+        // Then
+        assertThatThrownBy(() -> builder.add(createProductPrice(brandId, new ProductId(1), validAt, validAt.plusDays(1), 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ProductPrice createProductPrice(
+            BrandId brandId,
+            ProductId productId,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            int priority
+    ) {
+        return new ProductPrice(
+                brandId,
+                startDate,
+                endDate,
+                1,
+                productId,
+                priority,
+                new BigDecimal("9.99"),
+                Monetary.getCurrency("EUR")
+        );
+    }
+}
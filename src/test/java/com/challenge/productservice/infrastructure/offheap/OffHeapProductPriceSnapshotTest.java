@@ -0,0 +1,107 @@
+package com.challenge.productservice.infrastructure.offheap;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.offheap.OffHeapProductPriceSnapshot.Snapshot;
+import com.challenge.productservice.infrastructure.partition.BrandPartition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.money.Monetary;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OffHeapProductPriceSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    LocalDateTime validAt = LocalDateTime.of(2020, 6, 14, 16, 0);
+    Instant createdAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    CatalogFingerprint fingerprint = new CatalogFingerprint(100, 5050);
+    BrandPartition partition = new BrandPartition(Set.of(new BrandId(2), new BrandId(1)));
+    List<ProductPrice> catalog = IntStream.range(0, 20)
+            .mapToObj(i -> new ProductPrice(
+                    new BrandId(1 + i % 2),
+                    validAt.minusDays(i % 3),
+                    validAt.plusDays(i % 4),
+                    i % 5,
+                    new ProductId(i / 4),
+                    i % 2,
+                    new BigDecimal("9.99").add(BigDecimal.valueOf(i)),
+                    Monetary.getCurrency(i % 2 == 0 ? "EUR" : "USD")
+            ))
+            .toList();
+
+    @Test
+    void shouldServeTheSamePricesFromTheSnapshotFile() throws IOException {
+        // Given
+        OffHeapProductPriceRepository repository = OffHeapProductPriceRepository.of(catalog);
+        Path path = directory.resolve("prices.snapshot");
+
+        // When
+        OffHeapProductPriceSnapshot.write(repository, path, createdAt, fingerprint, partition);
+        Snapshot snapshot = OffHeapProductPriceSnapshot.read(path);
+
+        // Then
+        assertThat(snapshot.createdAt()).isEqualTo(createdAt);
+        assertThat(snapshot.fingerprint()).isEqualTo(fingerprint);
+        assertThat(snapshot.partition()).isEqualTo(partition);
+        assertThat(snapshot.repository().size()).isEqualTo(catalog.size());
+        for (ProductPrice productPrice : catalog) {
+            assertThat(snapshot.repository().getProductPrices(productPrice.productId(), productPrice.brandId(), validAt))
+                    .isEqualTo(repository.getProductPrices(productPrice.productId(), productPrice.brandId(), validAt));
+            assertThat(snapshot.repository().getProductPriceTimeline(productPrice.productId(), productPrice.brandId()).segments())
+                    .isEqualTo(repository.getProductPriceTimeline(productPrice.productId(), productPrice.brandId()).segments());
+        }
+    }
+
+    @Test
+    void shouldRejectASnapshotWhoseValuesDoNotMatchTheChecksum() throws IOException {
+        // Given
+        Path path = directory.resolve("prices.snapshot");
+        OffHeapProductPriceSnapshot.write(
+                OffHeapProductPriceRepository.of(catalog),
+                path,
+                createdAt,
+                fingerprint,
+                partition
+        );
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{42}), channel.size() - 1);
+        }
+
+        // Then
+        assertThatThrownBy(() -> OffHeapProductPriceSnapshot.read(path))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("checksum");
+    }
+
+    @Test
+    void shouldRejectAFileThatIsNotASnapshot() throws IOException {
+        // Given
+        Path path = directory.resolve("prices.snapshot");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[64]));
+        }
+
+        // Then
+        assertThatThrownBy(() -> OffHeapProductPriceSnapshot.read(path))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Not a price snapshot");
+    }
+}
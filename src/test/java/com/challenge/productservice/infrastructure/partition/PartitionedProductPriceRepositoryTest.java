@@ -0,0 +1,104 @@
+package com.challenge.productservice.infrastructure.partition;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceKey;
+import com.challenge.productservice.domain.productprice.ProductPriceLookup;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.ProductPriceTimeline;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class PartitionedProductPriceRepositoryTest {
+    private final ProductPriceRepository delegate = mock(ProductPriceRepository.class);
+
+    ProductId productId = new ProductId(35455);
+    BrandId ownedBrandId = new BrandId(1);
+    BrandId foreignBrandId = new BrandId(2);
+    LocalDateTime validAt = LocalDateTime.of(2020, 6, 14, 16, 0, 12);
+    ProductPrice productPrice = new ProductPrice(
+            ownedBrandId,
+            validAt.minusDays(1),
+            validAt.plusDays(1),
+            1,
+            productId,
+            0,
+            new BigDecimal("9.99"),
+            Monetary.getCurrency("EUR")
+    );
+    PartitionedProductPriceRepository repository = new PartitionedProductPriceRepository(
+            delegate,
+            new BrandPartition(Set.of(ownedBrandId))
+    );
+
+    @Test
+    void shouldServeTheBrandsOfThePartition() {
+        // Given
+        ProductPriceTimeline timeline = ProductPriceTimeline.of(List.of(productPrice));
+        when(delegate.getProductPriceTimeline(productId, ownedBrandId)).thenReturn(timeline);
+
+        // When
+        ProductPriceTimeline result = repository.getProductPriceTimeline(productId, ownedBrandId);
+
+        // Then
+        assertThat(result).isSameAs(timeline);
+    }
+
+    @Test
+    void shouldNotLookUpBrandsOutsideThePartition() {
+        // When
+        Optional<ProductPrice> price = repository.getProductPrice(productId, foreignBrandId, validAt);
+        ProductPriceTimeline timeline = repository.getProductPriceTimeline(productId, foreignBrandId);
+
+        // Then
+        assertThat(price).isEmpty();
+        assertThat(timeline.segments()).isEmpty();
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void shouldSendOnlyTheLookupsOfTheBrandsOfThePartitionInABatch() {
+        // Given
+        ProductPriceLookup ownedLookup = new ProductPriceLookup(productId, ownedBrandId, validAt);
+        ProductPriceLookup foreignLookup = new ProductPriceLookup(productId, foreignBrandId, validAt);
+        when(delegate.getProductPrices(List.of(ownedLookup))).thenReturn(List.of(Optional.of(productPrice)));
+
+        // When
+        List<Optional<ProductPrice>> result = repository.getProductPrices(List.of(foreignLookup, ownedLookup));
+
+        // Then
+        assertThat(result).containsExactly(Optional.empty(), Optional.of(productPrice));
+        verify(delegate).getProductPrices(List.of(ownedLookup));
+    }
+
+    @Test
+    void shouldKeepTheOrderOfTimelinesWhenSomeBrandsAreOutsideThePartition() {
+        // Given
+        ProductPriceKey ownedKey = new ProductPriceKey(productId, ownedBrandId);
+        ProductPriceKey foreignKey = new ProductPriceKey(productId, foreignBrandId);
+        ProductPriceTimeline timeline = ProductPriceTimeline.of(List.of(productPrice));
+        when(delegate.getProductPriceTimelines(List.of(ownedKey))).thenReturn(List.of(timeline));
+
+        // When
+        List<ProductPriceTimeline> result = repository.getProductPriceTimelines(List.of(foreignKey, ownedKey, foreignKey));
+
+        // Then
+        assertThat(result).hasSize(3);
+        assertThat(result.get(0).segments()).isEmpty();
+        assertThat(result.get(1)).isSameAs(timeline);
+        assertThat(result.get(2).segments()).isEmpty();
+    }
+}
@@ -0,0 +1,159 @@
+package com.challenge.productservice.infrastructure.repository;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceLookup;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class BloomFilterProductPriceRepositoryTest {
+    private final ProductPriceRepository delegate = mock(ProductPriceRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    ProductId productId = new ProductId(35455);
+    BrandId brandId = new BrandId(1);
+    ProductId unknownProductId = new ProductId(1);
+    LocalDateTime validAt = LocalDateTime.of(2020, 6, 14, 16, 0);
+    ProductPrice productPrice = new ProductPrice(
+            brandId,
+            validAt.minusDays(1),
+            validAt.plusDays(1),
+            1,
+            productId,
+            0,
+            new BigDecimal("35.50"),
+            Monetary.getCurrency("EUR")
+    );
+
+    @Test
+    void shouldAnswerUnknownProductsWithoutTheRepository() {
+        // Given
+        BloomFilterProductPriceRepository repository = givenRepositoryKnowing(productId);
+
+        // When
+        Optional<ProductPrice> result = repository.getProductPrice(unknownProductId, brandId, validAt);
+
+        // Then
+        assertThat(result).isEmpty();
+        assertThat(meterRegistry.get("product.price.filter.short.circuits").counter().count()).isEqualTo(1);
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void shouldSendLookupsOfKnownProductsToTheRepository() {
+        // Given
+        BloomFilterProductPriceRepository repository = givenRepositoryKnowing(productId);
+        when(delegate.getProductPrice(productId, brandId, validAt)).thenReturn(Optional.of(productPrice));
+
+        // When
+        Optional<ProductPrice> result = repository.getProductPrice(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).contains(productPrice);
+        assertThat(meterRegistry.get("product.price.filter.short.circuits").counter().count()).isZero();
+    }
+
+    @Test
+    void shouldSendOnlyTheKnownLookupsOfABatchToTheRepository() {
+        // Given
+        BloomFilterProductPriceRepository repository = givenRepositoryKnowing(productId);
+        ProductPriceLookup known = new ProductPriceLookup(productId, brandId, validAt);
+        ProductPriceLookup unknown = new ProductPriceLookup(unknownProductId, brandId, validAt);
+        when(delegate.getProductPrices(List.of(known))).thenReturn(List.of(Optional.of(productPrice)));
+
+        // When
+        List<Optional<ProductPrice>> result = repository.getProductPrices(List.of(unknown, known, unknown));
+
+        // Then
+        assertThat(result).containsExactly(Optional.empty(), Optional.of(productPrice), Optional.empty());
+        verify(delegate).getProductPrices(List.of(known));
+    }
+
+    @Test
+    void shouldLearnProductsFromChangedPrices() {
+        // Given
+        BloomFilterProductPriceRepository repository = givenRepositoryKnowing();
+        when(delegate.getProductPrice(productId, brandId, validAt)).thenReturn(Optional.of(productPrice));
+
+        // When
+        repository.productPricesChanged(List.of(productPrice));
+
+        // Then
+        assertThat(repository.getProductPrice(productId, brandId, validAt)).contains(productPrice);
+    }
+
+    @Test
+    void shouldKeepFalsePositivesNearTheConfiguredProbability() {
+        // Given
+        BloomFilterProductPriceRepository repository = givenRepositoryKnowing(
+                LongStream.range(0, 10_000).mapToObj(ProductId::new).toArray(ProductId[]::new)
+        );
+
+        // When
+        LongStream.range(1_000_000, 1_010_000)
+                .forEach(id -> repository.getProductPrice(new ProductId(id), brandId, validAt));
+
+        // Then
+        double shortCircuits = meterRegistry.get("product.price.filter.short.circuits").counter().count();
+        assertThat(10_000 - shortCircuits).isLessThan(300);
+        assertThat(repository.expectedFalsePositiveProbability()).isBetween(0.001, 0.03);
+        assertThat(meterRegistry.get("product.price.filter.false.positive.probability").gauge().value())
+                .isEqualTo(repository.expectedFalsePositiveProbability());
+    }
+
+    @Test
+    void shouldLeaveRoomForTheProductsLearnedAfterStartingFromAnEmptyCatalog() {
+        // Given
+        BloomFilterProductPriceRepository repository = givenRepositoryKnowing();
+
+        // When
+        repository.productPricesChanged(LongStream.range(0, 500)
+                .mapToObj(id -> new ProductPrice(
+                        brandId,
+                        validAt.minusDays(1),
+                        validAt.plusDays(1),
+                        1,
+                        new ProductId(id),
+                        0,
+                        new BigDecimal("35.50"),
+                        Monetary.getCurrency("EUR")
+                ))
+                .toList());
+        LongStream.range(1_000_000, 1_001_000)
+                .forEach(id -> repository.getProductPrice(new ProductId(id), brandId, validAt));
+
+        // Then
+        assertThat(repository.expectedFalsePositiveProbability()).isLessThan(0.01);
+        assertThat(meterRegistry.get("product.price.filter.short.circuits").counter().count()).isGreaterThan(980);
+    }
+
+    private BloomFilterProductPriceRepository givenRepositoryKnowing(ProductId... productIds) {
+        BloomFilterProductPriceRepository repository = new BloomFilterProductPriceRepository(
+                delegate,
+                pairs -> {
+                    for (ProductId knownProductId : productIds) {
+                        pairs.accept(knownProductId, brandId);
+                    }
+                },
+                productIds.length,
+                0.01
+        );
+        repository.bindTo(meterRegistry);
+        return repository;
+    }
+}
@@ -0,0 +1,100 @@
+package com.challenge.productservice.infrastructure.repository;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.ProductPriceTimeline;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingProductPriceRepositoryTest {
+    private final ProductPriceRepository delegate = mock(ProductPriceRepository.class);
+    private final CachingProductPriceRepository repository = new CachingProductPriceRepository(delegate, 100);
+
+    ProductId productId = new ProductId(35455);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.of(2020, 6, 14, 16, 0, 12);
+    ProductPrice basePrice = createProductPrice(validAt.minusDays(1), validAt.plusDays(1), 0);
+    ProductPrice overridePrice = createProductPrice(validAt.minusHours(1), validAt.plusHours(1), 1);
+
+    @Test
+    void shouldServeAnyDateInsideAKnownSegmentFromTheCache() {
+        // Given
+        givenExistingPrices(basePrice, overridePrice);
+
+        // When
+        Optional<ProductPrice> first = repository.getProductPrice(productId, brandId, validAt);
+        Optional<ProductPrice> sameSegment = repository.getProductPrice(productId, brandId, validAt.plusMinutes(30));
+        Optional<ProductPrice> otherSegment = repository.getProductPrice(productId, brandId, validAt.plusHours(3));
+
+        // Then
+        assertThat(first).contains(overridePrice);
+        assertThat(sameSegment).contains(overridePrice);
+        assertThat(otherSegment).contains(basePrice);
+        assertThat(repository.stats().missCount()).isEqualTo(1);
+        assertThat(repository.stats().hitCount()).isEqualTo(2);
+        verify(delegate, times(1)).getProductPriceTimeline(productId, brandId);
+    }
+
+    @Test
+    void shouldCacheProductsWithoutPrices() {
+        // Given
+        givenExistingPrices();
+
+        // When
+        Optional<ProductPrice> first = repository.getProductPrice(productId, brandId, validAt);
+        Optional<ProductPrice> second = repository.getProductPrice(productId, brandId, validAt.plusDays(10));
+
+        // Then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        verify(delegate, times(1)).getProductPriceTimeline(productId, brandId);
+    }
+
+    @Test
+    void shouldReloadTheSegmentsOfAnInvalidatedProduct() {
+        // Given
+        givenExistingPrices(basePrice);
+        repository.getProductPrice(productId, brandId, validAt);
+        givenExistingPrices(basePrice, overridePrice);
+
+        // When
+        repository.invalidate(productId, brandId);
+        Optional<ProductPrice> result = repository.getProductPrice(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).contains(overridePrice);
+        assertThat(repository.stats().missCount()).isEqualTo(2);
+        verify(delegate, times(2)).getProductPriceTimeline(productId, brandId);
+    }
+
+    private void givenExistingPrices(ProductPrice... productPrices) {
+        when(delegate.getProductPriceTimeline(productId, brandId))
+                .thenReturn(ProductPriceTimeline.of(List.of(productPrices)));
+    }
+
+    private ProductPrice createProductPrice(LocalDateTime startDate, LocalDateTime endDate, int priority) {
+        return new ProductPrice(
+                brandId,
+                startDate,
+                endDate,
+                1,
+                productId,
+                priority,
+                new BigDecimal("9.99"),
+                Monetary.getCurrency("EUR")
+        );
+    }
+}
@@ -0,0 +1,163 @@
+package com.challenge.productservice.infrastructure.repository;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.PriceSegment;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceKey;
+import com.challenge.productservice.domain.productprice.ProductPriceLookup;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.ProductPriceTimeline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MicroBatchingProductPriceRepositoryTest {
+    private final ProductPriceRepository delegate = mock(ProductPriceRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newFixedThreadPool(3);
+
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.of(2020, 6, 14, 16, 0, 12);
+    ProductPrice firstPrice = createProductPrice(new ProductId(35455));
+    ProductPrice secondPrice = createProductPrice(new ProductId(35456));
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void shouldResolveConcurrentLookupsWithASingleBatch() throws Exception {
+        // Given
+        MicroBatchingProductPriceRepository repository = repository(Duration.ofSeconds(5), 2);
+        ProductPriceLookup firstLookup = new ProductPriceLookup(firstPrice.productId(), brandId, validAt);
+        ProductPriceLookup secondLookup = new ProductPriceLookup(secondPrice.productId(), brandId, validAt);
+        when(delegate.getProductPrices(anyList())).thenAnswer(invocation -> {
+            List<ProductPriceLookup> lookups = invocation.getArgument(0);
+            return lookups.stream()
+                    .map(lookup -> lookup.equals(firstLookup) ? Optional.of(firstPrice) : Optional.of(secondPrice))
+                    .toList();
+        });
+
+        // When
+        Future<Optional<ProductPrice>> first = callers.submit(() -> repository.getProductPrice(firstPrice.productId(), brandId, validAt));
+        Future<Optional<ProductPrice>> second = callers.submit(() -> repository.getProductPrice(secondPrice.productId(), brandId, validAt));
+
+        // Then
+        assertThat(first.get()).contains(firstPrice);
+        assertThat(second.get()).contains(secondPrice);
+        verify(delegate, times(1)).getProductPrices(anyList());
+        assertThat(meterRegistry.get("product.price.lookups.batch.size").summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldBatchTheWinnerOfASegmentLookupAndBoundOnlyItsSegment() {
+        // Given
+        MicroBatchingProductPriceRepository repository = repository(Duration.ofMillis(1), 100);
+        ProductPriceLookup lookup = new ProductPriceLookup(firstPrice.productId(), brandId, validAt);
+        PriceSegment segment = new PriceSegment(validAt, validAt.plusHours(2), firstPrice);
+        when(delegate.getProductPrices(List.of(lookup))).thenReturn(List.of(Optional.of(firstPrice)));
+        when(delegate.getProductPriceSegment(firstPrice, validAt)).thenReturn(segment);
+
+        // When
+        Optional<PriceSegment> result = repository.getProductPriceSegment(firstPrice.productId(), brandId, validAt);
+
+        // Then
+        assertThat(result).contains(segment);
+        verify(delegate, never()).getProductPriceTimelines(anyList());
+        verify(delegate, never()).getProductPriceSegment(firstPrice.productId(), brandId, validAt);
+    }
+
+    @Test
+    void shouldSendALoneLookupOnceTheWindowPasses() {
+        // Given
+        MicroBatchingProductPriceRepository repository = repository(Duration.ofMillis(1), 100);
+        ProductPriceKey key = new ProductPriceKey(firstPrice.productId(), brandId);
+        ProductPriceTimeline timeline = ProductPriceTimeline.of(List.of(firstPrice));
+        when(delegate.getProductPriceTimelines(List.of(key))).thenReturn(List.of(timeline));
+
+        // When
+        ProductPriceTimeline result = repository.getProductPriceTimeline(firstPrice.productId(), brandId);
+
+        // Then
+        assertThat(result).isSameAs(timeline);
+        assertThat(meterRegistry.get("product.price.lookups.batch.size").summary().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSplitLookupsIntoBatchesOfTheMaximumSize() throws Exception {
+        // Given
+        MicroBatchingProductPriceRepository repository = repository(Duration.ofMillis(50), 1);
+        when(delegate.getProductPriceTimelines(anyList())).thenAnswer(invocation -> {
+            List<ProductPriceKey> keys = invocation.getArgument(0);
+            return keys.stream().map(key -> ProductPriceTimeline.empty()).toList();
+        });
+
+        // When
+        Future<ProductPriceTimeline> first = callers.submit(() -> repository.getProductPriceTimeline(firstPrice.productId(), brandId));
+        Future<ProductPriceTimeline> second = callers.submit(() -> repository.getProductPriceTimeline(secondPrice.productId(), brandId));
+        first.get();
+        second.get();
+
+        // Then
+        verify(delegate, times(2)).getProductPriceTimelines(anyList());
+        assertThat(meterRegistry.get("product.price.lookups.batch.size").summary().max()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFailEveryLookupOfAFailedBatch() {
+        // Given
+        MicroBatchingProductPriceRepository repository = repository(Duration.ofSeconds(5), 2);
+        IllegalStateException failure = new IllegalStateException("Database unavailable");
+        when(delegate.getProductPrices(anyList())).thenThrow(failure);
+
+        // When
+        Future<Optional<ProductPrice>> first = callers.submit(() -> repository.getProductPrice(firstPrice.productId(), brandId, validAt));
+        Future<Optional<ProductPrice>> second = callers.submit(() -> repository.getProductPrice(secondPrice.productId(), brandId, validAt));
+
+        // Then
+        assertThatThrownBy(first::get).isInstanceOf(ExecutionException.class).hasCause(failure);
+        assertThatThrownBy(second::get).isInstanceOf(ExecutionException.class).hasCause(failure);
+        verify(delegate, times(1)).getProductPrices(anyList());
+    }
+
+    private MicroBatchingProductPriceRepository repository(Duration window, int maxBatchSize) {
+        MicroBatchingProductPriceRepository repository = new MicroBatchingProductPriceRepository(delegate, window, maxBatchSize);
+        repository.bindTo(meterRegistry);
+        return repository;
+    }
+
+    private ProductPrice createProductPrice(ProductId productId) {
+        return new ProductPrice(
+                brandId,
+                validAt.minusDays(1),
+                validAt.plusDays(1),
+                1,
+                productId,
+                0,
+                new BigDecimal("9.99"),
+                Monetary.getCurrency("EUR")
+        );
+    }
+}
@@ -0,0 +1,150 @@
+package com.challenge.productservice.infrastructure.repository;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SingleFlightProductPriceRepositoryTest {
+    private final ProductPriceRepository delegate = mock(ProductPriceRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlightProductPriceRepository repository = new SingleFlightProductPriceRepository(delegate);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ExecutorService callers;
+
+    ProductId productId = new ProductId(35455);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.of(2020, 6, 14, 16, 0, 12);
+    ProductPrice productPrice = new ProductPrice(
+            brandId,
+            validAt.minusDays(1),
+            validAt.plusDays(1),
+            1,
+            productId,
+            0,
+            new BigDecimal("9.99"),
+            Monetary.getCurrency("EUR")
+    );
+
+    @BeforeEach
+    void setUp() {
+        repository.bindTo(meterRegistry);
+        callers = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void shouldShareTheResultOfALookupInFlightWithIdenticalLookups() throws Exception {
+        // Given
+        when(delegate.getProductPrice(productId, brandId, validAt)).thenAnswer(invocation -> {
+            release.await();
+            return Optional.of(productPrice);
+        });
+
+        // When
+        Future<Optional<ProductPrice>> first = lookUpInBackground();
+        Future<Optional<ProductPrice>> second = lookUpInBackground();
+        awaitCoalescedLookups(1);
+        release.countDown();
+
+        // Then
+        assertThat(first.get()).contains(productPrice);
+        assertThat(second.get()).contains(productPrice);
+        verify(delegate, times(1)).getProductPrice(productId, brandId, validAt);
+    }
+
+    @Test
+    void shouldPropagateTheFailureOfALookupInFlightToEveryIdenticalLookup() {
+        // Given
+        IllegalStateException failure = new IllegalStateException("Database unavailable");
+        when(delegate.getProductPrice(productId, brandId, validAt)).thenAnswer(invocation -> {
+            release.await();
+            throw failure;
+        });
+
+        // When
+        Future<Optional<ProductPrice>> first = lookUpInBackground();
+        Future<Optional<ProductPrice>> second = lookUpInBackground();
+        awaitCoalescedLookups(1);
+        release.countDown();
+
+        // Then
+        assertThatThrownBy(first::get).isInstanceOf(ExecutionException.class).hasCause(failure);
+        assertThatThrownBy(second::get).isInstanceOf(ExecutionException.class).hasCause(failure);
+        verify(delegate, times(1)).getProductPrice(productId, brandId, validAt);
+    }
+
+    @Test
+    void shouldNotShareResultsOnceTheLookupCompletes() {
+        // Given
+        when(delegate.getProductPrice(productId, brandId, validAt)).thenReturn(Optional.of(productPrice));
+
+        // When
+        repository.getProductPrice(productId, brandId, validAt);
+        Optional<ProductPrice> result = repository.getProductPrice(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).contains(productPrice);
+        assertThat(meterRegistry.get("product.price.lookups.coalesced").counter().count()).isZero();
+        verify(delegate, times(2)).getProductPrice(productId, brandId, validAt);
+    }
+
+    @Test
+    void shouldNotCoalesceLookupsOfDifferentDates() {
+        // Given
+        LocalDateTime otherDate = validAt.plusHours(1);
+        when(delegate.getProductPrice(productId, brandId, validAt)).thenAnswer(invocation -> {
+            release.await();
+            return Optional.of(productPrice);
+        });
+        when(delegate.getProductPrice(productId, brandId, otherDate)).thenReturn(Optional.empty());
+
+        // When
+        Future<Optional<ProductPrice>> inFlight = lookUpInBackground();
+        Optional<ProductPrice> result = repository.getProductPrice(productId, brandId, otherDate);
+        release.countDown();
+
+        // Then
+        assertThat(result).isEmpty();
+        assertThat(inFlight).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(Optional.of(productPrice));
+        assertThat(meterRegistry.get("product.price.lookups.coalesced").counter().count()).isZero();
+    }
+
+    private Future<Optional<ProductPrice>> lookUpInBackground() {
+        return callers.submit(() -> repository.getProductPrice(productId, brandId, validAt));
+    }
+
+    private void awaitCoalescedLookups(int expected) {
+        await().atMost(Duration.ofSeconds(5)).until(
+                () -> meterRegistry.get("product.price.lookups.coalesced").counter().count() == expected
+        );
+    }
+}